@@ -0,0 +1,61 @@
+package backend.academy;
+
+import backend.academy.constants.enums.GeneratorType;
+import backend.academy.constants.enums.SolverType;
+import backend.academy.generators.Generator;
+import backend.academy.generators.impl.EllerMazeGenerator;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.generators.impl.ParallelMazeGenerator;
+import backend.academy.generators.impl.PrimMazeGenerator;
+import backend.academy.solvers.Solver;
+import backend.academy.solvers.impl.AStarSolverImpl;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.solvers.impl.BidirectionalBFSSolverImpl;
+import backend.academy.solvers.impl.BidirectionalDijkstraSolverImpl;
+import backend.academy.solvers.impl.DialSolverImpl;
+import backend.academy.solvers.impl.DijkstraSolverImpl;
+import backend.academy.solvers.impl.JunctionGraphSolverImpl;
+import backend.academy.solvers.impl.TreeIndexSolverImpl;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Создание генераторов и решателей по типам, выбранным в интерактивном режиме или в командной строке.
+ */
+@UtilityClass
+public class Algorithms {
+
+    /**
+     * Создаёт генератор лабиринта.
+     *
+     * @param type алгоритм генерации
+     * @return новый генератор
+     */
+    public static Generator generator(GeneratorType type) {
+        return switch (type) {
+            case PRIM -> new PrimMazeGenerator();
+            case KRUSKAL -> new KruskalMazeGenerator();
+            case PARALLEL -> new ParallelMazeGenerator();
+            case ELLER -> new EllerMazeGenerator();
+        };
+    }
+
+    /**
+     * Создаёт решатель. Решатели с состоянием между запросами, например {@link TreeIndexSolverImpl},
+     * переиспользуют его, пока им передаётся тот же лабиринт.
+     *
+     * @param type алгоритм поиска пути
+     * @return новый решатель
+     */
+    public static Solver solver(SolverType type) {
+        return switch (type) {
+            case BFS -> new BFSSolverImpl();
+            case Dijkstra -> new DijkstraSolverImpl();
+            case DIAL -> new DialSolverImpl();
+            case ASTAR -> new AStarSolverImpl();
+            case BIDIRECTIONAL_BFS -> new BidirectionalBFSSolverImpl();
+            case BIDIRECTIONAL_DIJKSTRA -> new BidirectionalDijkstraSolverImpl();
+            case JUNCTION_GRAPH -> new JunctionGraphSolverImpl();
+            case TREE_INDEX -> new TreeIndexSolverImpl();
+        };
+    }
+}
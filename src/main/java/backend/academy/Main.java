@@ -1,10 +1,14 @@
 package backend.academy;
 
+import backend.academy.cli.MazeCli;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class Main {
     public static void main(String[] args) {
+        if (args.length > 0) {
+            System.exit(new MazeCli(System.out, System.err).run(args));
+        }
         MazeApp app = new MazeApp();
         app.start();
     }
@@ -1,37 +1,46 @@
 package backend.academy;
 
-import backend.academy.constants.enums.GeneratorType;
-import backend.academy.constants.enums.SolverType;
 import backend.academy.controller.UserController;
 import backend.academy.controller.impl.UserControllerImpl;
 import backend.academy.dto.Maze;
 import backend.academy.dto.Parameters;
 import backend.academy.generators.Generator;
-import backend.academy.generators.impl.KruskalMazeGenerator;
-import backend.academy.generators.impl.PrimMazeGenerator;
 import backend.academy.solvers.Solver;
-import backend.academy.solvers.impl.BFSSolverImpl;
-import backend.academy.solvers.impl.DijkstraSolverImpl;
 import backend.academy.userinterface.UserInterface;
 import backend.academy.userinterface.impl.UserInterfaceImpl;
+import java.io.InputStream;
+import java.io.PrintStream;
 
 public class MazeApp {
 
     public void start() {
-        UserController controller = new UserControllerImpl(System.in, System.out);
-        UserInterface display = new UserInterfaceImpl(controller);
-        Parameters parameters = display.start();
+        run(new UserControllerImpl(System.in, System.out));
+    }
 
-        Generator generator = parameters.generatorType().equals(GeneratorType.PRIM)
-            ? new PrimMazeGenerator() : new KruskalMazeGenerator();
+    /**
+     * Проигрывает файл ответов через тот же диалог, что и интерактивный режим: параметры лабиринта,
+     * затем пары координат, по одной паре на запрос, пока файл не закончится.
+     *
+     * @param script файл ответов
+     * @param out    поток вывода
+     */
+    public void replay(InputStream script, PrintStream out) {
+        run(new UserControllerImpl(script, out, true));
+    }
 
-        Solver solver = parameters.solverType().equals(SolverType.BFS)
-            ? new BFSSolverImpl() : new DijkstraSolverImpl();
+    private void run(UserController controller) {
+        UserInterface display = new UserInterfaceImpl(controller);
+        Parameters parameters = display.start();
 
-        Maze maze = generator.generate(parameters.height(), parameters.width());
+        Generator generator = Algorithms.generator(parameters.generatorType());
+        Solver solver = Algorithms.solver(parameters.solverType());
 
-        display.renderMaze(maze);
-        display.solve(maze, solver);
+        try (Maze maze = generator.generate(parameters.height(), parameters.width())) {
+            display.renderMaze(maze);
+            do {
+                display.solve(maze, solver);
+            } while (controller.hasMoreInput());
+        }
     }
 
 }
@@ -0,0 +1,55 @@
+package backend.academy.benchmarks;
+
+import backend.academy.generators.BatchGenerator;
+import backend.academy.generators.RandomStreams;
+import backend.academy.generators.impl.PrimMazeGenerator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Пропускная способность пакетной генерации небольших лабиринтов: {@link BatchGenerator} против простого цикла,
+ * создающего {@link PrimMazeGenerator} на каждый лабиринт. Результат — лабиринты в секунду.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@OperationsPerInvocation(BatchGeneratorBenchmark.COUNT)
+public class BatchGeneratorBenchmark {
+
+    static final int COUNT = 10_000;
+
+    @Param({"31", "101"})
+    private int size;
+
+    private final BatchGenerator batch = new BatchGenerator(PrimMazeGenerator::perWorker);
+
+    @Benchmark
+    public void naiveLoop(Blackhole blackhole) {
+        for (int index = 0; index < COUNT; index++) {
+            blackhole.consume(new PrimMazeGenerator().generate(size, size, RandomStreams.childSeed(1L, index)));
+        }
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole) {
+        // Blackhole не рассчитан на вызовы из нескольких потоков, поэтому лабиринты сводятся в сумму
+        LongAdder sum = new LongAdder();
+        batch.generateAll(COUNT, size, size, 1L, (maze, index) -> sum.add(maze.code(size + 1)));
+        blackhole.consume(sum.sum());
+    }
+}
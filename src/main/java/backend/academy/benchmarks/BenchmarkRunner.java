@@ -0,0 +1,28 @@
+package backend.academy.benchmarks;
+
+import lombok.experimental.UtilityClass;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Точка входа jar-файла с бенчмарками, собираемого профилем {@code benchmarks}.
+ * <p>
+ * Принимает обычные аргументы командной строки JMH (например, регулярное выражение для выбора бенчмарков
+ * или {@code -p size=1001}) и всегда добавляет профилировщик {@code gc}, чтобы вместе с пропускной способностью
+ * выводилась скорость выделения памяти.
+ * </p>
+ */
+@UtilityClass
+public class BenchmarkRunner {
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build())
+            .run();
+    }
+}
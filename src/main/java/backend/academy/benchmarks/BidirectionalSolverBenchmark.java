@@ -0,0 +1,100 @@
+package backend.academy.benchmarks;
+
+import backend.academy.constants.enums.SolverType;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.solvers.Solver;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.solvers.impl.BidirectionalBFSSolverImpl;
+import backend.academy.solvers.impl.BidirectionalDijkstraSolverImpl;
+import backend.academy.solvers.impl.DijkstraSolverImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Сравнение однонаправленных и двунаправленных решателей на длинном запросе из угла в угол
+ * идеального лабиринта.
+ * <p>
+ * Помимо времени, JMH выводит счётчики {@link Expansions}: число раскрытых клеток и число запросов за итерацию.
+ * Их отношение показывает, насколько двунаправленный поиск сокращает исследуемую область.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BidirectionalSolverBenchmark {
+
+    @Param({"1001", "4001"})
+    private int size;
+
+    @Param({"BFS", "BIDIRECTIONAL_BFS", "Dijkstra", "BIDIRECTIONAL_DIJKSTRA"})
+    private SolverType solverType;
+
+    private Maze maze;
+    private Solver solver;
+    private Coordinate start;
+    private Coordinate end;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new KruskalMazeGenerator().generate(size, size);
+        solver = switch (solverType) {
+            case BFS -> new BFSSolverImpl();
+            case BIDIRECTIONAL_BFS -> new BidirectionalBFSSolverImpl();
+            case Dijkstra -> new DijkstraSolverImpl();
+            case BIDIRECTIONAL_DIJKSTRA -> new BidirectionalDijkstraSolverImpl();
+            default -> throw new IllegalArgumentException("Решатель не участвует в сравнении: " + solverType);
+        };
+        start = new Coordinate(1, 1);
+        end = new Coordinate(size - 2, size - 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        maze.close();
+    }
+
+    @Benchmark
+    public SearchResult search(Expansions expansions) {
+        SearchResult result = solver.search(maze, start, end);
+        expansions.expandedNodes += result.expandedNodes();
+        expansions.queries++;
+        return result;
+    }
+
+    /**
+     * Счётчики раскрытых клеток, которые JMH выводит рядом со временем.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Expansions {
+
+        public long expandedNodes;
+
+        public long queries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            expandedNodes = 0;
+            queries = 0;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package backend.academy.benchmarks;
+
+import backend.academy.Algorithms;
+import backend.academy.constants.enums.GeneratorType;
+import backend.academy.dto.Maze;
+import backend.academy.generators.Generator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Пропускная способность генераторов Прима, Краскала и параллельного по плиткам на сторонах от 101 до 4001.
+ * <p>
+ * Зерно фиксировано параметром, поэтому каждая итерация строит один и тот же лабиринт и прогоны сравнимы
+ * между собой. Лабиринт закрывается сразу после генерации, чтобы память хранилища не копилась между вызовами;
+ * профилировщик {@code gc} из {@link BenchmarkRunner} показывает скорость выделения памяти на вызов.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class GeneratorBenchmark {
+
+    @Param({"101", "1001", "4001"})
+    private int size;
+
+    @Param({"PRIM", "KRUSKAL", "PARALLEL", "ELLER"})
+    private GeneratorType generatorType;
+
+    @Param({"1", "42"})
+    private long seed;
+
+    private Generator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = Algorithms.generator(generatorType);
+    }
+
+    @Benchmark
+    public void generate(Blackhole blackhole) {
+        try (Maze maze = generator.generate(size, size, seed)) {
+            blackhole.consume(maze);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package backend.academy.benchmarks;
+
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.ParallelMazeGenerator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Масштабирование {@link ParallelMazeGenerator} по числу потоков: время генерации одного большого лабиринта
+ * в пуле с параллелизмом {@code threads}. Значения больше числа ядер показывают накладные расходы пула.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ParallelGeneratorBenchmark {
+
+    @Param({"4001", "10001"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int threads;
+
+    private ForkJoinPool pool;
+    private ParallelMazeGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        generator = new ParallelMazeGenerator(ParallelMazeGenerator.DEFAULT_TILE_SIZE, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void generate(Blackhole blackhole) {
+        try (Maze maze = generator.generate(size, size, 1L)) {
+            blackhole.consume(maze);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package backend.academy.benchmarks;
+
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.PrimMazeGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Замер времени генерации лабиринта алгоритмом Прима на больших сторонах.
+ * <p>
+ * Каждый вызов генерирует лабиринт целиком, поэтому используется режим {@link Mode#SingleShotTime}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class PrimMazeGeneratorBenchmark {
+
+    @Param({"1000", "4000", "16000"})
+    private int size;
+
+    private final PrimMazeGenerator generator = new PrimMazeGenerator();
+
+    @Benchmark
+    public Maze generate() {
+        return generator.generate(size, size);
+    }
+}
@@ -0,0 +1,90 @@
+package backend.academy.benchmarks;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.renders.impl.CompactMazeRendererImpl;
+import backend.academy.renders.impl.MazeRendererImpl;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Пропускная способность {@link MazeRendererImpl#render} без пути и с путём между клетками, выбранными по {@code seed}.
+ * <p>
+ * Результат рендеринга — одна строка на весь лабиринт, поэтому для больших сторон важна
+ * скорость выделения памяти из профилировщика {@code gc}, а не только время.
+ * {@code renderToStream} пишет тот же текст построчно в поток, не собирая его в одну строку,
+ * а {@code renderCompactToStream} — байты {@link CompactMazeRendererImpl} со сжатыми последовательностями ANSI.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class RendererBenchmark {
+
+    @Param({"101", "1001", "4001"})
+    private int size;
+
+    @Param({"1", "42"})
+    private long seed;
+
+    private final MazeRendererImpl renderer = new MazeRendererImpl();
+    private final CompactMazeRendererImpl compactRenderer = new CompactMazeRendererImpl();
+
+    private Maze maze;
+    private List<Coordinate> path;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new KruskalMazeGenerator().generate(size, size, seed);
+        Random random = new Random(seed);
+        Coordinate start = SolverBenchmark.randomPassage(maze, random);
+        Coordinate end = SolverBenchmark.randomPassage(maze, random);
+        path = new BFSSolverImpl().solve(maze, start, end);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        maze.close();
+    }
+
+    @Benchmark
+    public String render() {
+        return renderer.render(maze);
+    }
+
+    @Benchmark
+    public String renderWithPath() {
+        return renderer.render(maze, path);
+    }
+
+    @Benchmark
+    public void renderToStream() throws IOException {
+        renderer.render(maze, path, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void renderCompactToStream() throws IOException {
+        compactRenderer.render(maze, path, OutputStream.nullOutputStream());
+    }
+}
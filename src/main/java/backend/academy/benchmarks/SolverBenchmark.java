@@ -0,0 +1,106 @@
+package backend.academy.benchmarks;
+
+import backend.academy.Algorithms;
+import backend.academy.constants.enums.SolverType;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.solvers.Solver;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.solvers.impl.DijkstraSolverImpl;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Пропускная способность BFS и алгоритма Дейкстры на одном запросе в идеальном лабиринте.
+ * <p>
+ * Лабиринт генерируется по {@code seed}, концы запроса — случайные клетки-проходы, выбранные по нему же,
+ * поэтому разные значения параметра дают запросы разной длины, а один и тот же {@code seed} воспроизводит
+ * и лабиринт, и запрос между запусками.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SolverBenchmark {
+
+    @Param({"101", "1001", "4001"})
+    private int size;
+
+    @Param({"1", "42"})
+    private long seed;
+
+    @Param({"BFS", "Dijkstra"})
+    private SolverType solverType;
+
+    private Maze maze;
+    private Solver solver;
+    private Coordinate start;
+    private Coordinate end;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new KruskalMazeGenerator().generate(size, size, seed);
+        solver = switch (solverType) {
+            case BFS -> new BFSSolverImpl();
+            case Dijkstra -> new DijkstraSolverImpl();
+            default -> throw new IllegalArgumentException("Решатель не участвует в замере: " + solverType);
+        };
+        Random random = new Random(seed);
+        start = randomPassage(maze, random);
+        end = randomPassage(maze, random);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        maze.close();
+    }
+
+    @Benchmark
+    public List<Coordinate> solve() {
+        return solver.solve(maze, start, end);
+    }
+
+    /**
+     * Тот же запрос новым решателем. Разница {@code gc.alloc.rate.norm} с {@link #solve()} показывает,
+     * сколько памяти на запрос экономит переиспользование рабочих массивов.
+     */
+    @Benchmark
+    public List<Coordinate> solveWithNewSolver() {
+        return Algorithms.solver(solverType).solve(maze, start, end);
+    }
+
+    /**
+     * Выбирает случайную клетку-проход лабиринта.
+     *
+     * @param maze   лабиринт
+     * @param random источник случайных чисел
+     * @return координата прохода
+     */
+    static Coordinate randomPassage(Maze maze, Random random) {
+        while (true) {
+            int row = random.nextInt(maze.height());
+            int col = random.nextInt(maze.width());
+            if (maze.isPassage(maze.index(row, col))) {
+                return new Coordinate(row, col);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package backend.academy.benchmarks;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.solvers.impl.JunctionGraph;
+import backend.academy.solvers.impl.JunctionGraphSolverImpl;
+import backend.academy.solvers.impl.TreeIndex;
+import backend.academy.solvers.impl.TreeIndexSolverImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Стоимость одного запроса через индекс дерева против поиска по клеткам и по графу развилок,
+ * а также стоимость однократного построения индекса.
+ * <p>
+ * {@code cost} измеряет только поиск общего предка без восстановления пути.
+ * Запросы — случайные пары клеток-проходов, перебираемые по кругу, так что каждый вызов решает новую пару.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TreeIndexSolverBenchmark {
+
+    private static final int QUERIES = 256;
+
+    private static final long SEED = 42;
+
+    @Param({"1001", "2001"})
+    private int size;
+
+    private Maze maze;
+    private TreeIndex index;
+    private TreeIndexSolverImpl treeSolver;
+    private JunctionGraphSolverImpl graphSolver;
+    private final BFSSolverImpl bfsSolver = new BFSSolverImpl();
+    private final List<Coordinate> endpoints = new ArrayList<>();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new KruskalMazeGenerator().generate(size, size);
+        index = TreeIndex.build(maze);
+        treeSolver = new TreeIndexSolverImpl(index);
+        graphSolver = new JunctionGraphSolverImpl(JunctionGraph.build(maze));
+        Random random = new Random(SEED);
+        while (endpoints.size() < 2 * QUERIES) {
+            int row = random.nextInt(size);
+            int col = random.nextInt(size);
+            if (maze.isPassage(maze.index(row, col))) {
+                endpoints.add(new Coordinate(row, col));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        maze.close();
+    }
+
+    @Benchmark
+    public SearchResult treeIndex() {
+        int query = nextQuery();
+        return treeSolver.search(maze, endpoints.get(query), endpoints.get(query + 1));
+    }
+
+    @Benchmark
+    public int cost() {
+        int query = nextQuery();
+        return index.cost(endpoints.get(query), endpoints.get(query + 1));
+    }
+
+    @Benchmark
+    public SearchResult junctionGraph() {
+        int query = nextQuery();
+        return graphSolver.search(maze, endpoints.get(query), endpoints.get(query + 1));
+    }
+
+    @Benchmark
+    public SearchResult bfs() {
+        int query = nextQuery();
+        return bfsSolver.search(maze, endpoints.get(query), endpoints.get(query + 1));
+    }
+
+    @Benchmark
+    public TreeIndex build() {
+        return TreeIndex.build(maze);
+    }
+
+    private int nextQuery() {
+        int query = next;
+        next = (next + 2) % endpoints.size();
+        return query;
+    }
+}
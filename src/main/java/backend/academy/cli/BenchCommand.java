@@ -0,0 +1,156 @@
+package backend.academy.cli;
+
+import backend.academy.Algorithms;
+import backend.academy.constants.enums.SolverType;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.generators.Generator;
+import backend.academy.generators.RandomStreams;
+import backend.academy.solvers.Solver;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
+import com.beust.jcommander.Parameters;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+import static backend.academy.cli.Report.field;
+
+/**
+ * Нагрузочный прогон: {@code --warmup} прогревочных и {@code --repeat} измеряемых раундов; в каждом раунде
+ * генерируется лабиринт и каждому решателю задаётся {@code --queries} случайных запросов.
+ * <p>
+ * Лабиринт и концы запросов выбираются по {@code --seed}, поэтому прогоны с одним зерном повторяют
+ * один и тот же лабиринт и одни и те же запросы. Если лабиринт читается из файла, он открывается один раз
+ * и генерация не замеряется.
+ * Вывод — сводка по каждой операции: число замеров, минимум, процентили, максимум и среднее в наносекундах.
+ * </p>
+ */
+@Parameters(commandDescription = "Замеряет генерацию и поиск пути на случайных запросах и выводит сводку")
+final class BenchCommand extends MazeCommand {
+
+    private static final int DEFAULT_QUERIES = 100;
+    // Запросы берутся из отдельного дочернего потока, чтобы не зависеть от чисел, потраченных генератором
+    private static final long QUERY_STREAM = 1;
+    private static final double MEDIAN = 0.5;
+    private static final double P90 = 0.9;
+    private static final double P99 = 0.99;
+
+    @Parameter(names = "--solvers", description = "Алгоритмы поиска пути через запятую")
+    private List<SolverType> solverTypes = List.of(SolverType.BFS, SolverType.Dijkstra);
+
+    @Parameter(names = "--queries", description = "Число случайных запросов к каждому решателю в раунде")
+    private int queries = DEFAULT_QUERIES;
+
+    @Parameter(names = "--warmup", description = "Число прогревочных раундов, не входящих в сводку")
+    private int warmup = 1;
+
+    @Override
+    void run(PrintStream out, PrintStream err) throws IOException {
+        if (queries < 1 || warmup < 0) {
+            throw new ParameterException("Число запросов должно быть положительным, а прогрева — неотрицательным");
+        }
+        CommonOptions options = options();
+        Map<String, Samples> samples = new LinkedHashMap<>();
+        if (options.input() == null) {
+            samples.put("generate", new Samples("generate", options.generator().name(), options.repeat()));
+        }
+        for (SolverType solverType : solverTypes) {
+            samples.put(solverType.name(), new Samples("solve", solverType.name(), options.repeat() * queries));
+        }
+
+        RandomGenerator random = RandomStreams.of(options.seed(), QUERY_STREAM);
+        if (options.input() == null) {
+            Generator generator = Algorithms.generator(options.generator());
+            for (int round = 0; round < warmup + options.repeat(); round++) {
+                boolean measured = round >= warmup;
+                long started = System.nanoTime();
+                try (Maze maze = generator.generate(options.height(), options.width(), options.seed())) {
+                    long nanos = System.nanoTime() - started;
+                    if (measured) {
+                        samples.get("generate").add(nanos);
+                    }
+                    solveRound(maze, random, measured, samples);
+                }
+            }
+        } else {
+            try (Maze maze = maze()) {
+                for (int round = 0; round < warmup + options.repeat(); round++) {
+                    solveRound(maze, random, round >= warmup, samples);
+                }
+            }
+        }
+
+        Report report = report(out);
+        for (Samples operation : samples.values()) {
+            operation.write(report, options);
+        }
+    }
+
+    private void solveRound(Maze maze, RandomGenerator random, boolean measured, Map<String, Samples> samples) {
+        for (SolverType solverType : solverTypes) {
+            Solver solver = Algorithms.solver(solverType);
+            for (int query = 0; query < queries; query++) {
+                Coordinate start = randomPassage(maze, random);
+                Coordinate end = randomPassage(maze, random);
+                long started = System.nanoTime();
+                solver.search(maze, start, end);
+                long nanos = System.nanoTime() - started;
+                if (measured) {
+                    samples.get(solverType.name()).add(nanos);
+                }
+            }
+        }
+    }
+
+    private static Coordinate randomPassage(Maze maze, RandomGenerator random) {
+        while (true) {
+            int row = random.nextInt(maze.height());
+            int col = random.nextInt(maze.width());
+            if (maze.isPassage(maze.index(row, col))) {
+                return new Coordinate(row, col);
+            }
+        }
+    }
+
+    /**
+     * Замеры одной операции одного алгоритма.
+     */
+    private static final class Samples {
+
+        private final String operation;
+        private final String algorithm;
+        private final long[] nanos;
+        private int size;
+
+        Samples(String operation, String algorithm, int capacity) {
+            this.operation = operation;
+            this.algorithm = algorithm;
+            this.nanos = new long[capacity];
+        }
+
+        void add(long value) {
+            nanos[size++] = value;
+        }
+
+        void write(Report report, CommonOptions options) throws IOException {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            report.write(field("command", "bench"), field("operation", operation), field("algorithm", algorithm),
+                field("height", options.height()), field("width", options.width()), field("seed", options.seed()),
+                field("count", size), field("min", sorted[0]), field("p50", percentile(sorted, MEDIAN)),
+                field("p90", percentile(sorted, P90)), field("p99", percentile(sorted, P99)),
+                field("max", sorted[size - 1]), field("mean", Arrays.stream(sorted).sum() / size));
+        }
+
+        /**
+         * Процентиль по ближайшему рангу.
+         */
+        private static long percentile(long[] sorted, double fraction) {
+            return sorted[Math.max(0, (int) Math.ceil(fraction * sorted.length) - 1)];
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package backend.academy.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * Команда командной строки.
+ */
+interface Command {
+
+    /**
+     * Проверяет параметры и выполняет команду.
+     *
+     * @param out поток для результата команды
+     * @param err поток для сообщений, не относящихся к результату
+     * @throws IOException если чтение или запись не удались
+     */
+    void execute(PrintStream out, PrintStream err) throws IOException;
+}
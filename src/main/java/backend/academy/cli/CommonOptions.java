@@ -0,0 +1,86 @@
+package backend.academy.cli;
+
+import backend.academy.constants.Config;
+import backend.academy.constants.enums.GeneratorType;
+import backend.academy.generators.RandomStreams;
+import backend.academy.storage.MazeFileHeader;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
+import java.nio.file.Path;
+import lombok.Getter;
+
+/**
+ * Параметры, общие для всех команд: лабиринт, число повторов и формат отчёта.
+ */
+final class CommonOptions {
+
+    private static final int DEFAULT_SIZE = 31;
+
+    @Parameter(names = "--height", description = "Высота лабиринта")
+    @Getter
+    private int height = DEFAULT_SIZE;
+
+    @Parameter(names = "--width", description = "Ширина лабиринта")
+    @Getter
+    private int width = DEFAULT_SIZE;
+
+    @Parameter(names = "--generator", description = "Алгоритм генерации: PRIM, KRUSKAL, PARALLEL или ELLER")
+    @Getter
+    private GeneratorType generator = GeneratorType.PRIM;
+
+    @Parameter(names = "--seed",
+        description = "Зерно генерации и случайных запросов; сохраняется в заголовке файла лабиринта. "
+            + "По умолчанию случайное")
+    private Long seed;
+
+    @Parameter(names = "--input",
+        description = "Файл лабиринта в бинарном формате; лабиринт читается из него вместо генерации")
+    @Getter
+    private Path input;
+
+    @Parameter(names = "--repeat", description = "Число повторов замера")
+    @Getter
+    private int repeat = 1;
+
+    @Parameter(names = "--format", description = "Формат отчёта о замерах: TSV или JSON")
+    @Getter
+    private ReportFormat format = ReportFormat.TSV;
+
+    /**
+     * Возвращает зерно; если оно не задано, выбирает случайное один раз, чтобы его можно было вывести в отчёт.
+     *
+     * @return зерно
+     */
+    long seed() {
+        if (seed == null) {
+            seed = RandomStreams.randomSeed();
+        }
+        return seed;
+    }
+
+    /**
+     * Заменяет параметры лабиринта значениями из заголовка файла, чтобы отчёт описывал прочитанный лабиринт.
+     *
+     * @param header заголовок файла лабиринта
+     */
+    void use(MazeFileHeader header) {
+        height = header.height();
+        width = header.width();
+        seed = header.seed();
+        generator = header.generatorType();
+    }
+
+    /**
+     * Проверяет значения параметров.
+     *
+     * @throws ParameterException если размер или число повторов недопустимы
+     */
+    void validate() {
+        if (height < Config.MIN_SIZE || width < Config.MIN_SIZE) {
+            throw new ParameterException("Высота и ширина должны быть не меньше " + Config.MIN_SIZE);
+        }
+        if (repeat < 1) {
+            throw new ParameterException("Число повторов должно быть положительным");
+        }
+    }
+}
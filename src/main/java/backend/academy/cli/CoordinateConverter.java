@@ -0,0 +1,24 @@
+package backend.academy.cli;
+
+import backend.academy.dto.Coordinate;
+import com.beust.jcommander.IStringConverter;
+import com.beust.jcommander.ParameterException;
+
+/**
+ * Разбирает клетку из аргумента командной строки вида {@code строка,столбец}.
+ */
+public class CoordinateConverter implements IStringConverter<Coordinate> {
+
+    @Override
+    public Coordinate convert(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 2) {
+            throw new ParameterException("Клетка задаётся как строка,столбец: " + value);
+        }
+        try {
+            return new Coordinate(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new ParameterException("Клетка задаётся как строка,столбец: " + value, e);
+        }
+    }
+}
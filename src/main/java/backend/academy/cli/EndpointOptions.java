@@ -0,0 +1,73 @@
+package backend.academy.cli;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
+
+/**
+ * Начальная и конечная клетки пути. Если клетка не задана, берётся первый или последний проход лабиринта
+ * в порядке строк.
+ */
+final class EndpointOptions {
+
+    @Parameter(names = "--start", converter = CoordinateConverter.class,
+        description = "Начальная клетка в виде строка,столбец; по умолчанию первый проход лабиринта")
+    private Coordinate start;
+
+    @Parameter(names = "--end", converter = CoordinateConverter.class,
+        description = "Конечная клетка в виде строка,столбец; по умолчанию последний проход лабиринта")
+    private Coordinate end;
+
+    /**
+     * Возвращает начальную клетку пути.
+     *
+     * @param maze лабиринт
+     * @return заданная клетка или первый проход лабиринта
+     * @throws ParameterException если заданная клетка не является проходом
+     */
+    Coordinate start(Maze maze) {
+        return start == null ? firstPassage(maze) : checked(maze, start);
+    }
+
+    /**
+     * Возвращает конечную клетку пути.
+     *
+     * @param maze лабиринт
+     * @return заданная клетка или последний проход лабиринта
+     * @throws ParameterException если заданная клетка не является проходом
+     */
+    Coordinate end(Maze maze) {
+        return end == null ? lastPassage(maze) : checked(maze, end);
+    }
+
+    private static Coordinate checked(Maze maze, Coordinate cell) {
+        boolean inside = cell.row() >= 0 && cell.row() < maze.height() && cell.col() >= 0 && cell.col() < maze.width();
+        if (!inside || !maze.isPassage(maze.index(cell.row(), cell.col()))) {
+            throw new ParameterException("Клетка " + cell.row() + "," + cell.col() + " не является проходом лабиринта");
+        }
+        return cell;
+    }
+
+    private static Coordinate firstPassage(Maze maze) {
+        for (long index = 0; index < maze.cellCount(); index++) {
+            if (maze.isPassage(index)) {
+                return coordinate(maze, index);
+            }
+        }
+        throw new ParameterException("В лабиринте нет проходов");
+    }
+
+    private static Coordinate lastPassage(Maze maze) {
+        for (long index = maze.cellCount() - 1; index >= 0; index--) {
+            if (maze.isPassage(index)) {
+                return coordinate(maze, index);
+            }
+        }
+        throw new ParameterException("В лабиринте нет проходов");
+    }
+
+    private static Coordinate coordinate(Maze maze, long index) {
+        return new Coordinate((int) (index / maze.width()), (int) (index % maze.width()));
+    }
+}
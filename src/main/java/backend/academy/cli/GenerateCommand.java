@@ -0,0 +1,85 @@
+package backend.academy.cli;
+
+import backend.academy.Algorithms;
+import backend.academy.dto.Maze;
+import backend.academy.generators.Generator;
+import backend.academy.generators.impl.EllerMazeGenerator;
+import backend.academy.storage.MazeFile;
+import backend.academy.storage.MazeFileWriter;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
+import com.beust.jcommander.Parameters;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+import static backend.academy.cli.Report.field;
+
+/**
+ * Генерирует лабиринт {@code --repeat} раз и выводит время каждой генерации. Все повторы генерируют
+ * один и тот же лабиринт по зерну {@code --seed}.
+ * <p>
+ * Поле {@code nanos} — время генерации вместе с записью файла {@code --output} в последнем повторе, одинаково
+ * для всех генераторов. Алгоритм Эллера не собирает лабиринт в памяти и пишет строки в файл по мере генерации,
+ * поэтому отделить запись от генерации для него нельзя; остальные генераторы для сравнимости тоже пишут файл
+ * до остановки замера. Без {@code --output} строки Эллера только проходят через контрольную сумму.
+ * </p>
+ */
+@Parameters(commandDescription = "Генерирует лабиринт и замеряет время генерации")
+final class GenerateCommand extends MazeCommand {
+
+    @Parameter(names = "--output", description = "Файл, в который последний лабиринт сохраняется в бинарном формате")
+    private Path output;
+
+    @Override
+    void run(PrintStream out, PrintStream err) throws IOException {
+        CommonOptions options = options();
+        if (options.input() != null) {
+            throw new ParameterException("Команда generate не читает лабиринт из файла");
+        }
+        Generator generator = Algorithms.generator(options.generator());
+        Report report = report(out);
+        for (int run = 1; run <= options.repeat(); run++) {
+            boolean save = run == options.repeat() && output != null;
+            long started = System.nanoTime();
+            long nanos;
+            if (generator instanceof EllerMazeGenerator eller) {
+                stream(eller, save);
+                nanos = System.nanoTime() - started;
+            } else {
+                try (Maze maze = generator.generate(options.height(), options.width(), options.seed())) {
+                    if (save) {
+                        MazeFile.write(output, maze, options.seed(), options.generator());
+                    }
+                    nanos = System.nanoTime() - started;
+                }
+            }
+            write(report, run, nanos);
+        }
+    }
+
+    /**
+     * Генерирует лабиринт по строкам без сборки в памяти: в файл, если его нужно сохранить, иначе в контрольную
+     * сумму, чтобы строки были прочитаны.
+     */
+    private void stream(EllerMazeGenerator eller, boolean save) throws IOException {
+        CommonOptions options = options();
+        if (!save) {
+            CRC32C checksum = new CRC32C();
+            eller.stream(options.height(), options.width(), options.seed(), (row, codes) -> checksum.update(codes));
+            return;
+        }
+        // Генератор делает стороны нечётными, заголовку нужны итоговые размеры
+        try (MazeFileWriter writer = MazeFileWriter.open(output, options.height() | 1, options.width() | 1,
+            options.seed(), options.generator())) {
+            eller.stream(options.height(), options.width(), options.seed(), writer);
+        }
+    }
+
+    private void write(Report report, int run, long nanos) throws IOException {
+        CommonOptions options = options();
+        report.write(field("command", "generate"), field("generator", options.generator()),
+            field("height", options.height()), field("width", options.width()),
+            field("seed", options.seed()), field("run", run), field("nanos", nanos));
+    }
+}
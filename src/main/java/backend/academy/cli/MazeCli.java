@@ -0,0 +1,96 @@
+package backend.academy.cli;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Неинтерактивный режим: разбирает аргументы командной строки и выполняет одну из команд
+ * {@code generate}, {@code solve}, {@code render}, {@code bench} или {@code replay}.
+ * <p>
+ * Команды выводят замеры машиночитаемым отчётом (TSV или JSON по строке на замер) и не читают ввод,
+ * поэтому их можно запускать из скриптов без терминала. Результат запуска сообщается кодом возврата
+ * {@link #run(String...)}.
+ * </p>
+ */
+public class MazeCli {
+
+    /**
+     * Команда выполнена.
+     */
+    public static final int SUCCESS = 0;
+
+    /**
+     * Команда не выполнена из-за ошибки ввода-вывода, неполного файла ответов или недопустимого размера лабиринта.
+     */
+    public static final int FAILURE = 1;
+
+    /**
+     * Аргументы командной строки неверны.
+     */
+    public static final int USAGE = 2;
+
+    private static final String PROGRAM_NAME = "maze";
+
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Создаёт интерфейс командной строки.
+     *
+     * @param out поток для результатов и отчётов
+     * @param err поток для ошибок и справки
+     */
+    public MazeCli(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Разбирает аргументы и выполняет команду.
+     *
+     * @param args аргументы командной строки: имя команды и её параметры
+     * @return {@link #SUCCESS}, {@link #FAILURE} или {@link #USAGE}
+     */
+    public int run(String... args) {
+        Map<String, Command> commands = new LinkedHashMap<>();
+        commands.put("generate", new GenerateCommand());
+        commands.put("solve", new SolveCommand());
+        commands.put("render", new RenderCommand());
+        commands.put("bench", new BenchCommand());
+        commands.put("replay", new ReplayCommand());
+
+        JCommander.Builder builder = JCommander.newBuilder().programName(PROGRAM_NAME);
+        commands.forEach(builder::addCommand);
+        JCommander commander = builder.build();
+
+        try {
+            commander.parse(args);
+            String name = commander.getParsedCommand();
+            if (name == null) {
+                throw new ParameterException("Не задана команда");
+            }
+            commands.get(name).execute(out, err);
+            return SUCCESS;
+        } catch (ParameterException e) {
+            err.println(e.getMessage());
+            StringBuilder usage = new StringBuilder();
+            commander.getUsageFormatter().usage(usage);
+            err.print(usage);
+            return USAGE;
+        } catch (IOException | UncheckedIOException | NoSuchElementException
+                 | IllegalArgumentException | IllegalStateException e) {
+            // Ошибки ввода-вывода и недопустимые размеры: например, лабиринт больше, чем помещается в массивы кучи
+            err.println(e.getMessage());
+            return FAILURE;
+        } finally {
+            out.flush();
+            err.flush();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package backend.academy.cli;
+
+import backend.academy.Algorithms;
+import backend.academy.dto.Maze;
+import backend.academy.storage.MappedMazeStorage;
+import com.beust.jcommander.ParametersDelegate;
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * Команда командной строки над одним лабиринтом: сгенерированным или прочитанным из файла.
+ */
+abstract class MazeCommand implements Command {
+
+    @ParametersDelegate
+    private final CommonOptions options = new CommonOptions();
+
+    @Override
+    public final void execute(PrintStream out, PrintStream err) throws IOException {
+        options.validate();
+        run(out, err);
+    }
+
+    /**
+     * Выполняет команду с проверенными параметрами.
+     *
+     * @param out поток для результата команды
+     * @param err поток для сообщений, не относящихся к результату
+     * @throws IOException если чтение или запись не удались
+     */
+    abstract void run(PrintStream out, PrintStream err) throws IOException;
+
+    CommonOptions options() {
+        return options;
+    }
+
+    /**
+     * Читает лабиринт из файла {@code --input} без загрузки в кучу или генерирует новый по зерну.
+     *
+     * @return лабиринт, который нужно закрыть
+     * @throws IOException если файл не удаётся прочитать
+     */
+    Maze maze() throws IOException {
+        if (options.input() == null) {
+            return Algorithms.generator(options.generator())
+                .generate(options.height(), options.width(), options.seed());
+        }
+        MappedMazeStorage storage = MappedMazeStorage.open(options.input());
+        options.use(storage.header());
+        return new Maze(storage.header().height(), storage.header().width(), storage);
+    }
+
+    Report report(Appendable out) {
+        return new Report(out, options.format());
+    }
+}
@@ -0,0 +1,89 @@
+package backend.academy.cli;
+
+import backend.academy.Algorithms;
+import backend.academy.constants.enums.GeneratorType;
+import backend.academy.constants.enums.SolverType;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.EllerMazeGenerator;
+import backend.academy.renders.Overlay;
+import backend.academy.renders.Renderer;
+import backend.academy.renders.impl.CompactMazeRendererImpl;
+import backend.academy.renders.impl.MazeRendererImpl;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
+import com.beust.jcommander.Parameters;
+import com.beust.jcommander.ParametersDelegate;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import static backend.academy.cli.Report.field;
+
+/**
+ * Выводит лабиринт в поток результата {@code --repeat} раз. Отчёт о замерах пишется в поток ошибок,
+ * чтобы не смешиваться с изображением.
+ */
+@Parameters(commandDescription = "Выводит лабиринт в терминал; замеры пишутся в поток ошибок")
+final class RenderCommand extends MazeCommand {
+
+    @Parameter(names = "--solver", description = "Алгоритм, путь которого рисуется поверх лабиринта")
+    private SolverType solverType;
+
+    @ParametersDelegate
+    private final EndpointOptions endpoints = new EndpointOptions();
+
+    @Parameter(names = "--overview", description = "Сторона блока обзора; 1 — лабиринт целиком")
+    private int blockSize = 1;
+
+    @Parameter(names = "--full", description = "Полный стиль на каждую клетку вместо сжатого вывода")
+    private boolean full;
+
+    @Override
+    void run(PrintStream out, PrintStream err) throws IOException {
+        if (blockSize < 1) {
+            throw new ParameterException("Сторона блока обзора должна быть положительной");
+        }
+        CommonOptions options = options();
+        Renderer renderer = full ? new MazeRendererImpl() : new CompactMazeRendererImpl();
+        Report report = report(err);
+        if (streamable()) {
+            EllerMazeGenerator eller = new EllerMazeGenerator();
+            for (int run = 1; run <= options.repeat(); run++) {
+                long started = System.nanoTime();
+                eller.stream(options.height(), options.width(), options.seed(),
+                    ((CompactMazeRendererImpl) renderer).rowRenderer(options.width() | 1, out));
+                out.flush();
+                write(report, run, System.nanoTime() - started);
+            }
+            return;
+        }
+        try (Maze maze = maze()) {
+            Overlay[] overlays = solverType == null ? new Overlay[0] : new Overlay[] {Overlay.ofPath(maze,
+                Algorithms.solver(solverType).solve(maze, endpoints.start(maze), endpoints.end(maze)))};
+            for (int run = 1; run <= options.repeat(); run++) {
+                long started = System.nanoTime();
+                if (blockSize == 1) {
+                    renderer.render(maze, (OutputStream) out, overlays);
+                } else {
+                    renderer.renderOverview(maze, blockSize, out, overlays);
+                }
+                out.flush();
+                write(report, run, System.nanoTime() - started);
+            }
+        }
+    }
+
+    /**
+     * Лабиринт Эллера без пути, обзора и полного стиля выводится по мере генерации, не собираясь в памяти.
+     */
+    private boolean streamable() {
+        return options().generator() == GeneratorType.ELLER && options().input() == null
+            && solverType == null && blockSize == 1 && !full;
+    }
+
+    private void write(Report report, int run, long nanos) throws IOException {
+        CommonOptions options = options();
+        report.write(field("command", "render"), field("renderer", full ? "full" : "compact"),
+            field("height", options.height()), field("width", options.width()),
+            field("seed", options.seed()), field("run", run), field("nanos", nanos), field("block", blockSize));
+    }
+}
@@ -0,0 +1,38 @@
+package backend.academy.cli;
+
+import backend.academy.MazeApp;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Проигрывает файл ответов интерактивного режима без терминала.
+ * <p>
+ * Вывод буферизуется и сбрасывается один раз в конце, а не после каждой строки, как в консоли.
+ * </p>
+ */
+@Parameters(commandDescription = "Проигрывает файл ответов интерактивного режима: параметры и пары координат")
+final class ReplayCommand implements Command {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    @Parameter(names = "--script", required = true, description = "Файл ответов")
+    private Path script;
+
+    @Override
+    public void execute(PrintStream out, PrintStream err) throws IOException {
+        PrintStream buffered =
+            new PrintStream(new BufferedOutputStream(out, BUFFER_SIZE), false, StandardCharsets.UTF_8);
+        try (InputStream input = Files.newInputStream(script)) {
+            new MazeApp().replay(input, buffered);
+        } finally {
+            buffered.flush();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package backend.academy.cli;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Отчёт команды: по строке на замер в формате {@link ReportFormat}, чтобы вывод можно было разбирать скриптами.
+ */
+final class Report {
+
+    private static final char CONTROL_CHARACTERS_END = 0x20;
+
+    private final Appendable out;
+    private final ReportFormat format;
+    private List<String> header = List.of();
+
+    Report(Appendable out, ReportFormat format) {
+        this.out = out;
+        this.format = format;
+    }
+
+    /**
+     * Создаёт поле строки отчёта.
+     *
+     * @param name  имя поля
+     * @param value значение; числа выводятся как есть, остальное — строкой
+     * @return поле
+     */
+    static Field field(String name, Object value) {
+        return new Field(name, value);
+    }
+
+    /**
+     * Выводит строку отчёта.
+     *
+     * @param fields поля строки в порядке вывода
+     * @throws IOException если вывод не удался
+     */
+    void write(Field... fields) throws IOException {
+        if (format == ReportFormat.JSON) {
+            writeJson(fields);
+            return;
+        }
+        List<String> names = Arrays.stream(fields).map(Field::name).toList();
+        if (!names.equals(header)) {
+            header = names;
+            out.append(String.join("\t", names)).append('\n');
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.append('\t');
+            }
+            out.append(String.valueOf(fields[i].value()));
+        }
+        out.append('\n');
+    }
+
+    private void writeJson(Field... fields) throws IOException {
+        out.append('{');
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append('"').append(fields[i].name()).append("\":");
+            Object value = fields[i].value();
+            if (value instanceof Number) {
+                out.append(value.toString());
+            } else {
+                appendJsonString(String.valueOf(value));
+            }
+        }
+        out.append("}\n");
+    }
+
+    private void appendJsonString(String value) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < CONTROL_CHARACTERS_END) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Поле строки отчёта.
+     *
+     * @param name  имя поля
+     * @param value значение поля
+     */
+    record Field(String name, Object value) {
+    }
+}
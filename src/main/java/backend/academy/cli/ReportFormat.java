@@ -0,0 +1,15 @@
+package backend.academy.cli;
+
+/**
+ * Формат машиночитаемого отчёта о замерах.
+ */
+enum ReportFormat {
+    /**
+     * Значения через табуляцию; перед первой строкой и при смене набора полей выводится строка с именами полей.
+     */
+    TSV,
+    /**
+     * Один объект JSON на строку.
+     */
+    JSON
+}
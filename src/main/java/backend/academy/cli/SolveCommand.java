@@ -0,0 +1,52 @@
+package backend.academy.cli;
+
+import backend.academy.Algorithms;
+import backend.academy.constants.enums.SolverType;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.solvers.Solver;
+import backend.academy.solvers.impl.PathCost;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+import com.beust.jcommander.ParametersDelegate;
+import java.io.IOException;
+import java.io.PrintStream;
+import static backend.academy.cli.Report.field;
+
+/**
+ * Решает один запрос {@code --repeat} раз на одном лабиринте и выводит время, длину и стоимость пути каждого решения.
+ * <p>
+ * Решатель создаётся один раз, поэтому для решателей с индексом первый замер включает построение индекса.
+ * </p>
+ */
+@Parameters(commandDescription = "Ищет путь между двумя клетками и замеряет время поиска")
+final class SolveCommand extends MazeCommand {
+
+    @Parameter(names = "--solver", description = "Алгоритм поиска пути")
+    private SolverType solverType = SolverType.BFS;
+
+    @ParametersDelegate
+    private final EndpointOptions endpoints = new EndpointOptions();
+
+    @Override
+    void run(PrintStream out, PrintStream err) throws IOException {
+        CommonOptions options = options();
+        Solver solver = Algorithms.solver(solverType);
+        Report report = report(out);
+        try (Maze maze = maze()) {
+            Coordinate start = endpoints.start(maze);
+            Coordinate end = endpoints.end(maze);
+            for (int run = 1; run <= options.repeat(); run++) {
+                long started = System.nanoTime();
+                SearchResult result = solver.search(maze, start, end);
+                long nanos = System.nanoTime() - started;
+                report.write(field("command", "solve"), field("solver", solverType),
+                    field("height", options.height()), field("width", options.width()),
+                    field("seed", options.seed()), field("run", run), field("nanos", nanos),
+                    field("path", result.path().size()), field("cost", PathCost.of(maze, result.path())),
+                    field("expanded", result.expandedNodes()));
+            }
+        }
+    }
+}
@@ -25,4 +25,8 @@ public class Config {
     public static final int PRIM_STEP = 1;
 
     public static final int MIN_SIZE = 3;
+
+    public static final int MAX_RENDER_SIZE = 100;
+
+    public static final int VIEWPORT_SIZE = 50;
 }
@@ -13,6 +13,10 @@ public class InterfaceTemplates {
 
     public static final String PATH = Styles.PURPLE_BACKGROUND + " . " + Styles.RESET;
 
+    public static final String VISITED = Styles.BLUE_BACKGROUND + NULL + Styles.RESET;
+
+    public static final String FRONTIER = Styles.BLUE_BACKGROUND + Styles.YELLOW_TEXT + " * " + Styles.RESET;
+
     public static final String WALL = Styles.BLACK_BACKGROUND + NULL + Styles.RESET;
 
     public static final String SWAMP = Styles.GREEN_BACKGROUND + Styles.BLACK_TEXT + " ~ " + Styles.RESET;
@@ -14,6 +14,8 @@ public class Styles {
 
     public static final String YELLOW_BACKGROUND = "\u001B[43m";
 
+    public static final String BLUE_BACKGROUND = "\u001B[44m";
+
     public static final String PURPLE_BACKGROUND = "\u001B[45m";
 
     public static final String CYAN_BACKGROUND = "\u001B[46m";
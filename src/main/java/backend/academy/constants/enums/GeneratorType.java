@@ -7,7 +7,9 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum GeneratorType implements Describable {
     PRIM("Алгоритм Прима"),
-    KRUSKAL("Алгоритм Краскала");
+    KRUSKAL("Алгоритм Краскала"),
+    PARALLEL("Параллельный алгоритм Краскала по плиткам"),
+    ELLER("Алгоритм Эллера (построчно)");
 
     private final String description;
 }
@@ -7,7 +7,13 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum SolverType implements Describable {
     BFS("Алгоритм BFS"),
-    Dijkstra("Алгоритм Дейкстры");
+    Dijkstra("Алгоритм Дейкстры"),
+    DIAL("Алгоритм Дейкстры с очередью Дайала"),
+    ASTAR("Алгоритм A*"),
+    BIDIRECTIONAL_BFS("Двунаправленный алгоритм BFS"),
+    BIDIRECTIONAL_DIJKSTRA("Двунаправленный алгоритм Дейкстры"),
+    JUNCTION_GRAPH("Алгоритм Дейкстры на графе развилок"),
+    TREE_INDEX("Индекс дерева идеального лабиринта");
 
     private final String description;
 }
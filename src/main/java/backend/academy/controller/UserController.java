@@ -4,8 +4,23 @@ public interface UserController {
 
     String read(String text);
 
+    /**
+     * Сообщает, остались ли ответы для следующего запроса. Интерактивный ввод задаёт один запрос за запуск,
+     * поэтому для него ответ всегда {@code false}; при проигрывании файла ответов — пока файл не закончился.
+     *
+     * @return {@code true}, если можно прочитать ещё хотя бы один ответ
+     */
+    boolean hasMoreInput();
+
     void write(String text);
 
+    /**
+     * Возвращает приёмник вывода для потоковой записи больших текстов без сборки их в одну строку.
+     *
+     * @return приёмник текста, в который пишет {@link #write(String)}
+     */
+    Appendable output();
+
     boolean isValidListSize(int input, int size);
 
     boolean isValidNumeric(String text);
@@ -2,25 +2,89 @@ package backend.academy.controller.impl;
 
 
 import backend.academy.controller.UserController;
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintStream;
-import java.util.Scanner;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
 
+/**
+ * Консольный ввод-вывод через один {@link BufferedReader}, созданный на всё время работы.
+ * <p>
+ * Читатель не пересоздаётся между вопросами, поэтому строки, уже прочитанные в его буфер,
+ * не теряются при вводе через канал и каждый вопрос обходится без подготовки сканера.
+ * </p>
+ * <p>
+ * В режиме проигрывания ответы берутся из файла ответов: каждый ответ — слово, отделённое пробелами
+ * или переводами строк, текст от {@code #} до конца строки — комментарий. Вопросы в этом режиме не выводятся,
+ * а {@link #hasMoreInput()} сообщает, остались ли ответы для следующего запроса.
+ * </p>
+ */
 public class UserControllerImpl implements UserController {
 
-    private final InputStream inputStream;
+    private static final Pattern SEPARATOR = Pattern.compile("\\s+");
+    private static final String COMMENT = "#";
+
+    private final BufferedReader reader;
     private final PrintStream printStream;
+    private final boolean replay;
+
+    private String[] answers = new String[0];
+    private int nextAnswer;
 
     public UserControllerImpl(InputStream inputStream, PrintStream printStream) {
-        this.inputStream = inputStream;
+        this(inputStream, printStream, false);
+    }
+
+    /**
+     * Создаёт контроллер.
+     *
+     * @param inputStream поток ввода: консоль или файл ответов
+     * @param printStream поток вывода
+     * @param replay      {@code true}, если ввод — файл ответов, который проигрывается без вывода вопросов
+     */
+    public UserControllerImpl(InputStream inputStream, PrintStream printStream, boolean replay) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
         this.printStream = printStream;
+        this.replay = replay;
     }
 
     @Override
     public String read(String text) {
-        Scanner scanner = new Scanner(inputStream);
+        if (replay) {
+            if (!hasMoreInput()) {
+                throw new NoSuchElementException("Файл ответов закончился.");
+            }
+            return answers[nextAnswer++];
+        }
         printStream.print(text);
-        return scanner.nextLine().trim();
+        String line = readLine();
+        if (line == null) {
+            throw new NoSuchElementException("Ввод закончился.");
+        }
+        return line.trim();
+    }
+
+    @Override
+    public boolean hasMoreInput() {
+        if (!replay) {
+            return false;
+        }
+        while (nextAnswer == answers.length) {
+            String line = readLine();
+            if (line == null) {
+                return false;
+            }
+            int comment = line.indexOf(COMMENT);
+            String content = (comment < 0 ? line : line.substring(0, comment)).strip();
+            answers = content.isEmpty() ? new String[0] : SEPARATOR.split(content);
+            nextAnswer = 0;
+        }
+        return true;
     }
 
     @Override
@@ -28,6 +92,11 @@ public class UserControllerImpl implements UserController {
         printStream.println(text);
     }
 
+    @Override
+    public Appendable output() {
+        return printStream;
+    }
+
     @Override
     public boolean isValidNumeric(String text) {
         try {
@@ -41,4 +110,12 @@ public class UserControllerImpl implements UserController {
     public boolean isValidListSize(int input, int size) {
         return input >= 1 && input <= size;
     }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
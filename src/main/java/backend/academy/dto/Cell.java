@@ -1,7 +1,7 @@
 package backend.academy.dto;
 
 import backend.academy.constants.Config;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 @SuppressWarnings("ReturnCount")
 public record Cell(int row, int col, Type type, Surface surface) {
@@ -18,7 +18,7 @@ public record Cell(int row, int col, Type type, Surface surface) {
         COIN,
         GOOD_FLOOR;
 
-        public static Surface randomSurface(Random random) {
+        public static Surface randomSurface(RandomGenerator random) {
             double chance = random.nextDouble();
             if (chance < Config.SWAMP_PROBABILITY) {
                 return Surface.SWAMP;
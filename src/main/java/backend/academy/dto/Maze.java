@@ -1,16 +1,229 @@
 package backend.academy.dto;
 
-import lombok.AllArgsConstructor;
+import backend.academy.storage.HeapMazeStorage;
+import backend.academy.storage.MazeStorage;
+import java.util.Locale;
 import lombok.Getter;
 
-@Getter
-@AllArgsConstructor
-public class Maze {
+/**
+ * Лабиринт в компактном представлении.
+ * <p>
+ * Каждая клетка хранится одним байтом с индексом {@code row * width + col} (тип {@code long}):
+ * значение {@link #WALL} обозначает стену, любое другое — проход, поверхность которого
+ * имеет порядковый номер {@code code - 1} в {@link Cell.Surface}.
+ * Байты лежат в {@link MazeStorage}: в куче ({@link HeapMazeStorage}) или вне её
+ * ({@link backend.academy.storage.OffHeapMazeStorage}), так что лабиринт может содержать больше клеток,
+ * чем помещается в массив Java. Генераторы, решатели и рендерер работают с клетками по индексу,
+ * не копируя их в кучу и не создавая объектов {@link Cell};
+ * метод {@link #getCell(int, int)} оставлен для совместимости и собирает клетку по требованию.
+ * </p>
+ * <p>
+ * Лабиринт владеет своим хранилищем: {@link #close()} освобождает занятую им память вне кучи.
+ * </p>
+ */
+public class Maze implements AutoCloseable {
+
+    /**
+     * Код клетки-стены. Нулевой, поэтому свежевыделенное хранилище — это лабиринт из одних стен.
+     */
+    public static final byte WALL = 0;
+
+    private static final Cell.Surface[] SURFACES = Cell.Surface.values();
+
+    private static final int[] COSTS = new int[SURFACES.length + 1];
+
+    private static final double BYTES_IN_MEGABYTE = 1024.0 * 1024.0;
+
+    static {
+        for (Cell.Surface surface : SURFACES) {
+            COSTS[surface.ordinal() + 1] = Cell.Surface.surfaceCost(surface);
+        }
+    }
+
+    @Getter
     private final int height;
+    @Getter
     private final int width;
-    private final Cell[][] grid;
+    @Getter
+    private final MazeStorage storage;
+
+    /**
+     * Создаёт лабиринт указанного размера в куче, целиком состоящий из стен.
+     *
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     */
+    public Maze(int height, int width) {
+        this(height, width, new HeapMazeStorage((long) height * width));
+    }
+
+    /**
+     * Создаёт лабиринт поверх готового хранилища. Содержимое хранилища не изменяется:
+     * свежевыделенное хранилище даёт лабиринт из одних стен, заполненное — ранее сохранённый лабиринт.
+     *
+     * @param height  высота лабиринта
+     * @param width   ширина лабиринта
+     * @param storage хранилище ровно на {@code height * width} клеток
+     * @throws IllegalArgumentException если размер хранилища не совпадает с размером лабиринта
+     */
+    public Maze(int height, int width, MazeStorage storage) {
+        if (storage.size() != (long) height * width) {
+            throw new IllegalArgumentException("Размер хранилища не совпадает с размером лабиринта.");
+        }
+        this.height = height;
+        this.width = width;
+        this.storage = storage;
+    }
+
+    /**
+     * Создаёт лабиринт из сетки клеток {@link Cell}.
+     *
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param grid   сетка клеток размером {@code height x width}
+     */
+    public Maze(int height, int width, Cell[][] grid) {
+        this(height, width);
+        // Запись напрямую в хранилище: переопределяемые методы нельзя вызывать из конструктора
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                Cell cell = grid[row][col];
+                if (cell.type() == Cell.Type.PASSAGE) {
+                    storage.set((long) row * width + col, passageCode(cell.surface()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Возвращает индекс клетки в плоском представлении.
+     *
+     * @param row номер строки
+     * @param col номер столбца
+     * @return индекс {@code row * width + col}
+     */
+    public long index(int row, int col) {
+        return (long) row * width + col;
+    }
+
+    /**
+     * Возвращает количество клеток лабиринта.
+     *
+     * @return {@code height * width}
+     */
+    public long cellCount() {
+        return storage.size();
+    }
+
+    /**
+     * Возвращает количество клеток для алгоритмов, которые держат рабочие массивы по клеткам в куче.
+     *
+     * @return {@code height * width}
+     * @throws IllegalStateException если клеток больше, чем помещается в массив Java
+     */
+    public int arrayCellCount() {
+        long count = cellCount();
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Лабиринт из " + count + " клеток слишком велик для массивов в куче.");
+        }
+        return (int) count;
+    }
 
+    /**
+     * Возвращает байтовый код клетки.
+     *
+     * @param index индекс клетки
+     * @return {@link #WALL} для стены или порядковый номер поверхности прохода, увеличенный на единицу
+     */
+    public byte code(long index) {
+        return storage.get(index);
+    }
+
+    /**
+     * Проверяет, является ли клетка проходом.
+     *
+     * @param index индекс клетки
+     * @return {@code true}, если клетка — проход
+     */
+    public boolean isPassage(long index) {
+        return storage.get(index) != WALL;
+    }
+
+    /**
+     * Возвращает поверхность клетки; для стен — {@link Cell.Surface#NORMAL}.
+     *
+     * @param index индекс клетки
+     * @return поверхность клетки
+     */
+    public Cell.Surface surface(long index) {
+        byte code = storage.get(index);
+        return code == WALL ? Cell.Surface.NORMAL : SURFACES[code - 1];
+    }
+
+    /**
+     * Возвращает стоимость перехода в клетку-проход согласно {@link Cell.Surface#surfaceCost(Cell.Surface)}.
+     *
+     * @param index индекс клетки-прохода
+     * @return стоимость перехода
+     */
+    public int cost(long index) {
+        return COSTS[storage.get(index)];
+    }
+
+    /**
+     * Превращает клетку в проход с указанной поверхностью.
+     *
+     * @param index   индекс клетки
+     * @param surface поверхность прохода
+     */
+    public void setPassage(long index, Cell.Surface surface) {
+        storage.set(index, passageCode(surface));
+    }
+
+    /**
+     * Превращает клетку в стену.
+     *
+     * @param index индекс клетки
+     */
+    public void setWall(long index) {
+        storage.set(index, WALL);
+    }
+
+    /**
+     * Собирает объект {@link Cell} для указанной клетки. Предназначен для совместимости:
+     * при обходе всего лабиринта следует пользоваться методами, работающими по индексу.
+     *
+     * @param row номер строки
+     * @param col номер столбца
+     * @return клетка лабиринта
+     */
     public Cell getCell(int row, int col) {
-        return grid[row][col];
+        long index = index(row, col);
+        return isPassage(index)
+            ? new Cell(row, col, Cell.Type.PASSAGE, surface(index))
+            : new Cell(row, col, Cell.Type.WALL);
+    }
+
+    /**
+     * Формирует отчёт о занимаемой лабиринтом памяти.
+     *
+     * @return строка с размером лабиринта, числом клеток и объёмом памяти в куче или вне её
+     */
+    public String footprint() {
+        return String.format(Locale.ROOT, "Лабиринт %dx%d: %d клеток, %.2f МБ %s",
+            height, width, cellCount(), storage.byteSize() / BYTES_IN_MEGABYTE,
+            storage.isNative() ? "вне кучи" : "в куче");
+    }
+
+    private static byte passageCode(Cell.Surface surface) {
+        return (byte) (surface.ordinal() + 1);
+    }
+
+    /**
+     * Освобождает хранилище лабиринта.
+     */
+    @Override
+    public void close() {
+        storage.close();
     }
 }
@@ -0,0 +1,18 @@
+package backend.academy.dto;
+
+import java.util.List;
+
+/**
+ * Результат поиска пути вместе со статистикой поиска.
+ *
+ * @param path          путь от начальной клетки до конечной или пустой список, если путь не найден
+ * @param expandedNodes количество раскрытых (извлечённых из очереди и обработанных) клеток,
+ *                      либо {@link #UNKNOWN}, если решатель не ведёт подсчёт
+ */
+public record SearchResult(List<Coordinate> path, long expandedNodes) {
+
+    /**
+     * Значение счётчика для решателей, которые не считают раскрытые клетки.
+     */
+    public static final long UNKNOWN = -1;
+}
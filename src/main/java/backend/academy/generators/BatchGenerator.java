@@ -0,0 +1,119 @@
+package backend.academy.generators;
+
+import backend.academy.dto.Maze;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Пакетная генерация множества небольших лабиринтов одного размера.
+ * <p>
+ * Пакет делят между собой {@code workers} рабочих потоков: каждый берёт следующий номер лабиринта из общего
+ * счётчика, поэтому быстрые потоки забирают больше работы. У каждого рабочего потока свой генератор
+ * из фабрики, и генераторы, переиспользующие рабочие массивы между вызовами (например,
+ * {@link backend.academy.generators.impl.PrimMazeGenerator#perWorker()}), выделяют их один раз на поток,
+ * а не на лабиринт; массивы живут, пока идёт пакет, и освобождаются вместе с рабочим потоком.
+ * По умолчанию рабочие потоки виртуальные и их столько же, сколько ядер, — по одному на поток-носитель;
+ * через {@link ThreadFactory} можно взять платформенные потоки.
+ * </p>
+ * <p>
+ * Лабиринт с номером {@code i} строится по зерну {@link RandomStreams#childSeed(long, long)} от зерна пакета
+ * и номера, поэтому пакет воспроизводим при любом числе потоков, а любой его лабиринт можно построить отдельно.
+ * </p>
+ */
+public class BatchGenerator {
+
+    private final Supplier<? extends Generator> generators;
+    private final int workers;
+    private final ThreadFactory threads;
+
+    /**
+     * Создаёт пакетный генератор на виртуальных потоках по числу ядер.
+     *
+     * @param generators фабрика генераторов, вызывается один раз на рабочий поток
+     */
+    public BatchGenerator(Supplier<? extends Generator> generators) {
+        this(generators, Runtime.getRuntime().availableProcessors(), Thread.ofVirtual().factory());
+    }
+
+    /**
+     * Создаёт пакетный генератор.
+     *
+     * @param generators фабрика генераторов, вызывается один раз на рабочий поток
+     * @param workers    число рабочих потоков
+     * @param threads    фабрика рабочих потоков
+     * @throws IllegalArgumentException если число рабочих потоков не положительно
+     */
+    public BatchGenerator(Supplier<? extends Generator> generators, int workers, ThreadFactory threads) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Число рабочих потоков должно быть положительным: " + workers);
+        }
+        this.generators = generators;
+        this.workers = workers;
+        this.threads = threads;
+    }
+
+    /**
+     * Генерирует {@code count} лабиринтов и передаёт каждый потребителю сразу после построения.
+     * Потребитель вызывается из рабочих потоков одновременно и в произвольном порядке номеров,
+     * поэтому он должен быть потокобезопасным. Метод возвращается, когда все лабиринты переданы.
+     *
+     * @param count    количество лабиринтов
+     * @param height   высота лабиринтов
+     * @param width    ширина лабиринтов
+     * @param seed     зерно пакета
+     * @param consumer потребитель лабиринта и его номера в пакете
+     * @throws IllegalStateException если генерация была прервана
+     */
+    public void generateAll(int count, int height, int width, long seed, ObjIntConsumer<Maze> consumer) {
+        AtomicLong next = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>(workers);
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(threads)) {
+            for (int i = 0; i < Math.min(workers, count); i++) {
+                futures.add(executor.submit(() -> work(generators.get(), next, count, height, width, seed, consumer)));
+            }
+            for (Future<?> future : futures) {
+                join(future, next, count);
+            }
+        }
+    }
+
+    /**
+     * Цикл рабочего потока: строит лабиринты со следующими номерами, пока они не кончатся.
+     */
+    private static void work(Generator generator, AtomicLong next, int count, int height, int width, long seed,
+        ObjIntConsumer<Maze> consumer) {
+        for (long index = next.getAndIncrement(); index < count; index = next.getAndIncrement()) {
+            consumer.accept(generator.generate(height, width, RandomStreams.childSeed(seed, index)), (int) index);
+        }
+    }
+
+    /**
+     * Дожидается рабочего потока. При ошибке останавливает остальные потоки и пробрасывает её.
+     */
+    private static void join(Future<?> future, AtomicLong next, int count) {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            next.set(count);
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            next.set(count);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Пакетная генерация прервана.", e);
+        }
+    }
+}
@@ -1,7 +1,49 @@
 package backend.academy.generators;
 
 import backend.academy.dto.Maze;
+import backend.academy.storage.HeapMazeStorage;
+import backend.academy.storage.MazeStorage;
+import java.util.function.LongFunction;
 
 public interface Generator {
-    Maze generate(int height, int width);
+    default Maze generate(int height, int width) {
+        return generate(height, width, HeapMazeStorage::new);
+    }
+
+    /**
+     * Генерирует лабиринт в хранилище, выделенном фабрикой по числу клеток.
+     * Так лабиринт можно построить сразу вне кучи, например, передав {@code OffHeapMazeStorage::new}.
+     *
+     * @param height  высота лабиринта
+     * @param width   ширина лабиринта
+     * @param storage фабрика хранилища, принимающая количество клеток
+     * @return сгенерированный лабиринт
+     */
+    default Maze generate(int height, int width, LongFunction<MazeStorage> storage) {
+        return generate(height, width, RandomStreams.randomSeed(), storage);
+    }
+
+    /**
+     * Генерирует лабиринт по зерну в куче.
+     *
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param seed   зерно
+     * @return сгенерированный лабиринт
+     */
+    default Maze generate(int height, int width, long seed) {
+        return generate(height, width, seed, HeapMazeStorage::new);
+    }
+
+    /**
+     * Генерирует лабиринт по зерну. Одно и то же зерно с теми же размерами даёт побайтно тот же лабиринт;
+     * случайные числа берутся из потоков {@link RandomStreams}.
+     *
+     * @param height  высота лабиринта
+     * @param width   ширина лабиринта
+     * @param seed    зерно
+     * @param storage фабрика хранилища, принимающая количество клеток
+     * @return сгенерированный лабиринт
+     */
+    Maze generate(int height, int width, long seed, LongFunction<MazeStorage> storage);
 }
@@ -0,0 +1,21 @@
+package backend.academy.generators;
+
+import java.io.IOException;
+
+/**
+ * Получатель лабиринта, который генератор выдаёт по строкам, не собирая его целиком.
+ * Строки передаются по порядку, от нулевой до последней.
+ */
+@FunctionalInterface
+public interface MazeRowConsumer {
+
+    /**
+     * Принимает очередную строку лабиринта.
+     *
+     * @param row   номер строки
+     * @param codes коды клеток строки в формате {@link backend.academy.dto.Maze#code(long)}; массив переиспользуется
+     *              генератором для следующей строки, поэтому сохранять его нельзя
+     * @throws IOException если получатель не смог записать строку
+     */
+    void accept(int row, byte[] codes) throws IOException;
+}
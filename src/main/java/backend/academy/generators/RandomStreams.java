@@ -0,0 +1,77 @@
+package backend.academy.generators;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Детерминированные потоки случайных чисел для генерации лабиринтов по зерну.
+ * <p>
+ * Потоки — генераторы LXM {@code L64X128MixRandom}: быстрее {@link java.util.Random} и без общего
+ * атомарного состояния, поэтому каждый поток используется одним потоком выполнения без синхронизации.
+ * </p>
+ * <p>
+ * Дочерний поток задаётся парой (зерно, номер), а не порядком создания, как при {@code split()}: номер
+ * выбирается по области лабиринта или задаче, поэтому одна и та же область получает одни и те же числа
+ * независимо от числа потоков выполнения и порядка, в котором они до неё дошли.
+ * </p>
+ */
+@UtilityClass
+public class RandomStreams {
+
+    private static final RandomGeneratorFactory<RandomGenerator> FACTORY =
+        RandomGeneratorFactory.of("L64X128MixRandom");
+
+    // Константы перемешивания SplitMix64
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long MIX_FIRST = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_SECOND = 0x94D049BB133111EBL;
+    private static final int SHIFT_FIRST = 30;
+    private static final int SHIFT_SECOND = 27;
+    private static final int SHIFT_THIRD = 31;
+
+    /**
+     * Создаёт основной поток для зерна.
+     *
+     * @param seed зерно
+     * @return новый генератор случайных чисел
+     */
+    public static RandomGenerator of(long seed) {
+        return FACTORY.create(seed);
+    }
+
+    /**
+     * Создаёт дочерний поток с номером {@code stream}. Потоки с разными номерами статистически независимы
+     * друг от друга и от основного потока.
+     *
+     * @param seed   зерно
+     * @param stream номер дочернего потока, например номер области лабиринта
+     * @return новый генератор случайных чисел
+     */
+    public static RandomGenerator of(long seed, long stream) {
+        return FACTORY.create(childSeed(seed, stream));
+    }
+
+    /**
+     * Выводит зерно дочернего потока.
+     *
+     * @param seed   зерно
+     * @param stream номер дочернего потока
+     * @return зерно дочернего потока
+     */
+    public static long childSeed(long seed, long stream) {
+        long z = seed + (stream + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> SHIFT_FIRST)) * MIX_FIRST;
+        z = (z ^ (z >>> SHIFT_SECOND)) * MIX_SECOND;
+        return z ^ (z >>> SHIFT_THIRD);
+    }
+
+    /**
+     * Выбирает случайное зерно для генерации без заданного зерна.
+     *
+     * @return новое зерно
+     */
+    public static long randomSeed() {
+        return RandomGenerator.getDefault().nextLong();
+    }
+}
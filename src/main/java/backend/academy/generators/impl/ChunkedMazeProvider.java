@@ -0,0 +1,205 @@
+package backend.academy.generators.impl;
+
+import backend.academy.dto.Cell;
+import backend.academy.dto.Maze;
+import backend.academy.generators.RandomStreams;
+import backend.academy.storage.MazeStorage;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.lang.foreign.MemorySegment;
+import java.util.random.RandomGenerator;
+
+/**
+ * Бесконечный лабиринт, разбитый на квадратные чанки, которые строятся по запросу.
+ * <p>
+ * Клетка задаётся парой координат {@code long}, в том числе отрицательных. Чанк {@code (chunkRow, chunkCol)}
+ * занимает {@code 2 * chunkSize} строк и столбцов лабиринта и зависит только от зерна и своих координат:
+ * внутри чанка остовное дерево строится алгоритмом Краскала из дочернего потока {@link RandomStreams#of(long, long)}
+ * с номером чанка. Верхняя строка и левый столбец чанка — его граница с соседями сверху и слева, в каждой
+ * из них чанк сам прорубает одну дверь. Граница между соседями принадлежит ровно одному из них, поэтому
+ * соединения на границах согласованы независимо от того, в каком порядке и сколько раз строились чанки.
+ * </p>
+ * <p>
+ * Каждый чанк внутри — дерево, но двери ко всем четырём соседям образуют циклы на масштабе чанков:
+ * бесконечный лабиринт связен, но не идеален.
+ * </p>
+ * <p>
+ * Построенные чанки хранятся в кэше Caffeine, ограниченном числом чанков; вытесненный чанк при следующем
+ * обращении строится заново с тем же результатом. Провайдер потокобезопасен.
+ * </p>
+ */
+public class ChunkedMazeProvider {
+
+    /**
+     * Сторона чанка по умолчанию в клетках-проходах: чанк занимает 4 КБ.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 32;
+
+    /**
+     * Число чанков в кэше по умолчанию: около 4 МБ.
+     */
+    public static final long DEFAULT_CACHE_SIZE = 1024;
+
+    private static final long LOW_BITS = 0xFFFF_FFFFL;
+
+    private final long seed;
+    private final int chunkSize;
+    private final int side;
+    private final LoadingCache<Long, Maze> chunks;
+
+    /**
+     * Создаёт провайдер с чанками {@link #DEFAULT_CHUNK_SIZE} и кэшем на {@link #DEFAULT_CACHE_SIZE} чанков.
+     *
+     * @param seed зерно лабиринта
+     */
+    public ChunkedMazeProvider(long seed) {
+        this(seed, DEFAULT_CHUNK_SIZE, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Создаёт провайдер.
+     *
+     * @param seed      зерно лабиринта
+     * @param chunkSize сторона чанка в клетках-проходах
+     * @param cacheSize наибольшее число чанков в кэше
+     * @throws IllegalArgumentException если сторона чанка или размер кэша не положительны
+     */
+    public ChunkedMazeProvider(long seed, int chunkSize, long cacheSize) {
+        if (chunkSize <= 0 || cacheSize <= 0) {
+            throw new IllegalArgumentException("Сторона чанка и размер кэша должны быть положительными.");
+        }
+        this.seed = seed;
+        this.chunkSize = chunkSize;
+        this.side = chunkSize * 2;
+        this.chunks = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .build(this::build);
+    }
+
+    /**
+     * Возвращает сторону чанка в клетках лабиринта.
+     *
+     * @return {@code 2 * chunkSize}
+     */
+    public int chunkSide() {
+        return side;
+    }
+
+    /**
+     * Возвращает чанк, строя его при первом обращении. Чанк нельзя изменять: он разделяется между потоками.
+     *
+     * @param chunkRow номер строки чанков
+     * @param chunkCol номер столбца чанков
+     * @return лабиринт чанка размером {@link #chunkSide()} на {@link #chunkSide()}
+     */
+    public Maze chunk(int chunkRow, int chunkCol) {
+        return chunks.get(key(chunkRow, chunkCol));
+    }
+
+    /**
+     * Возвращает код клетки бесконечного лабиринта.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @return {@link Maze#WALL} или код поверхности прохода
+     */
+    public byte code(long row, long col) {
+        Maze chunk = chunk(Math.toIntExact(Math.floorDiv(row, side)), Math.toIntExact(Math.floorDiv(col, side)));
+        return chunk.code(chunk.index(Math.floorMod(row, side), Math.floorMod(col, side)));
+    }
+
+    /**
+     * Возвращает прямоугольное окно бесконечного лабиринта как обычный лабиринт только для чтения.
+     * Клетка {@code (r, c)} окна — клетка {@code (firstRow + r, firstCol + c)} бесконечного лабиринта,
+     * поэтому любой решатель ищет путь в окне через границы чанков.
+     * <p>
+     * Окно не копирует клетки, а читает их из чанков провайдера и запоминает последний прочитанный чанк.
+     * Из-за этого одно окно нельзя читать из нескольких потоков; окна одного провайдера независимы.
+     * </p>
+     *
+     * @param firstRow первая строка окна
+     * @param firstCol первый столбец окна
+     * @param height   высота окна
+     * @param width    ширина окна
+     * @return лабиринт-окно
+     */
+    public Maze window(long firstRow, long firstCol, int height, int width) {
+        return new Maze(height, width, new WindowStorage(firstRow, firstCol, height, width));
+    }
+
+    /**
+     * Строит чанк: дерево клеток-проходов на нечётных строках и столбцах и по одной двери в верхней
+     * и левой границах. Угловая клетка границы всегда остаётся стеной.
+     */
+    private Maze build(long key) {
+        RandomGenerator random = RandomStreams.of(seed, key);
+        Maze chunk = new Maze(side, side);
+        KruskalMazeGenerator.carve(chunk, random, 0, 0, chunkSize, chunkSize);
+        chunk.setPassage(chunk.index(0, random.nextInt(chunkSize) * 2 + 1), Cell.Surface.randomSurface(random));
+        chunk.setPassage(chunk.index(random.nextInt(chunkSize) * 2 + 1, 0), Cell.Surface.randomSurface(random));
+        return chunk;
+    }
+
+    private static long key(int chunkRow, int chunkCol) {
+        return (long) chunkRow << Integer.SIZE | chunkCol & LOW_BITS;
+    }
+
+    /**
+     * Хранилище окна: переводит индекс клетки окна в координаты бесконечного лабиринта.
+     */
+    private final class WindowStorage implements MazeStorage {
+
+        private final long firstRow;
+        private final long firstCol;
+        private final int width;
+        private final long size;
+
+        // Последний прочитанный чанк: соседние клетки почти всегда лежат в одном чанке
+        private long lastKey;
+        private Maze last;
+
+        private WindowStorage(long firstRow, long firstCol, int height, int width) {
+            this.firstRow = firstRow;
+            this.firstCol = firstCol;
+            this.width = width;
+            this.size = (long) height * width;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public byte get(long index) {
+            long row = firstRow + index / width;
+            long col = firstCol + index % width;
+            long key = key(Math.toIntExact(Math.floorDiv(row, side)), Math.toIntExact(Math.floorDiv(col, side)));
+            if (last == null || key != lastKey) {
+                last = chunks.get(key);
+                lastKey = key;
+            }
+            return last.code(last.index(Math.floorMod(row, side), Math.floorMod(col, side)));
+        }
+
+        @Override
+        public void set(long index, byte code) {
+            throw new UnsupportedOperationException("Окно бесконечного лабиринта открыто только для чтения.");
+        }
+
+        @Override
+        public MemorySegment asSegment() {
+            throw new UnsupportedOperationException("Клетки окна не лежат в непрерывной памяти.");
+        }
+
+        @Override
+        public long byteSize() {
+            return 0;
+        }
+
+        @Override
+        public boolean isNative() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package backend.academy.generators.impl;
+
+/**
+ * Система непересекающихся множеств (union-find) на примитивных массивах.
+ * <p>
+ * Элементы задаются целыми индексами от {@code 0} до {@code size - 1}.
+ * Используются сжатие путей и объединение по рангу, поэтому амортизированная стоимость
+ * операций практически константна, а на каждый элемент приходится лишь два {@code int}.
+ * </p>
+ */
+final class DisjointSet {
+
+    private final int[] parent;
+    private final int[] rank;
+
+    /**
+     * Создаёт {@code size} одноэлементных множеств.
+     *
+     * @param size количество элементов
+     */
+    DisjointSet(int size) {
+        parent = new int[size];
+        rank = new int[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+    }
+
+    /**
+     * Находит представителя множества, содержащего элемент, и сжимает путь до него.
+     *
+     * @param element индекс элемента
+     * @return индекс представителя множества
+     */
+    int find(int element) {
+        int root = element;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // Сжатие пути: перенаправляем все элементы на пути прямо на корень
+        int current = element;
+        while (parent[current] != root) {
+            int next = parent[current];
+            parent[current] = root;
+            current = next;
+        }
+        return root;
+    }
+
+    /**
+     * Объединяет множества, содержащие два элемента.
+     *
+     * @param first  индекс первого элемента
+     * @param second индекс второго элемента
+     * @return {@code true}, если элементы принадлежали разным множествам и были объединены
+     */
+    boolean union(int first, int second) {
+        int rootFirst = find(first);
+        int rootSecond = find(second);
+        if (rootFirst == rootSecond) {
+            return false;
+        }
+        // Объединение по рангу: меньшее дерево подвешивается к большему
+        if (rank[rootFirst] < rank[rootSecond]) {
+            parent[rootFirst] = rootSecond;
+        } else if (rank[rootFirst] > rank[rootSecond]) {
+            parent[rootSecond] = rootFirst;
+        } else {
+            parent[rootSecond] = rootFirst;
+            rank[rootFirst]++;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,249 @@
+package backend.academy.generators.impl;
+
+import backend.academy.dto.Cell;
+import backend.academy.dto.Maze;
+import backend.academy.generators.Generator;
+import backend.academy.generators.MazeRowConsumer;
+import backend.academy.generators.RandomStreams;
+import backend.academy.storage.MazeStorage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Генератор лабиринта по алгоритму Эллера, который выдаёт лабиринт по строкам.
+ * <p>
+ * Алгоритм проходит строки клеток-проходов сверху вниз и помнит только множества клеток текущей строки:
+ * <ul>
+ *     <li>клеткам, в которые не ведёт проход сверху, назначаются новые множества;</li>
+ *     <li>соседние клетки разных множеств случайно соединяются, и их множества объединяются;</li>
+ *     <li>из каждого множества вниз ведёт хотя бы один проход, иначе множество оторвалось бы от лабиринта;</li>
+ *     <li>в последней строке соединяются все соседние клетки разных множеств.</li>
+ * </ul>
+ * Клетки одного множества уже связаны, а соединяются только разные множества, поэтому лабиринт идеален.
+ * </p>
+ * <p>
+ * Потоковый метод {@link #stream(int, int, long, MazeRowConsumer)} держит в памяти O(ширины): строку кодов
+ * и массивы множеств. Высота ограничена лишь номером строки {@code int}, так что лабиринт можно сразу писать
+ * в файл, в терминал или в хеш, не собирая его в {@link Maze}.
+ * </p>
+ */
+public class EllerMazeGenerator implements Generator {
+
+    /**
+     * Генерирует лабиринт с указанными высотой и шириной по зерну, собирая его строки в хранилище.
+     *
+     * @param heightP высота лабиринта (если чётное число, будет увеличено на 1)
+     * @param widthP  ширина лабиринта (если чётное число, будет увеличено на 1)
+     * @param seed    зерно генерации
+     * @param storage фабрика хранилища клеток, принимающая их количество
+     * @return объект {@link Maze}, представляющий сгенерированный лабиринт
+     */
+    @Override
+    public Maze generate(int heightP, int widthP, long seed, LongFunction<MazeStorage> storage) {
+        int height = heightP;
+        int width = widthP;
+
+        if (height % 2 == 0) {
+            height += 1;
+        }
+        if (width % 2 == 0) {
+            width += 1;
+        }
+
+        MazeStorage cells = storage.apply((long) height * width);
+        long rowLength = width;
+        try {
+            stream(height, width, seed, (row, codes) -> {
+                for (int col = 0; col < codes.length; col++) {
+                    if (codes[col] != Maze.WALL) {
+                        cells.set(row * rowLength + col, codes[col]);
+                    }
+                }
+            });
+        } catch (IOException e) {
+            // Запись в хранилище не бросает IOException
+            throw new UncheckedIOException(e);
+        }
+        return new Maze(height, width, cells);
+    }
+
+    /**
+     * Генерирует лабиринт по зерну и передаёт его строки получателю по порядку. С тем же зерном и размерами
+     * строки совпадают с лабиринтом из {@link #generate(int, int, long)}.
+     *
+     * @param heightP  высота лабиринта (если чётное число, будет увеличено на 1)
+     * @param widthP   ширина лабиринта (если чётное число, будет увеличено на 1)
+     * @param seed     зерно генерации
+     * @param consumer получатель строк
+     * @throws IOException если получатель не смог записать строку
+     */
+    public void stream(int heightP, int widthP, long seed, MazeRowConsumer consumer) throws IOException {
+        int height = heightP;
+        int width = widthP;
+
+        if (height % 2 == 0) {
+            height += 1;
+        }
+        if (width % 2 == 0) {
+            width += 1;
+        }
+
+        RandomGenerator random = RandomStreams.of(seed);
+        int passageRows = height / 2;
+        int passageCols = width / 2;
+        Sets sets = new Sets(passageCols);
+        byte[] codes = new byte[width];
+
+        // Верхняя граница — сплошная стена
+        consumer.accept(0, codes);
+
+        for (int r = 0; r < passageRows; r++) {
+            boolean last = r == passageRows - 1;
+            sets.startRow();
+
+            // Строка клеток-проходов: клетки на нечётных столбцах, между ними — стены или переходы
+            for (int c = 0; c < passageCols; c++) {
+                codes[c * 2 + 1] = surfaceCode(random);
+            }
+            for (int c = 0; c + 1 < passageCols; c++) {
+                if (sets.separate(c, c + 1) && (last || random.nextBoolean())) {
+                    sets.union(c, c + 1);
+                    codes[c * 2 + 2] = surfaceCode(random);
+                }
+            }
+            consumer.accept(r * 2 + 1, codes);
+            Arrays.fill(codes, Maze.WALL);
+
+            // Строка стен под ней: проходы вниз; под последней строкой — нижняя граница
+            if (!last) {
+                boolean[] down = sets.chooseDown(random);
+                for (int c = 0; c < passageCols; c++) {
+                    if (down[c]) {
+                        codes[c * 2 + 1] = surfaceCode(random);
+                    }
+                }
+            }
+            consumer.accept(r * 2 + 2, codes);
+            Arrays.fill(codes, Maze.WALL);
+        }
+    }
+
+    private static byte surfaceCode(RandomGenerator random) {
+        return (byte) (Cell.Surface.randomSurface(random).ordinal() + 1);
+    }
+
+    /**
+     * Множества клеток текущей строки: у каждого столбца — метка, метки объединяются системой
+     * непересекающихся множеств. Меток не больше, чем столбцов, поэтому освободившиеся метки переиспользуются
+     * со следующей строки, и все массивы имеют длину, равную числу столбцов.
+     */
+    private static final class Sets {
+
+        private static final int NONE = -1;
+
+        private final int[] labels;
+        private final int[] parent;
+        private final int[] free;
+        private int freeCount;
+
+        private final boolean[] down;
+        private final boolean[] used;
+        private final int[] sizes;
+        private final int[] candidates;
+
+        Sets(int columns) {
+            labels = new int[columns];
+            parent = new int[columns];
+            free = new int[columns];
+            down = new boolean[columns];
+            used = new boolean[columns];
+            sizes = new int[columns];
+            candidates = new int[columns];
+            Arrays.fill(labels, NONE);
+            for (int label = 0; label < columns; label++) {
+                parent[label] = label;
+                free[label] = columns - 1 - label;
+            }
+            freeCount = columns;
+        }
+
+        /**
+         * Назначает новые множества клеткам, в которые не ведёт проход сверху.
+         */
+        void startRow() {
+            for (int c = 0; c < labels.length; c++) {
+                if (labels[c] == NONE) {
+                    labels[c] = free[--freeCount];
+                }
+            }
+        }
+
+        boolean separate(int first, int second) {
+            return find(labels[first]) != find(labels[second]);
+        }
+
+        void union(int first, int second) {
+            parent[find(labels[first])] = find(labels[second]);
+        }
+
+        /**
+         * Выбирает проходы вниз: каждая клетка ведёт вниз с вероятностью 1/2, а множество без прохода вниз
+         * получает его в случайной клетке (выборка с резервуаром). Затем готовит метки следующей строки.
+         *
+         * @return признаки прохода вниз по столбцам; массив переиспользуется
+         */
+        boolean[] chooseDown(RandomGenerator random) {
+            for (int c = 0; c < labels.length; c++) {
+                labels[c] = find(labels[c]);
+                sizes[labels[c]] = 0;
+                used[labels[c]] = false;
+            }
+            for (int c = 0; c < labels.length; c++) {
+                int set = labels[c];
+                down[c] = random.nextBoolean();
+                used[set] |= down[c];
+                if (random.nextInt(++sizes[set]) == 0) {
+                    candidates[set] = c;
+                }
+            }
+            for (int c = 0; c < labels.length; c++) {
+                int set = labels[c];
+                if (!used[set]) {
+                    down[candidates[set]] = true;
+                    used[set] = true;
+                }
+            }
+
+            // Клетки с проходом вниз передают множество следующей строке, остальные метки освобождаются
+            Arrays.fill(used, false);
+            for (int c = 0; c < labels.length; c++) {
+                if (down[c]) {
+                    used[labels[c]] = true;
+                } else {
+                    labels[c] = NONE;
+                }
+            }
+            freeCount = 0;
+            for (int label = parent.length - 1; label >= 0; label--) {
+                parent[label] = label;
+                if (!used[label]) {
+                    free[freeCount++] = label;
+                }
+            }
+            return down;
+        }
+
+        private int find(int label) {
+            int current = label;
+            while (parent[current] != current) {
+                // Сокращение пути вдвое: каждая пройденная метка перенаправляется на деда
+                parent[current] = parent[parent[current]];
+                current = parent[current];
+            }
+            return current;
+        }
+    }
+}
@@ -1,17 +1,12 @@
 package backend.academy.generators.impl;
 
 import backend.academy.dto.Cell;
-import backend.academy.dto.Coordinate;
 import backend.academy.dto.Maze;
 import backend.academy.generators.Generator;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.Set;
+import backend.academy.generators.RandomStreams;
+import backend.academy.storage.MazeStorage;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
 
 /**
  * Алгоритм Краскала для генерации минимального остовного дерева.
@@ -22,7 +17,8 @@ import java.util.Set;
  * Лабиринт создаётся по следующей логике:
  * <ul>
  *     <li>Инициализируется сетка с клетками-стенами и клетками-проходами.</li>
- *     <li>Клетки проходы добавляются в одни множества, а рёбра в другие.</li>
+ *     <li>Каждая клетка-проход образует отдельное множество в системе непересекающихся множеств
+ *     ({@link DisjointSet}), а рёбра между соседними клетками упаковываются в массив {@code int}.</li>
  *     <li>Рёбра случайным образом перемешиваются и соединяют множества, пока не останется одно множество.</li>
  *     <li>Переходы между соседними клетками образуются, если эти клетки принадлежат разным множествам.</li>
  * </ul>
@@ -31,15 +27,22 @@ import java.util.Set;
  */
 public class KruskalMazeGenerator implements Generator {
 
+    private static final int EDGE_DOWN = 0;
+
+    private static final int EDGE_RIGHT = 1;
+
     /**
-     * Генерирует лабиринт с указанными высотой и шириной.
+     * Генерирует лабиринт с указанными высотой и шириной по зерну.
      *
      * @param heightP высота лабиринта (если чётное число, будет увеличено на 1).
      * @param widthP  ширина лабиринта (если чётное число, будет увеличено на 1).
+     * @param seed    зерно генерации.
+     * @param storage фабрика хранилища клеток, принимающая их количество.
      * @return объект {@link Maze}, представляющий сгенерированный лабиринт.
+     * @throws IllegalStateException если клеток больше, чем помещается в массив Java
      */
     @Override
-    public Maze generate(int heightP, int widthP) {
+    public Maze generate(int heightP, int widthP, long seed, LongFunction<MazeStorage> storage) {
         int height = heightP;
         int width = widthP;
 
@@ -50,60 +53,103 @@ public class KruskalMazeGenerator implements Generator {
             width += 1;
         }
 
-        Cell[][] grid = new Cell[height][width];
-        List<Edge> edges = new ArrayList<>();
-        Map<Coordinate, Set<Coordinate>> sets = new HashMap<>();
-        Random random = new Random();
+        // Номера клеток-проходов и рёбра хранятся в массивах int, поэтому размер проверяется до выделения хранилища
+        long cellCount = (long) height * width;
+        if (cellCount > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Лабиринт из " + cellCount + " клеток слишком велик для массивов в куче.");
+        }
+        Maze maze = new Maze(height, width, storage.apply(cellCount));
+        carve(maze, RandomStreams.of(seed), 0, 0, height / 2, width / 2);
+        return maze;
+    }
 
-        // Инициализация сетки с клетками-стенами и проходами
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                if (row % 2 == 0 || col % 2 == 0) {
-                    grid[row][col] = new Cell(row, col, Cell.Type.WALL);
-                } else {
-                    grid[row][col] = new Cell(row, col, Cell.Type.PASSAGE, Cell.Surface.randomSurface(random));
-                    Coordinate coord = new Coordinate(row, col);
-                    sets.put(coord, new HashSet<>(Collections.singletonList(coord)));
+    /**
+     * Строит остовное дерево алгоритмом Краскала на прямоугольнике клеток-проходов. Клетка-проход с номером
+     * {@code (r, c)} лежит в строке {@code 2r + 1} и столбце {@code 2c + 1} лабиринта. Меняются только клетки
+     * внутри прямоугольника, поэтому непересекающиеся прямоугольники одного лабиринта можно строить параллельно.
+     *
+     * @param maze        лабиринт, заполненный стенами внутри прямоугольника
+     * @param random      поток случайных чисел прямоугольника
+     * @param firstRow    номер первой строки клеток-проходов прямоугольника
+     * @param firstCol    номер первого столбца клеток-проходов прямоугольника
+     * @param passageRows количество строк клеток-проходов; при нуле прямоугольник пуст
+     * @param passageCols количество столбцов клеток-проходов; при нуле прямоугольник пуст
+     */
+    static void carve(Maze maze, RandomGenerator random, int firstRow, int firstCol, int passageRows, int passageCols) {
+        // Лабиринт высотой или шириной меньше трёх не содержит клеток-проходов и остаётся из стен
+        if (passageRows == 0 || passageCols == 0) {
+            return;
+        }
+        int top = firstRow * 2 + 1;
+        int left = firstCol * 2 + 1;
 
-                    // Добавление рёбер между соседними клетками
-                    if (row + 2 < height) {
-                        edges.add(new Edge(coord, new Coordinate(row + 2, col)));
-                    }
-                    if (col + 2 < width) {
-                        edges.add(new Edge(coord, new Coordinate(row, col + 2)));
-                    }
-                }
+        // Клетки-проходы нумеруются компактно внутри прямоугольника: id = r * passageCols + c
+        DisjointSet sets = new DisjointSet(passageRows * passageCols);
+
+        // Клетки на нечётных строках и столбцах становятся проходами, остальные остаются стенами
+        for (int r = 0; r < passageRows; r++) {
+            for (int c = 0; c < passageCols; c++) {
+                maze.setPassage(maze.index(top + r * 2, left + c * 2), Cell.Surface.randomSurface(random));
             }
         }
 
-        // Перемешиваем рёбра и соединяем клетки
-        Collections.shuffle(edges);
-        for (Edge edge : edges) {
-            Coordinate cell1 = edge.cell1();
-            Coordinate cell2 = edge.cell2();
+        // Добавление рёбер между соседними клетками и их перемешивание
+        int[] edges = collectEdges(passageRows, passageCols);
+        shuffle(edges, random);
 
-            Set<Coordinate> set1 = sets.get(cell1);
-            Set<Coordinate> set2 = sets.get(cell2);
+        // Соединяем клетки, принадлежащие разным множествам
+        for (int edge : edges) {
+            int cell1 = edge >>> 1;
+            int cell2 = (edge & 1) == EDGE_DOWN ? cell1 + passageCols : cell1 + 1;
 
-            // Если клетки принадлежат разным множествам, соединяем их
-            if (!set1.equals(set2)) {
-                int betweenRow = (cell1.row() + cell2.row()) / 2;
-                int betweenCol = (cell1.col() + cell2.col()) / 2;
-                grid[betweenRow][betweenCol] =
-                    new Cell(betweenRow, betweenCol, Cell.Type.PASSAGE, Cell.Surface.randomSurface(random));
+            if (sets.union(cell1, cell2)) {
+                int row1 = top + (cell1 / passageCols) * 2;
+                int col1 = left + (cell1 % passageCols) * 2;
+                int betweenRow = (edge & 1) == EDGE_DOWN ? row1 + 1 : row1;
+                int betweenCol = (edge & 1) == EDGE_DOWN ? col1 : col1 + 1;
+                maze.setPassage(maze.index(betweenRow, betweenCol), Cell.Surface.randomSurface(random));
+            }
+        }
+    }
 
-                set1.addAll(set2);
-                for (Coordinate coord : set2) {
-                    sets.put(coord, set1);
+    /**
+     * Формирует список всех рёбер между соседними клетками-проходами.
+     * Ребро упаковано в {@code int}: старшие биты хранят номер клетки, младший бит — направление
+     * ({@link #EDGE_DOWN} или {@link #EDGE_RIGHT}).
+     *
+     * @param passageRows количество строк клеток-проходов
+     * @param passageCols количество столбцов клеток-проходов
+     * @return массив упакованных рёбер
+     */
+    private static int[] collectEdges(int passageRows, int passageCols) {
+        int[] edges = new int[passageRows * (passageCols - 1) + (passageRows - 1) * passageCols];
+        int count = 0;
+        for (int r = 0; r < passageRows; r++) {
+            for (int c = 0; c < passageCols; c++) {
+                int id = r * passageCols + c;
+                if (r + 1 < passageRows) {
+                    edges[count++] = id << 1 | EDGE_DOWN;
+                }
+                if (c + 1 < passageCols) {
+                    edges[count++] = id << 1 | EDGE_RIGHT;
                 }
             }
         }
-
-        return new Maze(height, width, grid);
+        return edges;
     }
 
     /**
-     * Вспомогательный класс для представления рёбер между клетками.
+     * Перемешивает массив алгоритмом Фишера–Йетса.
+     *
+     * @param edges  массив упакованных рёбер
+     * @param random экземпляр {@link RandomGenerator}
      */
-    private record Edge(Coordinate cell1, Coordinate cell2) {}
+    static void shuffle(int[] edges, RandomGenerator random) {
+        for (int i = edges.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = edges[i];
+            edges[i] = edges[j];
+            edges[j] = tmp;
+        }
+    }
 }
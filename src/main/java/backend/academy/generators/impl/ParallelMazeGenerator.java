@@ -0,0 +1,224 @@
+package backend.academy.generators.impl;
+
+import backend.academy.dto.Cell;
+import backend.academy.dto.Maze;
+import backend.academy.generators.Generator;
+import backend.academy.generators.RandomStreams;
+import backend.academy.storage.MazeStorage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Параллельный генератор лабиринта: сетка клеток-проходов делится на квадратные плитки, остовное дерево каждой
+ * плитки строится алгоритмом Краскала отдельной задачей {@link ForkJoinPool}, затем плитки сшиваются.
+ * <p>
+ * Сшивка — случайный проход системы непересекающихся множеств по плиткам: для каждой пары соседних плиток
+ * на их общей границе выбирается случайная дверь, двери перемешиваются и прорубаются, если соединяют ещё
+ * не связанные плитки. Каждая плитка внутри — дерево, а двери образуют остовное дерево графа плиток,
+ * поэтому весь лабиринт остаётся идеальным.
+ * </p>
+ * <p>
+ * Плитка берёт случайные числа из дочернего потока {@link RandomStreams#of(long, long)} со своим номером,
+ * сшивка — из потока с номером, следующим за последней плиткой. Поэтому лабиринт по зерну побайтно одинаков
+ * при любом числе потоков выполнения. Соседние плитки соединены не более чем одной дверью, и на крупном
+ * масштабе границы плиток заметны — это плата за независимость плиток.
+ * </p>
+ */
+public class ParallelMazeGenerator implements Generator {
+
+    /**
+     * Сторона плитки по умолчанию в клетках-проходах: рабочие массивы задачи занимают около 0,5 МБ.
+     */
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private static final int DOOR_SHIFT = 1;
+    private static final int DOOR_DOWN = 0;
+    private static final int DOOR_RIGHT = 1;
+
+    private final int tileSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * Создаёт генератор с плитками {@link #DEFAULT_TILE_SIZE} на общем пуле {@link ForkJoinPool#commonPool()}.
+     */
+    public ParallelMazeGenerator() {
+        this(DEFAULT_TILE_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Создаёт генератор.
+     *
+     * @param tileSize сторона плитки в клетках-проходах
+     * @param pool     пул, в котором строятся плитки; его параллелизм задаёт число потоков
+     * @throws IllegalArgumentException если сторона плитки не положительна
+     */
+    public ParallelMazeGenerator(int tileSize, ForkJoinPool pool) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Сторона плитки должна быть положительной: " + tileSize);
+        }
+        this.tileSize = tileSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Генерирует лабиринт с указанными высотой и шириной по зерну.
+     *
+     * @param heightP высота лабиринта (если чётное число, будет увеличено на 1)
+     * @param widthP  ширина лабиринта (если чётное число, будет увеличено на 1)
+     * @param seed    зерно генерации
+     * @param storage фабрика хранилища клеток, принимающая их количество
+     * @return объект {@link Maze}, представляющий сгенерированный лабиринт
+     */
+    @Override
+    public Maze generate(int heightP, int widthP, long seed, LongFunction<MazeStorage> storage) {
+        int height = heightP;
+        int width = widthP;
+
+        if (height % 2 == 0) {
+            height += 1;
+        }
+        if (width % 2 == 0) {
+            width += 1;
+        }
+
+        Maze maze = new Maze(height, width, storage.apply((long) height * width));
+        Tiling tiling = new Tiling(height / 2, width / 2, tileSize);
+
+        // В лабиринте высотой или шириной меньше трёх нет ни одной плитки: он состоит из стен
+        if (tiling.count() == 0) {
+            return maze;
+        }
+        pool.invoke(new TileTask(maze, seed, tiling, 0, tiling.count()));
+        stitch(maze, RandomStreams.of(seed, tiling.count()), tiling);
+        return maze;
+    }
+
+    /**
+     * Соединяет плитки в одно дерево. Дверь упакована в {@code long}: старшие биты — номер плитки,
+     * младший бит — направление к соседу ({@link #DOOR_DOWN} или {@link #DOOR_RIGHT}).
+     */
+    private static void stitch(Maze maze, RandomGenerator random, Tiling tiling) {
+        int tileRows = tiling.rows();
+        int tileCols = tiling.cols();
+        long[] doors = new long[tileRows * (tileCols - 1) + (tileRows - 1) * tileCols];
+        int count = 0;
+        for (int tile = 0; tile < tiling.count(); tile++) {
+            if (tile / tileCols + 1 < tileRows) {
+                doors[count++] = (long) tile << DOOR_SHIFT | DOOR_DOWN;
+            }
+            if (tile % tileCols + 1 < tileCols) {
+                doors[count++] = (long) tile << DOOR_SHIFT | DOOR_RIGHT;
+            }
+        }
+        shuffle(doors, random);
+
+        DisjointSet tiles = new DisjointSet(tiling.count());
+        for (long door : doors) {
+            int tile = (int) (door >>> DOOR_SHIFT);
+            boolean down = (door & 1) == DOOR_DOWN;
+            if (!tiles.union(tile, down ? tile + tileCols : tile + 1)) {
+                continue;
+            }
+            // Дверь — случайная клетка-проход на общей границе: нижний ряд плитки или её правый столбец
+            int row;
+            int col;
+            if (down) {
+                row = tiling.firstRow(tile) + tiling.rows(tile) - 1;
+                col = tiling.firstCol(tile) + random.nextInt(tiling.cols(tile));
+            } else {
+                row = tiling.firstRow(tile) + random.nextInt(tiling.rows(tile));
+                col = tiling.firstCol(tile) + tiling.cols(tile) - 1;
+            }
+            int betweenRow = row * 2 + (down ? 2 : 1);
+            int betweenCol = col * 2 + (down ? 1 : 2);
+            maze.setPassage(maze.index(betweenRow, betweenCol), Cell.Surface.randomSurface(random));
+        }
+    }
+
+    private static void shuffle(long[] values, RandomGenerator random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    /**
+     * Разбиение сетки клеток-проходов на плитки; крайние плитки могут быть меньше остальных.
+     *
+     * @param passageRows количество строк клеток-проходов
+     * @param passageCols количество столбцов клеток-проходов
+     * @param size        сторона плитки
+     */
+    private record Tiling(int passageRows, int passageCols, int size) {
+
+        int rows() {
+            return (passageRows + size - 1) / size;
+        }
+
+        int cols() {
+            return (passageCols + size - 1) / size;
+        }
+
+        int count() {
+            return rows() * cols();
+        }
+
+        int firstRow(int tile) {
+            return tile / cols() * size;
+        }
+
+        int firstCol(int tile) {
+            return tile % cols() * size;
+        }
+
+        int rows(int tile) {
+            return Math.min(size, passageRows - firstRow(tile));
+        }
+
+        int cols(int tile) {
+            return Math.min(size, passageCols - firstCol(tile));
+        }
+    }
+
+    /**
+     * Строит плитки с номерами {@code [from, to)}, деля диапазон пополам, пока в нём не останется одна плитка;
+     * пустой диапазон ничего не строит.
+     * Плитки не пересекаются, поэтому задачи пишут в разные клетки лабиринта без синхронизации.
+     */
+    private static final class TileTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Maze maze;
+        private final long seed;
+        private final transient Tiling tiling;
+        private final int from;
+        private final int to;
+
+        TileTask(Maze maze, long seed, Tiling tiling, int from, int to) {
+            this.maze = maze;
+            this.seed = seed;
+            this.tiling = tiling;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to <= from) {
+                return;
+            }
+            if (to - from == 1) {
+                KruskalMazeGenerator.carve(maze, RandomStreams.of(seed, from),
+                    tiling.firstRow(from), tiling.firstCol(from), tiling.rows(from), tiling.cols(from));
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileTask(maze, seed, tiling, from, middle), new TileTask(maze, seed, tiling, middle, to));
+        }
+    }
+}
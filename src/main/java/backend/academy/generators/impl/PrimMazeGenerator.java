@@ -2,14 +2,13 @@ package backend.academy.generators.impl;
 
 import backend.academy.constants.Config;
 import backend.academy.dto.Cell;
-import backend.academy.dto.Coordinate;
 import backend.academy.dto.Maze;
 import backend.academy.generators.Generator;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Random;
-import java.util.Set;
+import backend.academy.generators.RandomStreams;
+import backend.academy.storage.MazeStorage;
+import java.util.Arrays;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
 
 /**
  * Генератор лабиринта с использованием алгоритма Прима.
@@ -21,31 +20,76 @@ import java.util.Set;
  * <ul>
  *     <li>Инициализируется сетка, где все клетки являются стенами.</li>
  *     <li>Выбирается случайная стартовая клетка и помечается как проход.</li>
- *     <li>Соседние клетки-стены добавляются в список стен.</li>
- *     <li>Пока есть стены в списке:
+ *     <li>Соседние клетки-стены добавляются во фронтир.</li>
+ *     <li>Пока фронтир не пуст:
  *         <ul>
- *             <li>Случайно выбирается стена из списка.</li>
+ *             <li>Случайно выбирается стена из фронтира (за O(1), без копирования).</li>
  *             <li>Если стена имеет только одного соседа-прохода, стена превращается в проход, разрушая стену между
  *             собой и этим соседом.</li>
- *             <li>Соседние стены добавляются в список стен.</li>
+ *             <li>Соседние стены добавляются во фронтир.</li>
  *         </ul>
  *     </li>
  *     <li>Поверхности клеток проходов задаются случайно, с различными типами
  *     (обычные, болота, монеты и хорошие покрытия), которые могут влиять на прохождение пути.</li>
  * </ul>
  * Алгоритм гарантирует, что лабиринт будет иметь единственный связный путь между любыми двумя точками.
+ * <p>
+ * Генератор из конструктора не хранит состояния между вызовами и потокобезопасен: рабочие массивы фронтира
+ * выделяются на каждый лабиринт. Генератор из {@link #perWorker()} переиспользует их между вызовами, поэтому
+ * серия небольших лабиринтов почти не создаёт мусора; он не потокобезопасен и предназначен для одного рабочего
+ * потока, например в {@link backend.academy.generators.BatchGenerator}. Массивы лабиринтов больше
+ * {@value #RETAINED_CELLS} клеток не сохраняются, чтобы один большой лабиринт не держал память после генерации.
+ * </p>
  */
 
 public class PrimMazeGenerator implements Generator {
+
+    private static final int[] D_ROWS = {-Config.PRIM_STEP, Config.PRIM_STEP, 0, 0};
+
+    private static final int[] D_COLS = {0, 0, -Config.PRIM_STEP, Config.PRIM_STEP};
+
+    private static final int LONG_SHIFT = 6;
+
+    /**
+     * Наибольшее число клеток лабиринта, рабочие массивы которого сохраняются между вызовами.
+     */
+    static final int RETAINED_CELLS = 1 << 20;
+
+    private final boolean reuse;
+
+    private Frontier reusableFrontier;
+
+    /**
+     * Создаёт генератор без состояния между вызовами.
+     */
+    public PrimMazeGenerator() {
+        this(false);
+    }
+
+    private PrimMazeGenerator(boolean reuse) {
+        this.reuse = reuse;
+    }
+
     /**
-     * Генерирует лабиринт с указанными высотой и шириной.
+     * Создаёт генератор для одного рабочего потока, переиспользующий рабочие массивы небольших лабиринтов.
+     *
+     * @return не потокобезопасный генератор
+     */
+    public static PrimMazeGenerator perWorker() {
+        return new PrimMazeGenerator(true);
+    }
+
+    /**
+     * Генерирует лабиринт с указанными высотой и шириной по зерну.
      *
      * @param heightP высота сетки лабиринта
      * @param widthP  ширина сетки лабиринта
+     * @param seed    зерно генерации
+     * @param storage фабрика хранилища клеток, принимающая их количество
      * @return сгенерированный объект {@link Maze}
      */
     @Override
-    public Maze generate(int heightP, int widthP) {
+    public Maze generate(int heightP, int widthP, long seed, LongFunction<MazeStorage> storage) {
         int height = heightP;
         int width = widthP;
 
@@ -56,97 +100,168 @@ public class PrimMazeGenerator implements Generator {
             width += 1;
         }
 
-        Cell[][] grid = new Cell[height][width];
-        Random random = new Random();
-
         // Инициализация сетки стенами
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                grid[row][col] = new Cell(row, col, Cell.Type.WALL);
-            }
-        }
+        Maze maze = new Maze(height, width, storage.apply((long) height * width));
+        RandomGenerator random = RandomStreams.of(seed);
 
         // Выбор случайной стартовой точки
         int startRow = randomOdd(random, height);
         int startCol = randomOdd(random, width);
-        grid[startRow][startCol] = new Cell(startRow, startCol, Cell.Type.PASSAGE, Cell.Surface.randomSurface(random));
+        maze.setPassage(maze.index(startRow, startCol), Cell.Surface.randomSurface(random));
 
-        // Инициализация списка стен соседями стартовой клетки
-        Set<Cell> wallList = new HashSet<>();
-        for (Coordinate coord : getNeighbors(startRow, startCol, grid, Cell.Type.WALL, Config.PRIM_STEP)) {
-            wallList.add(grid[coord.row()][coord.col()]);
-        }
+        // Инициализация фронтира соседями стартовой клетки
+        Frontier frontier = frontier(maze.arrayCellCount());
+        addWallNeighbors(startRow, startCol, maze, frontier);
 
         // Основной цикл алгоритма Прима
-        while (!wallList.isEmpty()) {
-            Cell[] walls = wallList.toArray(new Cell[0]);
-            Cell wall = walls[random.nextInt(walls.length)];
-            wallList.remove(wall);
-
-            int row = wall.row();
-            int col = wall.col();
+        while (!frontier.isEmpty()) {
+            int wall = frontier.removeRandom(random);
+            int row = wall / width;
+            int col = wall % width;
 
-            List<Coordinate> passageNeighbors = getNeighbors(row, col, grid, Cell.Type.PASSAGE, Config.PRIM_STEP);
+            int passageNeighbor = singlePassageNeighbor(row, col, maze);
 
-            if (passageNeighbors.size() == 1) {
-                grid[row][col] = new Cell(row, col, Cell.Type.PASSAGE, Cell.Surface.randomSurface(random));
+            if (passageNeighbor >= 0) {
+                maze.setPassage(wall, Cell.Surface.randomSurface(random));
 
                 // Соединение клетки с соседней клеткой-проходом
-                Coordinate passageNeighbor = passageNeighbors.getFirst();
-                int betweenRow = (row + passageNeighbor.row()) / 2;
-                int betweenCol = (col + passageNeighbor.col()) / 2;
-                grid[betweenRow][betweenCol] =
-                    new Cell(betweenRow, betweenCol, Cell.Type.PASSAGE, Cell.Surface.randomSurface(random));
-
-                // Добавление соседних стен в список стен
-                for (Coordinate coord : getNeighbors(row, col, grid, Cell.Type.WALL, Config.PRIM_STEP)) {
-                    wallList.add(grid[coord.row()][coord.col()]);
-                }
+                int betweenRow = (row + passageNeighbor / width) / 2;
+                int betweenCol = (col + passageNeighbor % width) / 2;
+                maze.setPassage(maze.index(betweenRow, betweenCol), Cell.Surface.randomSurface(random));
+
+                // Добавление соседних стен во фронтир
+                addWallNeighbors(row, col, maze, frontier);
             }
         }
 
-        return new Maze(height, width, grid);
+        return maze;
+    }
+
+    /**
+     * Возвращает пустой фронтир на {@code capacity} клеток, переиспользуя массивы предыдущего вызова,
+     * если генератор их сохраняет и лабиринт не больше {@value #RETAINED_CELLS} клеток.
+     *
+     * @param capacity количество клеток лабиринта
+     * @return пустой фронтир
+     */
+    private Frontier frontier(int capacity) {
+        if (!reuse || capacity > RETAINED_CELLS) {
+            return new Frontier(capacity);
+        }
+        if (reusableFrontier == null || reusableFrontier.cells.length < capacity) {
+            reusableFrontier = new Frontier(capacity);
+        } else {
+            reusableFrontier.clear(capacity);
+        }
+        return reusableFrontier;
     }
 
     /**
      * Генерирует случайное нечетное целое число меньше указанной границы.
      *
-     * @param random экземпляр {@link Random}
+     * @param random экземпляр {@link RandomGenerator}
      * @param bound  верхняя граница (не включительно)
      * @return случайное нечетное целое число меньше bound
      */
-    private int randomOdd(Random random, int bound) {
+    private int randomOdd(RandomGenerator random, int bound) {
         int r = random.nextInt(bound / 2) * 2 + 1;
         return r < bound ? r : r - 1;
     }
 
     /**
-     * Получает соседние координаты клетки в сетке на основе указанного типа и шага.
+     * Ищет единственного соседа-прохода клетки на расстоянии {@link Config#PRIM_STEP}.
      *
      * @param row индекс строки текущей клетки
      * @param col индекс столбца текущей клетки
-     * @param grid сетка клеток
-     * @param type {@link Cell.Type} для поиска соседей
-     * @param step расстояние шага для соседей
-     * @return список координат {@link Coordinate} соседних клеток указанного типа
+     * @param maze лабиринт
+     * @return упакованный индекс {@code row * width + col} соседа-прохода,
+     *         или {@code -1}, если таких соседей нет или их больше одного
      */
-    private List<Coordinate> getNeighbors(int row, int col, Cell[][] grid, Cell.Type type, int step) {
-        List<Coordinate> neighbors = new ArrayList<>();
-        int height = grid.length;
-        int width = grid[0].length;
-
-        int[] dRows = {-step, step, 0, 0};
-        int[] dCols = {0, 0, -step, step};
-
-        for (int i = 0; i < dCols.length; i++) {
-            int newRow = row + dRows[i];
-            int newCol = col + dCols[i];
-            if (0 <= newRow && newRow < height && 0 <= newCol && newCol < width) {
-                if (grid[newRow][newCol].type() == type) {
-                    neighbors.add(new Coordinate(newRow, newCol));
+    private int singlePassageNeighbor(int row, int col, Maze maze) {
+        int height = maze.height();
+        int width = maze.width();
+        int found = -1;
+
+        for (int i = 0; i < D_COLS.length; i++) {
+            int newRow = row + D_ROWS[i];
+            int newCol = col + D_COLS[i];
+            int neighbor = newRow * width + newCol;
+            if (0 <= newRow && newRow < height && 0 <= newCol && newCol < width && maze.isPassage(neighbor)) {
+                if (found >= 0) {
+                    return -1;
                 }
+                found = neighbor;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Добавляет во фронтир соседние клетки-стены на расстоянии {@link Config#PRIM_STEP}.
+     *
+     * @param row индекс строки текущей клетки
+     * @param col индекс столбца текущей клетки
+     * @param maze лабиринт
+     * @param frontier фронтир алгоритма
+     */
+    private void addWallNeighbors(int row, int col, Maze maze, Frontier frontier) {
+        int height = maze.height();
+        int width = maze.width();
+
+        for (int i = 0; i < D_COLS.length; i++) {
+            int newRow = row + D_ROWS[i];
+            int newCol = col + D_COLS[i];
+            int neighbor = newRow * width + newCol;
+            if (0 <= newRow && newRow < height && 0 <= newCol && newCol < width && !maze.isPassage(neighbor)) {
+                frontier.add(neighbor);
             }
         }
-        return neighbors;
+    }
+
+    /**
+     * Фронтир алгоритма Прима: набор клеток-стен, кандидатов на разрушение.
+     * <p>
+     * Клетки хранятся в массиве {@code int} как упакованные индексы {@code row * width + col}.
+     * Случайная клетка извлекается за O(1): на её место переносится последний элемент массива.
+     * Битовое множество отмечает клетки, которые уже попадали во фронтир, — стена, отвергнутая однажды,
+     * уже имеет двух соседей-проходов и не может стать проходом позже, поэтому повторно она не добавляется.
+     * </p>
+     */
+    private static final class Frontier {
+        private final int[] cells;
+        private final long[] seen;
+        private int size;
+
+        Frontier(int capacity) {
+            cells = new int[capacity];
+            seen = new long[(capacity + Long.SIZE - 1) / Long.SIZE];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Очищает отметки первых {@code capacity} клеток; остальные не затрагивались меньшим лабиринтом.
+         */
+        void clear(int capacity) {
+            Arrays.fill(seen, 0, (capacity + Long.SIZE - 1) / Long.SIZE, 0L);
+            size = 0;
+        }
+
+        void add(int cell) {
+            long mask = 1L << cell;
+            if ((seen[cell >>> LONG_SHIFT] & mask) == 0) {
+                seen[cell >>> LONG_SHIFT] |= mask;
+                cells[size++] = cell;
+            }
+        }
+
+        int removeRandom(RandomGenerator random) {
+            int i = random.nextInt(size);
+            int cell = cells[i];
+            cells[i] = cells[--size];
+            return cell;
+        }
     }
 }
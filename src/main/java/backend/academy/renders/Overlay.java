@@ -0,0 +1,184 @@
+package backend.academy.renders;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Слой поверх лабиринта при рендеринге: множество клеток, выделяемых одним видом {@link Kind}.
+ * <p>
+ * Клетки хранятся отсортированным массивом {@code long[]} индексов {@link Maze#index(int, int)}, поэтому слой
+ * занимает память по числу своих клеток, а не по размеру лабиринта, и работает на лабиринтах больше 2^31 клеток.
+ * Проверка клетки и поиск следующей клетки на отрезке — двоичный поиск без создания объектов, так что рендеринг
+ * окна или обзора стоит пропорционально размеру вывода и логарифму длины слоя. Добавленные клетки сортируются
+ * при первом обращении после добавления. Начало и конец слоя хранятся индексами клеток и выделяются
+ * отдельными символами "S" и "E".
+ * </p>
+ * <p>
+ * Рендерер принимает несколько слоёв сразу; если клетка входит в несколько слоёв, рисуется последний из них.
+ * </p>
+ */
+public final class Overlay {
+
+    /**
+     * Индекс начала или конца, когда он не задан.
+     */
+    public static final int NONE = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Вид выделения клеток слоя.
+     */
+    @Getter
+    private final Kind kind;
+
+    /**
+     * Индекс начальной клетки или {@link #NONE}.
+     */
+    @Getter
+    private long start = NONE;
+
+    /**
+     * Индекс конечной клетки или {@link #NONE}.
+     */
+    @Getter
+    private long end = NONE;
+
+    private long[] cells;
+    private int size;
+    private boolean sorted = true;
+
+    /**
+     * Создаёт пустой слой.
+     *
+     * @param kind вид выделения клеток
+     */
+    public Overlay(Kind kind) {
+        this.kind = kind;
+        this.cells = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Строит слой пути: все клетки пути, первая клетка — начало, последняя — конец.
+     *
+     * @param maze лабиринт, по индексам клеток которого строится слой
+     * @param path путь; пустой путь даёт пустой слой
+     * @return слой пути
+     */
+    public static Overlay ofPath(Maze maze, List<Coordinate> path) {
+        Overlay overlay = new Overlay(Kind.PATH);
+        overlay.cells = new long[Math.max(path.size(), 1)];
+        for (Coordinate coordinate : path) {
+            overlay.add(maze.index(coordinate.row(), coordinate.col()));
+        }
+        if (!path.isEmpty()) {
+            overlay.start = maze.index(path.getFirst().row(), path.getFirst().col());
+            overlay.end = maze.index(path.getLast().row(), path.getLast().col());
+        }
+        return overlay;
+    }
+
+    /**
+     * Добавляет клетку в слой.
+     *
+     * @param index индекс клетки
+     */
+    public void add(long index) {
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, size * 2);
+        }
+        if (size > 0 && cells[size - 1] >= index) {
+            sorted = false;
+        }
+        cells[size++] = index;
+    }
+
+    /**
+     * Проверяет, входит ли клетка в слой.
+     *
+     * @param index индекс клетки
+     * @return {@code true}, если клетка входит в слой
+     */
+    public boolean contains(long index) {
+        sort();
+        return Arrays.binarySearch(cells, 0, size, index) >= 0;
+    }
+
+    /**
+     * Находит первую клетку слоя на отрезке индексов {@code [from, to)} двоичным поиском.
+     *
+     * @param from первый индекс отрезка
+     * @param to   индекс за концом отрезка
+     * @return индекс клетки или {@link #NONE}, если на отрезке нет клеток слоя
+     */
+    public long next(long from, long to) {
+        if (from >= to) {
+            return NONE;
+        }
+        sort();
+        int position = Arrays.binarySearch(cells, 0, size, from);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        return position < size && cells[position] < to ? cells[position] : NONE;
+    }
+
+    /**
+     * Задаёт начальную клетку и добавляет её в слой.
+     *
+     * @param index индекс клетки
+     */
+    public void start(long index) {
+        add(index);
+        start = index;
+    }
+
+    /**
+     * Задаёт конечную клетку и добавляет её в слой.
+     *
+     * @param index индекс клетки
+     */
+    public void end(long index) {
+        add(index);
+        end = index;
+    }
+
+    /**
+     * Сортирует добавленные клетки и убирает повторы, если после прошлой сортировки клетки добавлялись не по порядку.
+     */
+    private void sort() {
+        if (sorted) {
+            return;
+        }
+        Arrays.sort(cells, 0, size);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (unique == 0 || cells[unique - 1] != cells[i]) {
+                cells[unique++] = cells[i];
+            }
+        }
+        size = unique;
+        sorted = true;
+    }
+
+    /**
+     * Вид выделения клеток слоя.
+     */
+    public enum Kind {
+        /**
+         * Найденный путь.
+         */
+        PATH,
+        /**
+         * Клетки, раскрытые поиском.
+         */
+        VISITED,
+        /**
+         * Граница поиска: клетки в очереди.
+         */
+        FRONTIER
+    }
+}
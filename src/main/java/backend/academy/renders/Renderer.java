@@ -2,10 +2,97 @@ package backend.academy.renders;
 
 import backend.academy.dto.Coordinate;
 import backend.academy.dto.Maze;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public interface Renderer {
     String render(Maze maze);
 
     String render(Maze maze, List<Coordinate> path);
+
+    /**
+     * Рендерит окно лабиринта со слоями выделения построчно прямо в {@code out}, не собирая вывод в одну строку:
+     * в памяти одновременно находится не больше одной строки окна. Время зависит только от размера окна.
+     *
+     * @param maze     лабиринт для рендеринга
+     * @param viewport окно лабиринта; номера строк и столбцов выводятся как в полном лабиринте
+     * @param out      приёмник текста
+     * @param overlays слои выделения; при пересечении рисуется последний
+     * @throws IOException если приёмник не принимает текст
+     */
+    void render(Maze maze, Viewport viewport, Appendable out, Overlay... overlays) throws IOException;
+
+    /**
+     * Рендерит уменьшенный обзор лабиринта без номеров строк и столбцов: каждая клетка обзора обобщает
+     * блок {@code blockSize×blockSize} клеток по доле стен и наличию клеток слоёв выделения.
+     * Время зависит от размера обзора, а не от числа клеток лабиринта.
+     *
+     * @param maze      лабиринт для рендеринга
+     * @param blockSize сторона блока в клетках лабиринта
+     * @param out       приёмник текста
+     * @param overlays  слои выделения; при пересечении рисуется последний
+     * @throws IOException если приёмник не принимает текст
+     */
+    void renderOverview(Maze maze, int blockSize, Appendable out, Overlay... overlays) throws IOException;
+
+    /**
+     * Рендерит весь лабиринт со слоями выделения построчно прямо в {@code out}.
+     *
+     * @param maze     лабиринт для рендеринга
+     * @param out      приёмник текста
+     * @param overlays слои выделения; при пересечении рисуется последний
+     * @throws IOException если приёмник не принимает текст
+     */
+    default void render(Maze maze, Appendable out, Overlay... overlays) throws IOException {
+        render(maze, Viewport.of(maze), out, overlays);
+    }
+
+    /**
+     * Рендерит лабиринт со слоями выделения построчно в поток байтов в кодировке UTF-8 через буфер.
+     * Поток после записи сбрасывается, но не закрывается.
+     *
+     * @param maze     лабиринт для рендеринга
+     * @param out      поток вывода
+     * @param overlays слои выделения; при пересечении рисуется последний
+     * @throws IOException если запись в поток не удалась
+     */
+    default void render(Maze maze, OutputStream out, Overlay... overlays) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        render(maze, writer, overlays);
+        writer.flush();
+    }
+
+    /**
+     * Рендерит лабиринт с путём построчно прямо в {@code out}.
+     *
+     * @param maze лабиринт для рендеринга
+     * @param path путь для отображения или {@code null}
+     * @param out  приёмник текста
+     * @throws IOException если приёмник не принимает текст
+     */
+    default void render(Maze maze, List<Coordinate> path, Appendable out) throws IOException {
+        render(maze, out, pathOverlays(maze, path));
+    }
+
+    /**
+     * Рендерит лабиринт с путём построчно в поток байтов в кодировке UTF-8.
+     * Поток после записи сбрасывается, но не закрывается.
+     *
+     * @param maze лабиринт для рендеринга
+     * @param path путь для отображения или {@code null}
+     * @param out  поток вывода
+     * @throws IOException если запись в поток не удалась
+     */
+    default void render(Maze maze, List<Coordinate> path, OutputStream out) throws IOException {
+        render(maze, out, pathOverlays(maze, path));
+    }
+
+    private static Overlay[] pathOverlays(Maze maze, List<Coordinate> path) {
+        return path == null ? new Overlay[0] : new Overlay[] {Overlay.ofPath(maze, path)};
+    }
 }
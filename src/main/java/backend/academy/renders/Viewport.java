@@ -0,0 +1,62 @@
+package backend.academy.renders;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+
+/**
+ * Прямоугольное окно лабиринта для рендеринга части клеток.
+ *
+ * @param row    первая строка окна
+ * @param col    первый столбец окна
+ * @param height число строк окна
+ * @param width  число столбцов окна
+ */
+public record Viewport(int row, int col, int height, int width) {
+
+    public Viewport {
+        if (row < 0 || col < 0 || height < 0 || width < 0) {
+            throw new IllegalArgumentException("Окно не может иметь отрицательные координаты или размеры.");
+        }
+    }
+
+    /**
+     * Возвращает окно на весь лабиринт.
+     *
+     * @param maze лабиринт
+     * @return окно со всеми клетками лабиринта
+     */
+    public static Viewport of(Maze maze) {
+        return new Viewport(0, 0, maze.height(), maze.width());
+    }
+
+    /**
+     * Возвращает окно заданного размера с центром в клетке, сдвинутое внутрь лабиринта у его краёв.
+     *
+     * @param maze   лабиринт
+     * @param center центральная клетка
+     * @param height желаемое число строк
+     * @param width  желаемое число столбцов
+     * @return окно, целиком лежащее в лабиринте
+     */
+    public static Viewport around(Maze maze, Coordinate center, int height, int width) {
+        int rows = Math.min(height, maze.height());
+        int cols = Math.min(width, maze.width());
+        int top = Math.clamp(center.row() - rows / 2, 0, maze.height() - rows);
+        int left = Math.clamp(center.col() - cols / 2, 0, maze.width() - cols);
+        return new Viewport(top, left, rows, cols);
+    }
+
+    /**
+     * Проверяет, что окно целиком лежит в лабиринте.
+     *
+     * @param maze лабиринт
+     * @return это окно
+     * @throws IllegalArgumentException если окно выходит за границы лабиринта
+     */
+    public Viewport within(Maze maze) {
+        if ((long) row + height > maze.height() || (long) col + width > maze.width()) {
+            throw new IllegalArgumentException("Окно выходит за границы лабиринта.");
+        }
+        return this;
+    }
+}
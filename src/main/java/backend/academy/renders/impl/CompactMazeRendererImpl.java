@@ -0,0 +1,276 @@
+package backend.academy.renders.impl;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.generators.MazeRowConsumer;
+import backend.academy.renders.Overlay;
+import backend.academy.renders.Renderer;
+import backend.academy.renders.Viewport;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Реализация интерфейса {@link Renderer} для быстрого вывода больших лабиринтов в терминал.
+ * <p>
+ * В терминале результат выглядит так же, как у {@link MazeRendererImpl}, но занимает в несколько раз меньше байтов:
+ * изображения клеток заранее закодированы в UTF-8 ({@link Glyph}), а последовательность ANSI выводится
+ * только когда стиль клетки отличается от стиля предыдущей клетки в строке, и содержит лишь изменившиеся
+ * атрибуты. Стиль сбрасывается в конце каждой строки, поэтому номера строк не окрашиваются.
+ * </p>
+ * <p>
+ * Строка лабиринта собирается в переиспользуемый массив байтов и записывается одним вызовом.
+ * Если приёмник текста — {@link OutputStream} (например, {@code System.out}), байты пишутся в него напрямую,
+ * без промежуточных строк.
+ * </p>
+ */
+public class CompactMazeRendererImpl implements Renderer {
+
+    private static final String LABEL_FORMAT = "%2d ";
+
+    private static final byte[] HEADER_INDENT = "    ".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte NEW_LINE = '\n';
+
+    /**
+     * Рендерит лабиринт без отображения пути.
+     *
+     * @param maze объект {@link Maze} для рендеринга
+     * @return строковое представление лабиринта
+     */
+    @Override
+    public String render(Maze maze) {
+        return render(maze, null);
+    }
+
+    /**
+     * Рендерит лабиринт с возможностью отображения пути.
+     *
+     * @param maze объект {@link Maze} для рендеринга
+     * @param path список координат {@link Coordinate}, представляющих путь в лабиринте, или {@code null}
+     * @return строковое представление лабиринта с отображением пути
+     */
+    @Override
+    public String render(Maze maze, List<Coordinate> path) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            render(maze, path, bytes);
+        } catch (IOException e) {
+            // ByteArrayOutputStream не бросает IOException
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Рендерит окно лабиринта со слоями выделения построчно в {@code out}; в {@link OutputStream} байты пишутся
+     * напрямую.
+     *
+     * @param maze     объект {@link Maze} для рендеринга
+     * @param viewport окно {@link Viewport} лабиринта
+     * @param out      приёмник текста
+     * @param overlays слои выделения {@link Overlay}; при пересечении рисуется последний
+     * @throws IOException если приёмник не принимает текст
+     */
+    @Override
+    public void render(Maze maze, Viewport viewport, Appendable out, Overlay... overlays) throws IOException {
+        viewport.within(maze);
+        render(maze, viewport, sink(out), overlays);
+        flush(out);
+    }
+
+    /**
+     * Рендерит весь лабиринт со слоями выделения построчно в поток байтов в кодировке UTF-8.
+     * Поток после записи сбрасывается, но не закрывается.
+     *
+     * @param maze     объект {@link Maze} для рендеринга
+     * @param out      поток вывода
+     * @param overlays слои выделения {@link Overlay}; при пересечении рисуется последний
+     * @throws IOException если запись в поток не удалась
+     */
+    @Override
+    public void render(Maze maze, OutputStream out, Overlay... overlays) throws IOException {
+        render(maze, Viewport.of(maze), (bytes, length) -> out.write(bytes, 0, length), overlays);
+        out.flush();
+    }
+
+    /**
+     * Рендерит уменьшенный обзор лабиринта: каждая клетка обзора обобщает блок клеток лабиринта.
+     *
+     * @param maze      объект {@link Maze} для рендеринга
+     * @param blockSize сторона блока в клетках лабиринта
+     * @param out       приёмник текста
+     * @param overlays  слои выделения {@link Overlay}; при пересечении рисуется последний
+     * @throws IOException если приёмник не принимает текст
+     */
+    @Override
+    public void renderOverview(Maze maze, int blockSize, Appendable out, Overlay... overlays) throws IOException {
+        Overview overview = new Overview(maze, blockSize, overlays);
+        RowSink sink = sink(out);
+        RowBuffer line = new RowBuffer((overview.columns() + 1) * Glyph.maxLength());
+        for (int blockRow = 0; blockRow < overview.rows(); blockRow++) {
+            line.length = 0;
+            Glyph previous = null;
+            for (Glyph glyph : overview.row(blockRow)) {
+                previous = line.append(glyph, previous);
+            }
+            line.endRow(previous);
+            sink.accept(line.bytes, line.length);
+        }
+        flush(out);
+    }
+
+    /**
+     * Создаёт получателя строк для генераторов, которые выдают лабиринт по строкам: каждая строка выводится
+     * в {@code out} сразу, перед нулевой строкой — строка номеров столбцов. Вывод совпадает с выводом
+     * собранного лабиринта без слоёв; поток не сбрасывается после строк, это делает вызывающий.
+     *
+     * @param width ширина лабиринта
+     * @param out   поток вывода
+     * @return получатель строк
+     */
+    public MazeRowConsumer rowRenderer(int width, OutputStream out) {
+        RowBuffer line = new RowBuffer(HEADER_INDENT.length + (width + 1) * Glyph.maxLength());
+        return (row, codes) -> {
+            if (row == 0) {
+                line.length = 0;
+                appendHeader(line, 0, width);
+                out.write(line.bytes, 0, line.length);
+            }
+            line.length = 0;
+            line.append(label(row));
+            Glyph previous = null;
+            for (byte code : codes) {
+                previous = line.append(Glyph.ofCode(code), previous);
+            }
+            line.endRow(previous);
+            out.write(line.bytes, 0, line.length);
+        };
+    }
+
+    private void render(Maze maze, Viewport viewport, RowSink sink, Overlay... overlays) throws IOException {
+        RowBuffer line = new RowBuffer(HEADER_INDENT.length + (viewport.width() + 1) * Glyph.maxLength());
+
+        appendHeader(line, viewport.col(), viewport.width());
+        sink.accept(line.bytes, line.length);
+
+        for (int row = viewport.row(); row < viewport.row() + viewport.height(); row++) {
+            line.length = 0;
+            line.append(label(row));
+            Glyph previous = null;
+            for (int col = viewport.col(); col < viewport.col() + viewport.width(); col++) {
+                previous = line.append(glyph(maze, maze.index(row, col), overlays), previous);
+            }
+            line.endRow(previous);
+            sink.accept(line.bytes, line.length);
+        }
+    }
+
+    /**
+     * Возвращает получателя строк: в {@link OutputStream} байты пишутся напрямую, в остальные приёмники — строкой.
+     */
+    private static RowSink sink(Appendable out) {
+        if (out instanceof OutputStream stream) {
+            return (bytes, length) -> stream.write(bytes, 0, length);
+        }
+        return (bytes, length) -> out.append(new String(bytes, 0, length, StandardCharsets.UTF_8));
+    }
+
+    private static void flush(Appendable out) throws IOException {
+        if (out instanceof OutputStream stream) {
+            stream.flush();
+        }
+    }
+
+    private static Glyph glyph(Maze maze, long index, Overlay[] overlays) {
+        for (int i = overlays.length - 1; i >= 0; i--) {
+            Overlay overlay = overlays[i];
+            if (overlay.contains(index)) {
+                if (index == overlay.start()) {
+                    return Glyph.START;
+                }
+                return index == overlay.end() ? Glyph.END : Glyph.of(overlay.kind());
+            }
+        }
+        return Glyph.ofCode(maze.code(index));
+    }
+
+    /**
+     * Добавляет строку номеров столбцов.
+     */
+    private static void appendHeader(RowBuffer line, int firstCol, int width) {
+        line.append(HEADER_INDENT);
+        for (int col = firstCol; col < firstCol + width; col++) {
+            line.append(label(col));
+        }
+        line.append(NEW_LINE);
+    }
+
+    private static byte[] label(int number) {
+        return String.format(LABEL_FORMAT, number).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Получатель готовой строки вывода в виде байтов UTF-8.
+     */
+    @FunctionalInterface
+    private interface RowSink {
+        void accept(byte[] bytes, int length) throws IOException;
+    }
+
+    /**
+     * Переиспользуемый растущий буфер одной строки вывода.
+     */
+    private static final class RowBuffer {
+
+        private byte[] bytes;
+        private int length;
+
+        RowBuffer(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void append(byte[] values) {
+            ensureCapacity(values.length);
+            System.arraycopy(values, 0, bytes, length, values.length);
+            length += values.length;
+        }
+
+        void append(byte value) {
+            ensureCapacity(1);
+            bytes[length++] = value;
+        }
+
+        /**
+         * Добавляет клетку, выводя стиль только при его смене.
+         *
+         * @return изображение добавленной клетки — предыдущее для следующей
+         */
+        Glyph append(Glyph glyph, Glyph previous) {
+            // Стиль выводится только при смене: соседние клетки одного вида идут одной последовательностью
+            append(glyph.after(previous));
+            append(glyph.text);
+            return glyph;
+        }
+
+        /**
+         * Завершает строку: сбрасывает стиль, если он был включён, и переводит строку.
+         */
+        void endRow(Glyph previous) {
+            if (previous != null) {
+                append(Glyph.RESET);
+            }
+            append(NEW_LINE);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+}
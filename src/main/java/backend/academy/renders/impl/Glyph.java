@@ -0,0 +1,162 @@
+package backend.academy.renders.impl;
+
+import backend.academy.constants.InterfaceTemplates;
+import backend.academy.constants.Styles;
+import backend.academy.renders.Overlay;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Изображение клетки при выводе в терминал: цвет фона, цвет текста и три символа текста,
+ * заранее закодированные в UTF-8.
+ * <p>
+ * Первые значения идут в порядке кодов клеток {@link backend.academy.dto.Maze#code(long)}:
+ * стена, затем поверхности в порядке {@link backend.academy.dto.Cell.Surface}, поэтому изображение клетки
+ * находится по её коду без ветвлений.
+ * </p>
+ * <p>
+ * Для каждой пары изображений заранее построена минимальная последовательность SGR перехода между ними:
+ * в ней только те атрибуты, которые отличаются (фон, цвет текста или оба), без полного сброса стиля.
+ * Для одинаковых стилей переход пуст.
+ * </p>
+ */
+enum Glyph {
+    WALL(Styles.BLACK_BACKGROUND, InterfaceTemplates.NULL),
+    NORMAL(Styles.WHITE_BACKGROUND, InterfaceTemplates.NULL),
+    SWAMP(Styles.GREEN_BACKGROUND + Styles.BLACK_TEXT, " ~ "),
+    SAND(Styles.YELLOW_BACKGROUND, InterfaceTemplates.NULL),
+    COIN(Styles.WHITE_BACKGROUND + Styles.YELLOW_TEXT, " $ "),
+    GOOD_FLOOR(Styles.CYAN_BACKGROUND, InterfaceTemplates.NULL),
+    PATH(Styles.PURPLE_BACKGROUND, " . "),
+    START(Styles.RED_BACKGROUND + Styles.BLACK_TEXT, " S "),
+    END(Styles.RED_BACKGROUND + Styles.BLACK_TEXT, " E "),
+    VISITED(Styles.BLUE_BACKGROUND, InterfaceTemplates.NULL),
+    FRONTIER(Styles.BLUE_BACKGROUND + Styles.YELLOW_TEXT, " * "),
+    MIXED(Styles.WHITE_BACKGROUND + Styles.BLACK_TEXT, "░░░");
+
+    /**
+     * Сброс стиля в UTF-8.
+     */
+    static final byte[] RESET = Styles.RESET.getBytes(StandardCharsets.UTF_8);
+
+    // Коды SGR: цвет текста по умолчанию и границы диапазонов цветов текста и фона
+    private static final int DEFAULT_COLOR = -1;
+    private static final int DEFAULT_FOREGROUND = 39;
+    private static final int FIRST_FOREGROUND = 30;
+    private static final int FIRST_BACKGROUND = 40;
+    private static final int LAST_BACKGROUND = 47;
+
+    private static final Glyph[] BY_CODE = values();
+
+    private static final byte[][][] TRANSITIONS = new byte[BY_CODE.length][BY_CODE.length][];
+
+    static {
+        for (Glyph from : BY_CODE) {
+            for (Glyph to : BY_CODE) {
+                TRANSITIONS[from.ordinal()][to.ordinal()] = to.transitionFrom(from);
+            }
+        }
+    }
+
+    /**
+     * Последовательность включения стиля, когда предыдущего стиля нет.
+     */
+    final byte[] style;
+
+    /**
+     * Текст клетки.
+     */
+    final byte[] text;
+
+    /**
+     * Клетка целиком в виде строки: стиль, текст и сброс стиля, как в {@link InterfaceTemplates}.
+     */
+    final String template;
+
+    private final int background;
+    private final int foreground;
+
+    Glyph(String style, String text) {
+        this.style = style.getBytes(StandardCharsets.UTF_8);
+        this.text = text.getBytes(StandardCharsets.UTF_8);
+        this.template = style + text + Styles.RESET;
+        int back = DEFAULT_COLOR;
+        int fore = DEFAULT_COLOR;
+        // Стиль — последовательность вида ESC[42m ESC[30m; константы перечисления создаются раньше статических полей
+        for (String part : style.split("\u001B\\[")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            int code = Integer.parseInt(part.substring(0, part.length() - 1));
+            if (code >= FIRST_BACKGROUND && code <= LAST_BACKGROUND) {
+                back = code;
+            } else if (code >= FIRST_FOREGROUND) {
+                fore = code;
+            }
+        }
+        this.background = back;
+        this.foreground = fore;
+    }
+
+    /**
+     * Возвращает изображение клетки по её коду.
+     *
+     * @param code код клетки: {@link backend.academy.dto.Maze#WALL} или порядковый номер поверхности плюс один
+     * @return изображение клетки
+     */
+    static Glyph ofCode(byte code) {
+        return BY_CODE[code];
+    }
+
+    /**
+     * Возвращает изображение клеток слоя выделения.
+     *
+     * @param kind вид выделения
+     * @return изображение клетки слоя
+     */
+    static Glyph of(Overlay.Kind kind) {
+        return switch (kind) {
+            case VISITED -> VISITED;
+            case FRONTIER -> FRONTIER;
+            default -> PATH;
+        };
+    }
+
+    /**
+     * Возвращает последовательность, которая переключает терминал со стиля {@code previous} на стиль этого изображения.
+     *
+     * @param previous изображение предыдущей клетки строки или {@code null} в начале строки
+     * @return байты SGR; пустой массив, если стиль не меняется
+     */
+    byte[] after(Glyph previous) {
+        return previous == null ? style : TRANSITIONS[previous.ordinal()][ordinal()];
+    }
+
+    /**
+     * Наибольшая длина байтов, которую может занять одна клетка со сменой стиля.
+     *
+     * @return длина в байтах
+     */
+    static int maxLength() {
+        int max = 0;
+        for (Glyph glyph : BY_CODE) {
+            max = Math.max(max, glyph.style.length + glyph.text.length);
+        }
+        return max;
+    }
+
+    private byte[] transitionFrom(Glyph previous) {
+        List<String> codes = new ArrayList<>();
+        if (background != previous.background) {
+            codes.add(String.valueOf(background));
+        }
+        if (foreground != previous.foreground) {
+            codes.add(String.valueOf(foreground == DEFAULT_COLOR ? DEFAULT_FOREGROUND : foreground));
+        }
+        if (codes.isEmpty()) {
+            return new byte[0];
+        }
+        return ("\u001B[" + String.join(";", codes) + "m").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -4,11 +4,12 @@ import backend.academy.constants.InterfaceTemplates;
 import backend.academy.dto.Cell;
 import backend.academy.dto.Coordinate;
 import backend.academy.dto.Maze;
+import backend.academy.renders.Overlay;
 import backend.academy.renders.Renderer;
-import java.util.Collections;
-import java.util.HashSet;
+import backend.academy.renders.Viewport;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Реализация интерфейса {@link Renderer} для рендеринга лабиринта в строковое представление.
@@ -26,6 +27,7 @@ import java.util.Set;
  * </ul>
  * Лабиринт отображается с нумерацией строк и столбцов для удобства навигации.
  * Если задан путь, то он отображается поверх лабиринта с выделением стартовой и конечной точек.
+ * Так же поверх лабиринта отображаются слои {@link Overlay}: раскрытые поиском клетки и граница поиска.
  * <br/>
  * Поверхности клеток проходов отображаются с использованием различных цветов и символов,
  * представляя разные типы поверхностей: обычные, болота, монеты и хорошие покрытия.
@@ -55,52 +57,116 @@ public class MazeRendererImpl implements Renderer {
     @Override
     public String render(Maze maze, List<Coordinate> path) {
         StringBuilder sb = new StringBuilder();
-        Cell[][] grid = maze.grid();
+        try {
+            render(maze, path, sb);
+        } catch (IOException e) {
+            // StringBuilder не бросает IOException
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
 
-        // Преобразуем путь в множество для быстрого доступа
-        Set<Coordinate> pathSet = path != null ? new HashSet<>(path) : Collections.emptySet();
+    /**
+     * Рендерит окно лабиринта со слоями выделения построчно в {@code out}: каждая строка окна собирается
+     * в переиспользуемый буфер и передаётся приёмнику целиком.
+     *
+     * @param maze     объект {@link Maze} для рендеринга
+     * @param viewport окно {@link Viewport} лабиринта
+     * @param out      приёмник текста
+     * @param overlays слои выделения {@link Overlay}; при пересечении рисуется последний
+     * @throws IOException если приёмник не принимает текст
+     */
+    @Override
+    public void render(Maze maze, Viewport viewport, Appendable out, Overlay... overlays) throws IOException {
+        viewport.within(maze);
+        StringBuilder sb = new StringBuilder();
 
         // Отображаем номера столбцов
         sb.append("    ");
 
         String format = "%2d ";
-        for (int col = 0; col < maze.width(); col++) {
+        for (int col = viewport.col(); col < viewport.col() + viewport.width(); col++) {
             sb.append(String.format(format, col));
         }
         sb.append("\n");
+        out.append(sb);
 
-        // Проходим по каждой строке и столбцу сетки
-        for (int row = 0; row < maze.height(); row++) {
+        // Проходим по каждой строке и столбцу окна
+        for (int row = viewport.row(); row < viewport.row() + viewport.height(); row++) {
+            sb.setLength(0);
             // Отображаем номер строки
             sb.append(String.format(format, row));
 
-            for (int col = 0; col < maze.width(); col++) {
-                Cell cell = grid[row][col];
-                Coordinate coord = new Coordinate(row, col);
+            for (int col = viewport.col(); col < viewport.col() + viewport.width(); col++) {
+                long index = maze.index(row, col);
+                String overlay = renderOverlay(index, overlays);
 
-                // Проверяем, является ли текущая клетка частью пути
-                if (pathSet.contains(coord)) {
-                    if (coord.equals(path.getFirst())) {
-                        // Стартовая точка пути
-                        sb.append(InterfaceTemplates.START);
-                    } else if (coord.equals(path.getLast())) {
-                        // Конечная точка пути
-                        sb.append(InterfaceTemplates.END);
-                    } else {
-                        // Промежуточные точки пути
-                        sb.append(InterfaceTemplates.PATH);
-                    }
-                } else if (cell.type() == Cell.Type.WALL) {
+                if (overlay != null) {
+                    // Клетка выделена одним из слоёв
+                    sb.append(overlay);
+                } else if (!maze.isPassage(index)) {
                     // Отображаем стену
                     sb.append(InterfaceTemplates.WALL);
                 } else {
                     // Отображаем поверхность клетки
-                    sb.append(renderSurface(cell.surface()));
+                    sb.append(renderSurface(maze.surface(index)));
                 }
             }
             sb.append("\n");
+            out.append(sb);
         }
-        return sb.toString();
+    }
+
+    /**
+     * Рендерит уменьшенный обзор лабиринта: каждая клетка обзора обобщает блок клеток лабиринта.
+     *
+     * @param maze      объект {@link Maze} для рендеринга
+     * @param blockSize сторона блока в клетках лабиринта
+     * @param out       приёмник текста
+     * @param overlays  слои выделения {@link Overlay}; при пересечении рисуется последний
+     * @throws IOException если приёмник не принимает текст
+     */
+    @Override
+    public void renderOverview(Maze maze, int blockSize, Appendable out, Overlay... overlays) throws IOException {
+        Overview overview = new Overview(maze, blockSize, overlays);
+        StringBuilder sb = new StringBuilder();
+        for (int blockRow = 0; blockRow < overview.rows(); blockRow++) {
+            sb.setLength(0);
+            for (Glyph glyph : overview.row(blockRow)) {
+                sb.append(glyph.template);
+            }
+            sb.append("\n");
+            out.append(sb);
+        }
+    }
+
+    /**
+     * Находит выделение клетки в последнем содержащем её слое.
+     * Начальная и конечная клетки слоя выделяются символами "S" и "E".
+     *
+     * @param index    индекс клетки
+     * @param overlays слои выделения
+     * @return строковое представление выделенной клетки или {@code null}, если клетка не выделена
+     */
+    private String renderOverlay(long index, Overlay[] overlays) {
+        for (int i = overlays.length - 1; i >= 0; i--) {
+            Overlay overlay = overlays[i];
+            if (overlay.contains(index)) {
+                if (index == overlay.start()) {
+                    return InterfaceTemplates.START;
+                }
+                return index == overlay.end() ? InterfaceTemplates.END : renderKind(overlay.kind());
+            }
+        }
+        return null;
+    }
+
+    private String renderKind(Overlay.Kind kind) {
+        return switch (kind) {
+            case VISITED -> InterfaceTemplates.VISITED;
+            case FRONTIER -> InterfaceTemplates.FRONTIER;
+            default -> InterfaceTemplates.PATH;
+        };
     }
 
     /**
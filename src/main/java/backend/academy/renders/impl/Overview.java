@@ -0,0 +1,141 @@
+package backend.academy.renders.impl;
+
+import backend.academy.dto.Maze;
+import backend.academy.renders.Overlay;
+import java.util.Arrays;
+
+/**
+ * Уменьшенное изображение лабиринта: каждая клетка обзора обобщает блок {@code k×k} клеток лабиринта.
+ * <p>
+ * Блок, в котором есть клетки слоя выделения, рисуется изображением слоя (начало и конец слоя важнее
+ * остальных его клеток); иначе — по доле стен: почти сплошные стены, почти свободный проход или смесь.
+ * Доля стен оценивается по сетке не более чем {@value #SAMPLES}×{@value #SAMPLES} клеток блока, а клетки слоёв
+ * ищутся двоичным поиском по отрезку индексов полосы блоков с переходом сразу к следующему блоку, поэтому время
+ * построения зависит от размера обзора и длины слоёв, а не от числа клеток лабиринта.
+ * </p>
+ * <p>
+ * Обзор строится по одной строке блоков за раз, чтобы рендерер мог сразу её вывести.
+ * </p>
+ */
+final class Overview {
+
+    /**
+     * Наибольшее число проб по каждой стороне блока.
+     */
+    static final int SAMPLES = 4;
+
+    // Доли стен в четвертях: от трёх четвертей — стены, до одной четверти — проход
+    private static final int QUARTERS = 4;
+    private static final int DENSE_QUARTERS = 3;
+
+    private final Maze maze;
+    private final int blockSize;
+    private final Overlay[] overlays;
+    private final Glyph[] row;
+
+    /**
+     * Создаёт обзор лабиринта.
+     *
+     * @param maze      лабиринт
+     * @param blockSize сторона блока в клетках лабиринта
+     * @param overlays  слои выделения; при пересечении рисуется последний
+     * @throws IllegalArgumentException если сторона блока не положительна
+     */
+    Overview(Maze maze, int blockSize, Overlay[] overlays) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Сторона блока обзора должна быть положительной.");
+        }
+        this.maze = maze;
+        this.blockSize = blockSize;
+        this.overlays = overlays;
+        this.row = new Glyph[columns()];
+    }
+
+    /**
+     * Возвращает число строк обзора.
+     *
+     * @return число строк блоков
+     */
+    int rows() {
+        return (maze.height() + blockSize - 1) / blockSize;
+    }
+
+    /**
+     * Возвращает число столбцов обзора.
+     *
+     * @return число столбцов блоков
+     */
+    int columns() {
+        return (maze.width() + blockSize - 1) / blockSize;
+    }
+
+    /**
+     * Строит строку обзора. Возвращаемый массив переиспользуется следующим вызовом.
+     *
+     * @param blockRow номер строки блоков
+     * @return изображения блоков строки
+     */
+    Glyph[] row(int blockRow) {
+        Arrays.fill(row, null);
+        int top = blockRow * blockSize;
+        int bottom = Math.min(top + blockSize, maze.height());
+        for (Overlay overlay : overlays) {
+            markOverlay(overlay, top, bottom);
+        }
+        for (int block = 0; block < row.length; block++) {
+            if (row[block] == null) {
+                row[block] = density(top, bottom, block);
+            }
+        }
+        return row;
+    }
+
+    private void markOverlay(Overlay overlay, int top, int bottom) {
+        // Строки полосы блоков идут в лабиринте подряд, поэтому клетки слоя в полосе — один отрезок индексов
+        int width = maze.width();
+        long bandEnd = maze.index(bottom - 1, 0) + width;
+        Glyph glyph = Glyph.of(overlay.kind());
+        long index = overlay.next(maze.index(top, 0), bandEnd);
+        while (index != Overlay.NONE) {
+            int col = (int) (index % width);
+            int block = col / blockSize;
+            row[block] = glyph;
+            // Остаток блока в этой строке уже отмечен: сразу переходим к следующему блоку или строке
+            index = overlay.next(index - col + Math.min((long) (block + 1) * blockSize, width), bandEnd);
+        }
+        markEndpoint(overlay.start(), Glyph.START, top, bottom);
+        markEndpoint(overlay.end(), Glyph.END, top, bottom);
+    }
+
+    private void markEndpoint(long index, Glyph glyph, int top, int bottom) {
+        if (index == Overlay.NONE) {
+            return;
+        }
+        long r = index / maze.width();
+        if (r >= top && r < bottom) {
+            row[(int) (index % maze.width()) / blockSize] = glyph;
+        }
+    }
+
+    private Glyph density(int top, int bottom, int block) {
+        int left = block * blockSize;
+        int right = Math.min(left + blockSize, maze.width());
+        int rowSamples = Math.min(SAMPLES, bottom - top);
+        int colSamples = Math.min(SAMPLES, right - left);
+        int walls = 0;
+        for (int i = 0; i < rowSamples; i++) {
+            int r = top + (2 * i + 1) * (bottom - top) / (2 * rowSamples);
+            for (int j = 0; j < colSamples; j++) {
+                int c = left + (2 * j + 1) * (right - left) / (2 * colSamples);
+                if (!maze.isPassage(maze.index(r, c))) {
+                    walls++;
+                }
+            }
+        }
+        int samples = rowSamples * colSamples;
+        if (walls * QUARTERS >= samples * DENSE_QUARTERS) {
+            return Glyph.WALL;
+        }
+        return walls * QUARTERS <= samples ? Glyph.NORMAL : Glyph.MIXED;
+    }
+}
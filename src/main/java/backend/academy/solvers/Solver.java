@@ -2,8 +2,43 @@ package backend.academy.solvers;
 
 import backend.academy.dto.Coordinate;
 import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
 import java.util.List;
 
 public interface Solver {
+    /**
+     * Ищет путь от {@code start} до {@code end}. Путь есть, только если обе клетки — проходы:
+     * если начальная или конечная клетка — стена, возвращается пустой список, даже когда они совпадают.
+     *
+     * @param maze  лабиринт
+     * @param start начальная координата
+     * @param end   конечная координата
+     * @return путь от начальной клетки до конечной или пустой список, если пути нет
+     */
     List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end);
+
+    /**
+     * Ищет путь и возвращает его вместе со статистикой поиска.
+     * Решатели, которые считают раскрытые клетки, переопределяют этот метод.
+     *
+     * @param maze  лабиринт
+     * @param start начальная координата
+     * @param end   конечная координата
+     * @return путь и количество раскрытых клеток
+     */
+    default SearchResult search(Maze maze, Coordinate start, Coordinate end) {
+        return new SearchResult(solve(maze, start, end), SearchResult.UNKNOWN);
+    }
+
+    /**
+     * Проверяет, что обе конечные точки запроса — проходы, то есть путь между ними может существовать.
+     *
+     * @param maze  лабиринт
+     * @param start начальная координата
+     * @param end   конечная координата
+     * @return {@code true}, если ни одна из клеток не стена
+     */
+    static boolean passableEndpoints(Maze maze, Coordinate start, Coordinate end) {
+        return maze.isPassage(maze.index(start.row(), start.col())) && maze.isPassage(maze.index(end.row(), end.col()));
+    }
 }
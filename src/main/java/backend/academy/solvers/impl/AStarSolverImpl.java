@@ -0,0 +1,209 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.solvers.Solver;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Реализация интерфейса {@link Solver} на основе алгоритма A*.
+ * <p>
+ * Манхэттенское расстояние, умноженное на стоимость самого дешёвого шага, здесь вырождается в ноль:
+ * монетка стоит {@code 0}. Поэтому вместо него используется оценка пересечения строк и столбцов.
+ * Чтобы дойти из строки {@code r} до строки цели, путь обязан войти хотя бы в одну клетку каждой строки
+ * между ними, включая строку цели, и заплатить не меньше минимальной стоимости прохода в этой строке.
+ * Впервые в строку входят вертикальным шагом, а в столбец — горизонтальным, поэтому суммы минимумов
+ * по строкам и по столбцам относятся к разным шагам и складываются. Такая эвристика допустима и монотонна:
+ * найденный путь оптимален, а каждая клетка раскрывается не более одного раза.
+ * </p>
+ * <p>
+ * Без монеток оценка совпадает с манхэттенским расстоянием, умноженным на стоимость самого дешёвого шага;
+ * строки и столбцы с монеткой дают ноль. На больших случайных лабиринтах монетка есть почти в каждой строке,
+ * эвристика стремится к нулю и поиск вырождается в алгоритм Дейкстры, оставаясь корректным.
+ * </p>
+ * <p>
+ * Запрос стоит пропорционально числу раскрытых клеток, а не размеру лабиринта. Минимумы по строкам и столбцам
+ * считаются одним проходом по лабиринту при первом запросе к нему и переиспользуются, пока решателю передаётся
+ * тот же лабиринт; они отражают лабиринт на момент этого запроса. Расстояния и предшественники хранятся
+ * в {@link SearchContext} с метками посещения и не очищаются между запросами. Поэтому экземпляр
+ * не потокобезопасен: каждому потоку нужен свой решатель.
+ * </p>
+ */
+public class AStarSolverImpl implements Solver {
+
+    // Возможные перемещения: вверх, вниз, влево, вправо
+    private static final int[] D_ROWS = {-1, 1, 0, 0};
+    private static final int[] D_COLS = {0, 0, -1, 1};
+
+    private final SearchContext context = new SearchContext();
+
+    private Maze boundsMaze;
+    private int[] rowBounds;
+    private int[] colBounds;
+
+    /**
+     * Находит путь с наименьшей стоимостью от {@code start} до {@code end}.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return список {@link Coordinate}, представляющий путь с наименьшей стоимостью от {@code start} до {@code end},
+     *         или пустой список, если путь не существует или одна из координат — стена
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end) {
+        return search(maze, start, end).path();
+    }
+
+    /**
+     * Выполняет тот же поиск, что и {@link #solve(Maze, Coordinate, Coordinate)},
+     * дополнительно подсчитывая раскрытые клетки.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return путь и количество раскрытых клеток
+     */
+    @Override
+    public SearchResult search(Maze maze, Coordinate start, Coordinate end) {
+        if (!Solver.passableEndpoints(maze, start, end)) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+        int height = maze.height();
+        int width = maze.width();
+        context.prepare(maze.arrayCellCount());
+        int[] distances = context.distances();
+        int[] predecessors = context.predecessors();
+        int[] stamps = context.stamps();
+        int epoch = context.epoch();
+        useBounds(maze);
+        LongHeap open = new LongHeap();
+
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+        stamps[startIndex] = epoch;
+        distances[startIndex] = 0;
+        open.push(LongHeap.pack(heuristic(start.row(), start.col(), end), startIndex));
+        long expanded = 0;
+
+        while (!open.isEmpty()) {
+            long key = open.pop();
+            int current = LongHeap.index(key);
+            int row = current / width;
+            int col = current % width;
+
+            // Устаревшая запись: расстояние до клетки с тех пор уменьшилось. Эвристика монотонна,
+            // поэтому раскрытая клетка больше не улучшается и раскрывается ровно один раз
+            if (LongHeap.priority(key) != distances[current] + heuristic(row, col, end)) {
+                continue;
+            }
+            expanded++;
+            if (current == endIndex) {
+                return new SearchResult(
+                    PathReconstruction.fromPredecessors(predecessors, startIndex, endIndex, width), expanded);
+            }
+
+            for (int i = 0; i < D_COLS.length; i++) {
+                int newRow = row + D_ROWS[i];
+                int newCol = col + D_COLS[i];
+                int neighbor = newRow * width + newCol;
+                if (newRow < 0 || newRow >= height || newCol < 0 || newCol >= width || !maze.isPassage(neighbor)) {
+                    continue;
+                }
+                int newDist = distances[current] + maze.cost(neighbor);
+                if (stamps[neighbor] != epoch || newDist < distances[neighbor]) {
+                    stamps[neighbor] = epoch;
+                    distances[neighbor] = newDist;
+                    predecessors[neighbor] = current;
+                    open.push(LongHeap.pack(newDist + heuristic(newRow, newCol, end), neighbor));
+                }
+            }
+        }
+
+        // Если путь не найден, возвращаем пустой список
+        return new SearchResult(Collections.emptyList(), expanded);
+    }
+
+    /**
+     * Готовит минимумы по строкам и столбцам лабиринта, если они ещё не посчитаны для него.
+     *
+     * @param maze лабиринт запроса
+     */
+    private void useBounds(Maze maze) {
+        if (boundsMaze == maze) {
+            return;
+        }
+        rowBounds = new int[maze.height() + 1];
+        colBounds = new int[maze.width() + 1];
+        crossingBounds(maze, rowBounds, colBounds);
+        boundsMaze = maze;
+    }
+
+    /**
+     * Заполняет префиксные суммы минимальных стоимостей прохода по строкам и столбцам:
+     * {@code rowBounds[r + 1] - rowBounds[r]} — наименьшая стоимость клетки-прохода в строке {@code r}.
+     * Строки и столбцы без проходов пересечь нельзя, для них берётся ноль.
+     *
+     * @param maze      лабиринт
+     * @param rowBounds массив длины {@code height + 1}
+     * @param colBounds массив длины {@code width + 1}
+     */
+    private static void crossingBounds(Maze maze, int[] rowBounds, int[] colBounds) {
+        int height = maze.height();
+        int width = maze.width();
+        int[] rowMin = new int[height];
+        int[] colMin = new int[width];
+        Arrays.fill(rowMin, Integer.MAX_VALUE);
+        Arrays.fill(colMin, Integer.MAX_VALUE);
+
+        int index = 0;
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++, index++) {
+                if (maze.isPassage(index)) {
+                    int cost = maze.cost(index);
+                    rowMin[row] = Math.min(rowMin[row], cost);
+                    colMin[col] = Math.min(colMin[col], cost);
+                }
+            }
+        }
+        prefixSums(rowMin, rowBounds);
+        prefixSums(colMin, colBounds);
+    }
+
+    private static void prefixSums(int[] minimums, int[] sums) {
+        for (int i = 0; i < minimums.length; i++) {
+            sums[i + 1] = sums[i] + (minimums[i] == Integer.MAX_VALUE ? 0 : minimums[i]);
+        }
+    }
+
+    /**
+     * Оценивает снизу стоимость пути от клетки до цели.
+     *
+     * @param row строка клетки
+     * @param col столбец клетки
+     * @param end цель
+     * @return допустимая и монотонная оценка стоимости
+     */
+    private int heuristic(int row, int col, Coordinate end) {
+        return crossing(rowBounds, row, end.row()) + crossing(colBounds, col, end.col());
+    }
+
+    /**
+     * Сумма минимальных стоимостей линий, в которые нужно войти, чтобы перейти с линии {@code from}
+     * на линию {@code to}: все линии между ними и сама {@code to}, но не {@code from}.
+     *
+     * @param bounds префиксные суммы минимумов
+     * @param from   исходная линия
+     * @param to     линия цели
+     * @return нижняя граница стоимости пересечения
+     */
+    private static int crossing(int[] bounds, int from, int to) {
+        if (from < to) {
+            return bounds[to + 1] - bounds[from + 1];
+        }
+        return bounds[from] - bounds[to];
+    }
+}
@@ -1,14 +1,12 @@
 package backend.academy.solvers.impl;
 
-import backend.academy.dto.Cell;
 import backend.academy.dto.Coordinate;
 import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
 import backend.academy.solvers.Solver;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
 
 /**
  * Реализация интерфейса {@link Solver} с использованием алгоритма поиска в ширину (BFS).
@@ -16,73 +14,174 @@ import java.util.Queue;
  * Этот класс предоставляет метод для нахождения кратчайшего пути от начальной координаты до конечной
  * в лабиринте, учитывая стоимость перемещения по различным типам поверхностей ячеек.
  * </p>
+ * <p>
+ * Очередь, предшественники и метки посещения хранятся в {@link SearchContext} и переиспользуются
+ * между запросами, поэтому повторный поиск на лабиринте того же размера выделяет память только под найденный
+ * путь. Из-за этого экземпляр не потокобезопасен: каждому потоку нужен свой решатель.
+ * </p>
+ * <p>
+ * Лабиринт больше {@link Integer#MAX_VALUE} клеток (например, отображённый из файла) не помещается в массивы
+ * кучи. Для него индексы клеток — {@code long}, очередь — растущее кольцо {@link LongQueue}, а вместо
+ * предшественников для каждой клетки хранится байт с направлением шага, которым в неё пришли,
+ * в страницах вне кучи {@link PagedCellCodes}. Страницы выделяются по мере обхода и освобождаются
+ * после запроса, поэтому память растёт с обойдённой областью, а не с размером лабиринта.
+ * </p>
  */
 public class BFSSolverImpl implements Solver {
 
+    private static final int NO_PREDECESSOR = -1;
+
+    // Коды клеток поиска по страницам: 0 — не посещена, 1..4 — номер шага плюс один, START — начало пути
+    private static final byte START = 5;
+
+    // Возможные перемещения: вверх, вниз, влево, вправо
+    private static final int[] D_ROWS = {-1, 1, 0, 0};
+    private static final int[] D_COLS = {0, 0, -1, 1};
+
+    private final SearchContext context = new SearchContext();
+
     /**
      * Решает лабиринт с помощью алгоритма BFS для нахождения кратчайшего пути от {@code start} до {@code end}.
      * <p>
      * Этот метод ищет путь с наименьшим количеством шагов, игнорируя стоимость перемещения через поверхности ячеек.
-     * Он использует очередь для исследования соседних ячеек в порядке ширины и поддерживает массивы для отслеживания
-     * посещенных ячеек и их предшественников.
+     * Он использует очередь на массиве {@code int} для исследования соседних ячеек в порядке ширины,
+     * плоский массив предшественников и метки посещения с номером запроса.
      * </p>
      *
      * @param maze  лабиринт {@link Maze} для решения
      * @param start начальная координата {@link Coordinate}
      * @param end   конечная координата {@link Coordinate}
      * @return список {@link Coordinate}, представляющий кратчайший путь от {@code start} до {@code end},
-     *         или пустой список, если путь не существует
+     *         или пустой список, если путь не существует или одна из координат — стена
      */
     @Override
     public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end) {
+        return search(maze, start, end).path();
+    }
+
+    /**
+     * Выполняет тот же поиск, что и {@link #solve(Maze, Coordinate, Coordinate)},
+     * дополнительно подсчитывая раскрытые клетки.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return путь и количество раскрытых клеток
+     */
+    @Override
+    public SearchResult search(Maze maze, Coordinate start, Coordinate end) {
+        if (!Solver.passableEndpoints(maze, start, end)) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+        if (maze.cellCount() > Integer.MAX_VALUE) {
+            return searchPaged(maze, start, end);
+        }
         int height = maze.height();
         int width = maze.width();
-        Cell[][] grid = maze.grid();
+        int cellCount = maze.arrayCellCount();
 
-        boolean[][] visited = new boolean[height][width];
-        Coordinate[][] predecessors = new Coordinate[height][width];
+        context.prepare(cellCount);
+        int[] predecessors = context.predecessors();
+        int[] stamps = context.stamps();
+        int epoch = context.epoch();
 
-        Queue<Coordinate> queue = new LinkedList<>();
-        queue.add(start);
-        visited[start.row()][start.col()] = true;
+        // Очередь на массиве: каждая клетка попадает в неё не более одного раза
+        int[] queue = context.queue();
+        int head = 0;
+        int tail = 0;
 
-        // Возможные перемещения: вверх, вниз, влево, вправо
-        int[] dRows = {-1, 1, 0, 0};
-        int[] dCols = {0, 0, -1, 1};
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+        queue[tail++] = startIndex;
+        predecessors[startIndex] = NO_PREDECESSOR;
+        stamps[startIndex] = epoch;
+        long expanded = 0;
 
-        while (!queue.isEmpty()) {
-            Coordinate current = queue.poll();
+        while (head < tail) {
+            int current = queue[head++];
+            expanded++;
 
             // Проверяем, достигли ли конечной координаты
-            if (current.equals(end)) {
-                List<Coordinate> path = new ArrayList<>();
-                Coordinate step = end;
-                // Восстанавливаем путь, следуя по предшественникам
-                while (step != null) {
-                    path.add(step);
-                    step = predecessors[step.row()][step.col()];
-                }
-                Collections.reverse(path);
-                return path;
+            if (current == endIndex) {
+                return new SearchResult(
+                    PathReconstruction.fromPredecessors(predecessors, startIndex, endIndex, width), expanded);
             }
 
+            int row = current / width;
+            int col = current % width;
+
             // Исследуем соседние ячейки
-            for (int i = 0; i < dCols.length; i++) {
-                int newRow = current.row() + dRows[i];
-                int newCol = current.col() + dCols[i];
+            for (int i = 0; i < D_COLS.length; i++) {
+                int newRow = row + D_ROWS[i];
+                int newCol = col + D_COLS[i];
+                int neighbor = newRow * width + newCol;
 
                 // Проверяем границы лабиринта и тип ячейки
                 if (0 <= newRow && newRow < height && 0 <= newCol && newCol < width) {
-                    if (!visited[newRow][newCol] && grid[newRow][newCol].type() == Cell.Type.PASSAGE) {
-                        visited[newRow][newCol] = true;
-                        predecessors[newRow][newCol] = current;
-                        queue.add(new Coordinate(newRow, newCol));
+                    if (stamps[neighbor] != epoch && maze.isPassage(neighbor)) {
+                        stamps[neighbor] = epoch;
+                        predecessors[neighbor] = current;
+                        queue[tail++] = neighbor;
                     }
                 }
             }
         }
 
         // Возвращаем пустой список, если путь не найден
-        return Collections.emptyList();
+        return new SearchResult(Collections.emptyList(), expanded);
+    }
+
+    /**
+     * Поиск в ширину по индексам {@code long} для лабиринтов, не помещающихся в массивы кучи.
+     */
+    private static SearchResult searchPaged(Maze maze, Coordinate start, Coordinate end) {
+        int height = maze.height();
+        int width = maze.width();
+        long startIndex = maze.index(start.row(), start.col());
+        long endIndex = maze.index(end.row(), end.col());
+        LongQueue queue = new LongQueue();
+        long expanded = 0;
+
+        try (PagedCellCodes moves = new PagedCellCodes(maze.cellCount())) {
+            queue.add(startIndex);
+            moves.set(startIndex, START);
+            while (!queue.isEmpty()) {
+                long current = queue.poll();
+                expanded++;
+                if (current == endIndex) {
+                    return new SearchResult(pathFromMoves(moves, startIndex, endIndex, width), expanded);
+                }
+
+                int row = (int) (current / width);
+                int col = (int) (current % width);
+                for (int i = 0; i < D_COLS.length; i++) {
+                    int newRow = row + D_ROWS[i];
+                    int newCol = col + D_COLS[i];
+                    long neighbor = maze.index(newRow, newCol);
+                    if (0 <= newRow && newRow < height && 0 <= newCol && newCol < width
+                        && moves.get(neighbor) == 0 && maze.isPassage(neighbor)) {
+                        moves.set(neighbor, (byte) (i + 1));
+                        queue.add(neighbor);
+                    }
+                }
+            }
+        }
+        return new SearchResult(Collections.emptyList(), expanded);
+    }
+
+    /**
+     * Восстанавливает путь, шагая от конечной клетки против записанных направлений до начальной.
+     */
+    private static List<Coordinate> pathFromMoves(PagedCellCodes moves, long startIndex, long endIndex, int width) {
+        List<Coordinate> path = new ArrayList<>();
+        long step = endIndex;
+        while (step != startIndex) {
+            path.add(new Coordinate((int) (step / width), (int) (step % width)));
+            int move = moves.get(step) - 1;
+            step -= (long) D_ROWS[move] * width + D_COLS[move];
+        }
+        path.add(new Coordinate((int) (startIndex / width), (int) (startIndex % width)));
+        Collections.reverse(path);
+        return path;
     }
 }
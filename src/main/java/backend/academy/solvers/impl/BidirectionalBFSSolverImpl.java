@@ -0,0 +1,187 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.solvers.Solver;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Реализация интерфейса {@link Solver} на основе двунаправленного поиска в ширину.
+ * <p>
+ * Поиск одновременно ведётся от начальной и от конечной клетки; каждый шаг раскрывает целый уровень
+ * той стороны, у которой фронт меньше. До первой встречи каждая сторона открыла ровно шар своего радиуса,
+ * поэтому первое же ребро между клетками разных сторон лежит на кратчайшем пути, и поиск на нём останавливается.
+ * В длинном коридоре идеального лабиринта обе стороны проходят примерно по половине пути,
+ * а в разветвлённой области раскрывается два шара вдвое меньшего радиуса вместо одного большого.
+ * </p>
+ * <p>
+ * На клетку приходится один байт владельца и одна ссылка: предшественник для клеток прямого поиска
+ * и преемник для клеток обратного. Очереди растут по мере надобности и занимают память
+ * только под раскрытые клетки.
+ * </p>
+ */
+public class BidirectionalBFSSolverImpl implements Solver {
+
+    private static final byte UNSEEN = 0;
+
+    private static final byte FORWARD = 1;
+
+    private static final byte BACKWARD = 2;
+
+    private static final long NO_MEETING = -1;
+
+    private static final int INDEX_BITS = 32;
+
+    private static final long INDEX_MASK = 0xFFFF_FFFFL;
+
+    // Возможные перемещения: вверх, вниз, влево, вправо
+    private static final int[] D_ROW = {-1, 1, 0, 0};
+    private static final int[] D_COL = {0, 0, -1, 1};
+
+    /**
+     * Находит путь с наименьшим количеством шагов от {@code start} до {@code end},
+     * игнорируя стоимость перемещения через поверхности ячеек.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return список {@link Coordinate}, представляющий кратчайший путь от {@code start} до {@code end},
+     *         или пустой список, если путь не существует или одна из координат — стена
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end) {
+        return search(maze, start, end).path();
+    }
+
+    /**
+     * Выполняет тот же поиск, что и {@link #solve(Maze, Coordinate, Coordinate)},
+     * дополнительно подсчитывая раскрытые клетки обеих сторон.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return путь и количество раскрытых клеток
+     */
+    @Override
+    public SearchResult search(Maze maze, Coordinate start, Coordinate end) {
+        // Стена в конце пути иначе оказалась бы корнем встречного поиска, и путь закончился бы в ней
+        if (!Solver.passableEndpoints(maze, start, end)) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+        int width = maze.width();
+        int cellCount = maze.arrayCellCount();
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+        if (startIndex == endIndex) {
+            return new SearchResult(List.of(start), 1);
+        }
+
+        // Сторона, открывшая клетку, и ссылка на соседа, ведущего к корню этой стороны
+        byte[] owner = new byte[cellCount];
+        int[] links = new int[cellCount];
+        owner[startIndex] = FORWARD;
+        owner[endIndex] = BACKWARD;
+        Frontier forward = new Frontier(startIndex, FORWARD);
+        Frontier backward = new Frontier(endIndex, BACKWARD);
+
+        long meeting = NO_MEETING;
+        while (meeting == NO_MEETING && !forward.isEmpty() && !backward.isEmpty()) {
+            Frontier side = forward.pending() <= backward.pending() ? forward : backward;
+            meeting = expandLevel(maze, side, owner, links);
+        }
+
+        long expanded = forward.expanded() + backward.expanded();
+        if (meeting == NO_MEETING) {
+            return new SearchResult(Collections.emptyList(), expanded);
+        }
+        int forwardMeet = (int) (meeting >>> INDEX_BITS);
+        int backwardMeet = (int) (meeting & INDEX_MASK);
+        return new SearchResult(
+            PathReconstruction.fromBothSides(links, links, startIndex, forwardMeet, backwardMeet, endIndex, width),
+            expanded);
+    }
+
+    /**
+     * Раскрывает все клетки текущего уровня стороны и открывает следующий уровень.
+     *
+     * @param maze  лабиринт
+     * @param side  раскрываемая сторона
+     * @param owner владельцы клеток
+     * @param links предшественники и преемники клеток
+     * @return упакованное ребро встречи {@code forwardCell << 32 | backwardCell}
+     *         или {@link #NO_MEETING}, если стороны не встретились
+     */
+    private static long expandLevel(Maze maze, Frontier side, byte[] owner, int[] links) {
+        int height = maze.height();
+        int width = maze.width();
+        int levelEnd = side.tail;
+        while (side.head < levelEnd) {
+            int current = side.poll();
+            int row = current / width;
+            int col = current % width;
+            for (int i = 0; i < D_COL.length; i++) {
+                int newRow = row + D_ROW[i];
+                int newCol = col + D_COL[i];
+                int neighbor = newRow * width + newCol;
+                if (newRow < 0 || newRow >= height || newCol < 0 || newCol >= width
+                    || !maze.isPassage(neighbor)) {
+                    continue;
+                }
+                if (owner[neighbor] == UNSEEN) {
+                    owner[neighbor] = side.owner;
+                    links[neighbor] = current;
+                    side.add(neighbor);
+                } else if (owner[neighbor] != side.owner) {
+                    return side.owner == FORWARD
+                        ? (long) current << INDEX_BITS | neighbor
+                        : (long) neighbor << INDEX_BITS | current;
+                }
+            }
+        }
+        return NO_MEETING;
+    }
+
+    /**
+     * Очередь одной из сторон поиска на растущем массиве {@code int}.
+     */
+    private static final class Frontier {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final byte owner;
+        private int[] cells = new int[INITIAL_CAPACITY];
+        private int head;
+        private int tail;
+
+        Frontier(int root, byte owner) {
+            this.owner = owner;
+            add(root);
+        }
+
+        void add(int cell) {
+            if (tail == cells.length) {
+                cells = Arrays.copyOf(cells, tail * 2);
+            }
+            cells[tail++] = cell;
+        }
+
+        int poll() {
+            return cells[head++];
+        }
+
+        int pending() {
+            return tail - head;
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        long expanded() {
+            return head;
+        }
+    }
+}
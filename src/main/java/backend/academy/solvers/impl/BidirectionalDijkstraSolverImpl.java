@@ -0,0 +1,144 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.solvers.Solver;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Реализация интерфейса {@link Solver} на основе двунаправленного алгоритма Дейкстры.
+ * <p>
+ * Прямой поиск идёт от начальной клетки, обратный — от конечной; на каждом шаге окончательное расстояние
+ * получает клетка той стороны, у которой в очереди меньший ключ. Стоимость платится при входе в клетку,
+ * поэтому прямое расстояние включает стоимость самой клетки, а обратное — нет, и их сумма для любой клетки,
+ * помеченной обеими сторонами, — стоимость настоящего пути через неё. Лучшая такая сумма {@code best}
+ * обновляется при каждом улучшении метки.
+ * </p>
+ * <p>
+ * Встреча фронтов ещё не означает оптимальности: поиск останавливается, только когда сумма наименьших ключей
+ * обеих очередей не меньше {@code best}. Любой более дешёвый путь прошёл бы через клетку, ещё не получившую
+ * окончательного расстояния ни с одной стороны, и его стоимость была бы не меньше этой суммы.
+ * Условие верно и для переходов нулевой стоимости (монеток).
+ * </p>
+ */
+public class BidirectionalDijkstraSolverImpl implements Solver {
+
+    private static final int NONE = -1;
+
+    // Возможные перемещения: вверх, вниз, влево, вправо
+    private static final int[] D_ROW = {-1, 1, 0, 0};
+    private static final int[] D_COL = {0, 0, -1, 1};
+
+    /**
+     * Находит путь с наименьшей стоимостью от {@code start} до {@code end}.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return список {@link Coordinate}, представляющий путь с наименьшей стоимостью от {@code start} до {@code end},
+     *         или пустой список, если путь не существует или одна из координат — стена
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end) {
+        return search(maze, start, end).path();
+    }
+
+    /**
+     * Выполняет тот же поиск, что и {@link #solve(Maze, Coordinate, Coordinate)},
+     * дополнительно подсчитывая раскрытые клетки обеих сторон.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return путь и количество раскрытых клеток
+     */
+    @Override
+    public SearchResult search(Maze maze, Coordinate start, Coordinate end) {
+        // Стена в конце пути иначе оказалась бы корнем встречного поиска, и путь закончился бы в ней
+        if (!Solver.passableEndpoints(maze, start, end)) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+        int height = maze.height();
+        int width = maze.width();
+        int cellCount = maze.arrayCellCount();
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+
+        Side forward = new Side(cellCount, startIndex, true);
+        Side backward = new Side(cellCount, endIndex, false);
+        int best = startIndex == endIndex ? 0 : Integer.MAX_VALUE;
+        int meet = startIndex == endIndex ? startIndex : NONE;
+        long expanded = 0;
+
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty()
+            && (long) LongHeap.priority(forward.queue.peek()) + LongHeap.priority(backward.queue.peek()) < best) {
+            Side side = forward.queue.peek() <= backward.queue.peek() ? forward : backward;
+            Side other = side == forward ? backward : forward;
+            long key = side.queue.pop();
+            int current = LongHeap.index(key);
+            // Устаревшая запись: расстояние до клетки уже улучшено
+            if (LongHeap.priority(key) != side.distances[current]) {
+                continue;
+            }
+            expanded++;
+
+            int row = current / width;
+            int col = current % width;
+            for (int i = 0; i < D_COL.length; i++) {
+                int newRow = row + D_ROW[i];
+                int newCol = col + D_COL[i];
+                int neighbor = newRow * width + newCol;
+                if (newRow < 0 || newRow >= height || newCol < 0 || newCol >= width
+                    || !maze.isPassage(neighbor)) {
+                    continue;
+                }
+                // Обратный поиск идёт против направления пути: переход neighbor -> current стоит cost(current)
+                int newDist = side.distances[current] + maze.cost(side.forward ? neighbor : current);
+                if (newDist < side.distances[neighbor]) {
+                    side.label(neighbor, newDist, current);
+                    long total = (long) newDist + other.distances[neighbor];
+                    if (total < best) {
+                        best = (int) total;
+                        meet = neighbor;
+                    }
+                }
+            }
+        }
+
+        if (meet == NONE) {
+            return new SearchResult(Collections.emptyList(), expanded);
+        }
+        return new SearchResult(
+            PathReconstruction.fromBothSides(
+                forward.links, backward.links, startIndex, meet, meet, endIndex, width),
+            expanded);
+    }
+
+    /**
+     * Состояние одной из сторон поиска: расстояния, ссылки к корню стороны и очередь.
+     */
+    private static final class Side {
+
+        private final boolean forward;
+        private final int[] distances;
+        private final int[] links;
+        private final LongHeap queue = new LongHeap();
+
+        Side(int cellCount, int root, boolean forward) {
+            this.forward = forward;
+            distances = new int[cellCount];
+            links = new int[cellCount];
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            label(root, 0, NONE);
+        }
+
+        void label(int cell, int distance, int link) {
+            distances[cell] = distance;
+            links[cell] = link;
+            queue.push(LongHeap.pack(distance, cell));
+        }
+    }
+}
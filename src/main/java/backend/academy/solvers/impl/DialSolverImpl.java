@@ -0,0 +1,174 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Cell;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.solvers.Solver;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Реализация интерфейса {@link Solver} на основе алгоритма Дейкстры с очередью Дайала (bucket queue).
+ * <p>
+ * Стоимости перехода по поверхностям — небольшие целые числа от {@code 0} до {@link #MAX_COST},
+ * поэтому вместо кучи используется кольцо из {@code MAX_COST + 1} корзин: в момент обработки корзины
+ * с расстоянием {@code d} все клетки в очереди имеют расстояние из отрезка {@code [d, d + MAX_COST]},
+ * и корзина {@code d % (MAX_COST + 1)} содержит только клетки с расстоянием ровно {@code d}.
+ * </p>
+ * <p>
+ * Корзины — двусвязные списки на массивах {@code int}: клетка при улучшении расстояния переносится
+ * в другую корзину за O(1), а во время поиска не создаётся ни одного объекта.
+ * Переходы нулевой стоимости (монетки) попадают в текущую корзину и обрабатываются в ней же.
+ * </p>
+ */
+public class DialSolverImpl implements Solver {
+
+    /**
+     * Максимальная стоимость перехода в клетку среди всех поверхностей.
+     */
+    public static final int MAX_COST = Arrays.stream(Cell.Surface.values())
+        .mapToInt(Cell.Surface::surfaceCost)
+        .max()
+        .orElseThrow();
+
+    private static final int BUCKETS = MAX_COST + 1;
+
+    private static final int NONE = -1;
+
+    /**
+     * Находит путь с наименьшей стоимостью от {@code start} до {@code end}.
+     *
+     * @param maze лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end конечная координата {@link Coordinate}
+     * @return список {@link Coordinate}, представляющий путь с наименьшей стоимостью от {@code start} до {@code end},
+     * или пустой список, если путь не существует или одна из координат — стена
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end) {
+        return search(maze, start, end).path();
+    }
+
+    /**
+     * Выполняет тот же поиск, что и {@link #solve(Maze, Coordinate, Coordinate)},
+     * дополнительно подсчитывая раскрытые клетки.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return путь и количество раскрытых клеток
+     */
+    @Override
+    public SearchResult search(Maze maze, Coordinate start, Coordinate end) {
+        if (!Solver.passableEndpoints(maze, start, end)) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+        int height = maze.height();
+        int width = maze.width();
+        int cellCount = maze.arrayCellCount();
+
+        int[] distances = new int[cellCount];
+        int[] predecessors = new int[cellCount];
+        // Двусвязные списки корзин: next/prev по клетке и голова каждой корзины
+        int[] next = new int[cellCount];
+        int[] prev = new int[cellCount];
+        int[] heads = new int[BUCKETS];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(heads, NONE);
+
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+        distances[startIndex] = 0;
+        link(startIndex, 0, heads, next, prev);
+        int queued = 1;
+        long expanded = 0;
+
+        // Возможные перемещения: вверх, вниз, влево, вправо
+        int[] dRow = {-1, 1, 0, 0};
+        int[] dCol = {0, 0, -1, 1};
+
+        for (int distance = 0; queued > 0; distance++) {
+            int bucket = distance % BUCKETS;
+            while (heads[bucket] != NONE) {
+                int current = heads[bucket];
+                unlink(current, bucket, heads, next, prev);
+                queued--;
+                expanded++;
+
+                // Клетка извлечена с окончательным расстоянием
+                if (current == endIndex) {
+                    return new SearchResult(
+                        PathReconstruction.fromPredecessors(predecessors, startIndex, endIndex, width), expanded);
+                }
+
+                int row = current / width;
+                int col = current % width;
+                for (int i = 0; i < dCol.length; i++) {
+                    int newRow = row + dRow[i];
+                    int newCol = col + dCol[i];
+                    int neighbor = newRow * width + newCol;
+                    if (newRow < 0 || newRow >= height || newCol < 0 || newCol >= width
+                        || !maze.isPassage(neighbor)) {
+                        continue;
+                    }
+                    int newDist = distance + maze.cost(neighbor);
+                    if (newDist < distances[neighbor]) {
+                        // Конечное расстояние означает, что клетка уже стоит в одной из корзин
+                        if (distances[neighbor] == Integer.MAX_VALUE) {
+                            queued++;
+                        } else {
+                            unlink(neighbor, distances[neighbor] % BUCKETS, heads, next, prev);
+                        }
+                        distances[neighbor] = newDist;
+                        predecessors[neighbor] = current;
+                        link(neighbor, newDist % BUCKETS, heads, next, prev);
+                    }
+                }
+            }
+        }
+
+        // Если путь не найден, возвращаем пустой список
+        return new SearchResult(Collections.emptyList(), expanded);
+    }
+
+    /**
+     * Добавляет клетку в начало корзины.
+     *
+     * @param cell   индекс клетки
+     * @param bucket номер корзины
+     * @param heads  головы корзин
+     * @param next   следующий элемент списка для каждой клетки
+     * @param prev   предыдущий элемент списка для каждой клетки
+     */
+    private static void link(int cell, int bucket, int[] heads, int[] next, int[] prev) {
+        int head = heads[bucket];
+        next[cell] = head;
+        prev[cell] = NONE;
+        if (head != NONE) {
+            prev[head] = cell;
+        }
+        heads[bucket] = cell;
+    }
+
+    /**
+     * Удаляет клетку из корзины.
+     *
+     * @param cell   индекс клетки
+     * @param bucket номер корзины, в которой находится клетка
+     * @param heads  головы корзин
+     * @param next   следующий элемент списка для каждой клетки
+     * @param prev   предыдущий элемент списка для каждой клетки
+     */
+    private static void unlink(int cell, int bucket, int[] heads, int[] next, int[] prev) {
+        if (prev[cell] == NONE) {
+            heads[bucket] = next[cell];
+        } else {
+            next[prev[cell]] = next[cell];
+        }
+        if (next[cell] != NONE) {
+            prev[next[cell]] = prev[cell];
+        }
+    }
+}
@@ -1,18 +1,14 @@
 package backend.academy.solvers.impl;
 
-import backend.academy.dto.Cell;
 import backend.academy.dto.Coordinate;
 import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
 import backend.academy.solvers.Solver;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.PriorityQueue;
-import java.util.Set;
 
 /**
  * Реализация интерфейса {@link Solver} с использованием алгоритма Дейкстры.
@@ -34,133 +30,110 @@ public class DijkstraSolverImpl implements Solver {
      * @param start начальная координата {@link Coordinate}
      * @param end конечная координата {@link Coordinate}
      * @return список {@link Coordinate}, представляющий путь с наименьшей стоимостью от {@code start} до {@code end},
-     * или пустой список, если путь не существует
+     * или пустой список, если путь не существует или одна из координат — стена
      */
     @Override
     public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end) {
+        return search(maze, start, end).path();
+    }
+
+    /**
+     * Выполняет тот же поиск, что и {@link #solve(Maze, Coordinate, Coordinate)},
+     * дополнительно подсчитывая раскрытые клетки.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return путь и количество раскрытых клеток
+     */
+    @Override
+    public SearchResult search(Maze maze, Coordinate start, Coordinate end) {
+        if (!Solver.passableEndpoints(maze, start, end)) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
         int height = maze.height();
         int width = maze.width();
-        Cell[][] grid = maze.grid();
+        int cellCount = maze.arrayCellCount();
 
-        // Таблица расстояний до каждой клетки
-        Map<Coordinate, Integer> distances = new HashMap<>();
+        // Таблица расстояний до каждой клетки по индексу row * width + col
+        int[] distances = new int[cellCount];
         // Хранение родительских узлов для восстановления пути
-        Map<Coordinate, Coordinate> predecessors = new HashMap<>();
+        int[] predecessors = new int[cellCount];
         // Множество посещённых вершин
-        Set<Coordinate> visited = new HashSet<>();
+        boolean[] visited = new boolean[cellCount];
         // Очередь с приоритетом (наименьший путь имеет приоритет)
-        PriorityQueue<CoordinateDistancePair> priorityQueue =
-            new PriorityQueue<>(Comparator.comparingInt(pair -> pair.distance));
+        PriorityQueue<IndexDistancePair> priorityQueue =
+            new PriorityQueue<>(Comparator.comparingInt(IndexDistancePair::distance));
 
         // Инициализация: все расстояния огромные, кроме стартовой точки
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                Coordinate coord = new Coordinate(row, col);
-                distances.put(coord, Integer.MAX_VALUE); // огромное расстояние
-            }
-        }
-        distances.put(start, 0); // Начальная точка с расстоянием 0
-        priorityQueue.add(new CoordinateDistancePair(start, 0));
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        int startIndex = start.row() * width + start.col();
+        int endIndex = end.row() * width + end.col();
+        distances[startIndex] = 0; // Начальная точка с расстоянием 0
+        priorityQueue.add(new IndexDistancePair(startIndex, 0));
+        long expanded = 0;
+
+        // Возможные перемещения: вверх, вниз, влево, вправо
+        int[] dRow = {-1, 1, 0, 0};
+        int[] dCol = {0, 0, -1, 1};
 
         // Пока очередь не пуста
         while (!priorityQueue.isEmpty()) {
-            CoordinateDistancePair currentPair = priorityQueue.poll();
-            Coordinate current = currentPair.coordinate;
+            int current = priorityQueue.poll().index();
 
             // Если текущая точка уже посещена, пропускаем
-            if (visited.contains(current)) {
+            if (visited[current]) {
                 continue;
-}
+            }
+            expanded++;
             // Если дошли до конечной точки, восстанавливаем путь
-            if (current.equals(end)) {
-                return reconstructPath(predecessors, start, end);
+            if (current == endIndex) {
+                return new SearchResult(
+                    PathReconstruction.fromPredecessors(predecessors, startIndex, endIndex, width), expanded);
             }
 
             // Помечаем текущую вершину как посещённую
-            visited.add(current);
+            visited[current] = true;
 
             // Обрабатываем соседей
-            for (Coordinate neighbor : getNeighbors(current, grid)) {
-                if (!visited.contains(neighbor)) {
-                    int newDist = distances.get(current)
-                        + Cell.Surface.surfaceCost(grid[neighbor.row()][neighbor.col()].surface());
-                    if (newDist < distances.get(neighbor)) {
-                        distances.put(neighbor, newDist);
-                        predecessors.put(neighbor, current);
-                        priorityQueue.add(new CoordinateDistancePair(neighbor, newDist));
+            int row = current / width;
+            int col = current % width;
+            for (int i = 0; i < dCol.length; i++) {
+                int newRow = row + dRow[i];
+                int newCol = col + dCol[i];
+                int neighbor = newRow * width + newCol;
+                if (isValid(newRow, newCol, height, width) && maze.isPassage(neighbor) && !visited[neighbor]) {
+                    int newDist = distances[current] + maze.cost(neighbor);
+                    if (newDist < distances[neighbor]) {
+                        distances[neighbor] = newDist;
+                        predecessors[neighbor] = current;
+                        priorityQueue.add(new IndexDistancePair(neighbor, newDist));
                     }
                 }
             }
         }
 
         // Если путь не найден, возвращаем пустой список
-        return Collections.emptyList();
-    }
-
-    /**
-     * Восстанавливает путь от {@code start} до {@code end}, используя информацию о предшественниках.
-     *
-     * @param predecessors карта предшественников для каждой координаты
-     * @param start начальная координата {@link Coordinate}
-     * @param end конечная координата {@link Coordinate}
-     * @return список {@link Coordinate}, представляющий путь от {@code start} до {@code end}
-     */
-    private List<Coordinate> reconstructPath(
-        Map<Coordinate, Coordinate> predecessors,
-        Coordinate start,
-        Coordinate end
-    ) {
-        List<Coordinate> path = new ArrayList<>();
-        Coordinate step = end;
-        while (!step.equals(start)) {
-            path.add(step);
-            step = predecessors.get(step);
-        }
-        path.add(start);
-        Collections.reverse(path);
-        return path;
-    }
-
-    /**
-     * Возвращает список соседних координат для данной координаты, которые являются допустимыми для перемещения.
-     *
-     * @param current текущая координата {@link Coordinate}
-     * @param grid двумерный массив ячеек {@link Cell} лабиринта
-     * @return список допустимых соседних координат {@link Coordinate}
-     */
-    private List<Coordinate> getNeighbors(Coordinate current, Cell[][] grid) {
-        List<Coordinate> neighbors = new ArrayList<>();
-        int[] dRow = {-1, 1, 0, 0};
-        int[] dCol = {0, 0, -1, 1};
-
-        for (int i = 0; i < dCol.length; i++) {
-            int newRow = current.row() + dRow[i];
-            int newCol = current.col() + dCol[i];
-            if (isValid(newRow, newCol, grid)) {
-                neighbors.add(new Coordinate(newRow, newCol));
-            }
-        }
-        return neighbors;
+        return new SearchResult(Collections.emptyList(), expanded);
     }
 
     /**
-     * Проверяет, является ли координата с заданными строкой и столбцом допустимой для перемещения.
-     * Координата считается допустимой, если она находится внутри границ лабиринта и является проходом.
+     * Проверяет, находится ли координата с заданными строкой и столбцом внутри границ лабиринта.
      *
      * @param row номер строки координаты
      * @param col номер столбца координаты
-     * @param grid двумерный массив ячеек {@link Cell} лабиринта
-     * @return {@code true}, если координата допустима для перемещения; {@code false} в противном случае
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @return {@code true}, если координата внутри лабиринта; {@code false} в противном случае
      */
-    private boolean isValid(int row, int col, Cell[][] grid) {
-        return row >= 0 && row < grid.length
-            && col >= 0 && col < grid[0].length
-            && grid[row][col].type() == Cell.Type.PASSAGE;
+    private boolean isValid(int row, int col, int height, int width) {
+        return row >= 0 && row < height
+            && col >= 0 && col < width;
     }
 
     /**
-     * Класс для хранения пары координаты и соответствующего расстояния до неё.
+     * Класс для хранения пары индекса клетки и соответствующего расстояния до неё.
      */
-    private record CoordinateDistancePair(Coordinate coordinate, int distance) {
+    private record IndexDistancePair(int index, int distance) {
     }
 }
@@ -0,0 +1,181 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Поле расстояний от одной клетки-источника до всех клеток лабиринта для запросов «один ко многим».
+ * <p>
+ * Поле строится одним обходом всего лабиринта: {@link #hops(Maze, Coordinate)} — поиском в ширину по числу шагов,
+ * {@link #cost(Maze, Coordinate)} — алгоритмом Дейкстры по стоимости поверхностей, как у
+ * {@link DijkstraSolverImpl}. После этого расстояние до любой клетки читается из массива за O(1),
+ * а путь восстанавливается по массиву предшественников за время, линейное по его длине.
+ * Оба массива — плоские {@code int[]} по индексу {@code row * width + col}: поле занимает 8 байт на клетку.
+ * </p>
+ * <p>
+ * Поле неизменяемо и может читаться из нескольких потоков. Оно отражает лабиринт на момент построения.
+ * </p>
+ */
+public final class DistanceField {
+
+    /**
+     * Расстояние до недостижимой клетки или стены.
+     */
+    public static final int UNREACHABLE = -1;
+
+    private static final int NONE = -1;
+
+    // Возможные перемещения: вверх, вниз, влево, вправо
+    private static final int[] D_ROW = {-1, 1, 0, 0};
+    private static final int[] D_COL = {0, 0, -1, 1};
+
+    /**
+     * Лабиринт, по которому построено поле.
+     */
+    @Getter
+    private final Maze maze;
+
+    /**
+     * Клетка-источник.
+     */
+    @Getter
+    private final Coordinate source;
+
+    private final int sourceIndex;
+    private final int[] distances;
+    private final int[] predecessors;
+
+    private DistanceField(Maze maze, Coordinate source) {
+        this.maze = maze;
+        this.source = source;
+        this.sourceIndex = (int) maze.index(source.row(), source.col());
+        this.distances = new int[maze.arrayCellCount()];
+        this.predecessors = new int[distances.length];
+        Arrays.fill(distances, UNREACHABLE);
+        if (maze.isPassage(sourceIndex)) {
+            distances[sourceIndex] = 0;
+            predecessors[sourceIndex] = NONE;
+        }
+    }
+
+    /**
+     * Строит поле расстояний в шагах поиском в ширину.
+     *
+     * @param maze   лабиринт
+     * @param source клетка-источник; если это стена, недостижимы все клетки
+     * @return поле, в котором расстояние — число шагов кратчайшего пути
+     */
+    public static DistanceField hops(Maze maze, Coordinate source) {
+        DistanceField field = new DistanceField(maze, source);
+        if (field.distances[field.sourceIndex] == UNREACHABLE) {
+            return field;
+        }
+        int[] distances = field.distances;
+        int height = maze.height();
+        int width = maze.width();
+        int[] queue = new int[distances.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = field.sourceIndex;
+        while (head < tail) {
+            int current = queue[head++];
+            int row = current / width;
+            int col = current % width;
+            for (int i = 0; i < D_ROW.length; i++) {
+                int newRow = row + D_ROW[i];
+                int newCol = col + D_COL[i];
+                int neighbor = newRow * width + newCol;
+                if (0 <= newRow && newRow < height && 0 <= newCol && newCol < width
+                    && distances[neighbor] == UNREACHABLE && maze.isPassage(neighbor)) {
+                    distances[neighbor] = distances[current] + 1;
+                    field.predecessors[neighbor] = current;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Строит поле стоимостей алгоритмом Дейкстры: стоимость пути — сумма стоимостей
+     * {@link Maze#cost(long)} клеток, в которые он входит, без клетки-источника.
+     *
+     * @param maze   лабиринт
+     * @param source клетка-источник; если это стена, недостижимы все клетки
+     * @return поле, в котором расстояние — наименьшая стоимость пути
+     */
+    public static DistanceField cost(Maze maze, Coordinate source) {
+        DistanceField field = new DistanceField(maze, source);
+        if (field.distances[field.sourceIndex] == UNREACHABLE) {
+            return field;
+        }
+        int[] distances = field.distances;
+        int height = maze.height();
+        int width = maze.width();
+        LongHeap queue = new LongHeap();
+        queue.push(LongHeap.pack(0, field.sourceIndex));
+        while (!queue.isEmpty()) {
+            long key = queue.pop();
+            int current = LongHeap.index(key);
+            // Устаревшая запись: клетка уже раскрыта с меньшей стоимостью
+            if (LongHeap.priority(key) > distances[current]) {
+                continue;
+            }
+            int row = current / width;
+            int col = current % width;
+            for (int i = 0; i < D_ROW.length; i++) {
+                int newRow = row + D_ROW[i];
+                int newCol = col + D_COL[i];
+                int neighbor = newRow * width + newCol;
+                if (0 <= newRow && newRow < height && 0 <= newCol && newCol < width && maze.isPassage(neighbor)) {
+                    int newDist = distances[current] + maze.cost(neighbor);
+                    if (distances[neighbor] == UNREACHABLE || newDist < distances[neighbor]) {
+                        distances[neighbor] = newDist;
+                        field.predecessors[neighbor] = current;
+                        queue.push(LongHeap.pack(newDist, neighbor));
+                    }
+                }
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Возвращает расстояние от источника до клетки.
+     *
+     * @param target клетка
+     * @return число шагов или стоимость пути в зависимости от способа построения;
+     *         {@link #UNREACHABLE}, если клетка — стена или до неё нет пути
+     */
+    public int distanceTo(Coordinate target) {
+        return distances[(int) maze.index(target.row(), target.col())];
+    }
+
+    /**
+     * Проверяет, достижима ли клетка из источника.
+     *
+     * @param target клетка
+     * @return {@code true}, если путь существует
+     */
+    public boolean reachable(Coordinate target) {
+        return distanceTo(target) != UNREACHABLE;
+    }
+
+    /**
+     * Восстанавливает путь от источника до клетки.
+     *
+     * @param target конечная клетка
+     * @return список {@link Coordinate} от источника до {@code target} или пустой список, если путь не существует
+     */
+    public List<Coordinate> pathTo(Coordinate target) {
+        if (!reachable(target)) {
+            return Collections.emptyList();
+        }
+        return PathReconstruction.fromPredecessors(predecessors, sourceIndex,
+            (int) maze.index(target.row(), target.col()), maze.width());
+    }
+}
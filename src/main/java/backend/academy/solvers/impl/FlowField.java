@@ -0,0 +1,225 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Поле направлений к одной цели для множества агентов: для каждой клетки хранится шаг, с которого начинается
+ * самый дешёвый путь к цели.
+ * <p>
+ * Поле строится одним обратным проходом алгоритма Дейкстры от цели. Переход в клетку стоит
+ * {@link Maze#cost(long)}, то есть {@link backend.academy.dto.Cell.Surface#surfaceCost}, поэтому стоимость
+ * клетки {@code a} — наименьшая сумма {@code cost(b) + distance(b)} по соседям {@code b}, а направление
+ * клетки указывает на такого соседа. Расстояния нужны только при построении; в поле остаётся один байт
+ * на клетку, и ход любого агента — одно чтение массива без поиска.
+ * </p>
+ * <p>
+ * Путь по направлениям из любой клетки приходит в цель и стоит столько же, сколько путь
+ * {@link DijkstraSolverImpl}. Поле неизменяемо и может читаться из любого числа потоков одновременно.
+ * </p>
+ */
+public final class FlowField {
+
+    /**
+     * Индекс следующей клетки, когда из клетки нельзя дойти до цели.
+     */
+    public static final int NONE = -1;
+
+    // Коды клеток поля: 0 — цель недостижима, 1..4 — порядковый номер направления плюс один
+    private static final byte UNREACHABLE = 0;
+    private static final byte GOAL = (byte) (Direction.values().length + 1);
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Лабиринт, по которому построено поле.
+     */
+    @Getter
+    private final Maze maze;
+
+    /**
+     * Цель, к которой ведут направления.
+     */
+    @Getter
+    private final Coordinate goal;
+
+    private final byte[] steps;
+
+    private FlowField(Maze maze, Coordinate goal, byte[] steps) {
+        this.maze = maze;
+        this.goal = goal;
+        this.steps = steps;
+    }
+
+    /**
+     * Строит поле направлений к цели.
+     *
+     * @param maze лабиринт
+     * @param goal цель; если это стена, цель недостижима из всех клеток
+     * @return поле направлений
+     */
+    public static FlowField build(Maze maze, Coordinate goal) {
+        int height = maze.height();
+        int width = maze.width();
+        byte[] steps = new byte[maze.arrayCellCount()];
+        int goalIndex = (int) maze.index(goal.row(), goal.col());
+        if (!maze.isPassage(goalIndex)) {
+            return new FlowField(maze, goal, steps);
+        }
+
+        int[] distances = new int[steps.length];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        distances[goalIndex] = 0;
+        steps[goalIndex] = GOAL;
+        LongHeap queue = new LongHeap();
+        queue.push(LongHeap.pack(0, goalIndex));
+
+        while (!queue.isEmpty()) {
+            long key = queue.pop();
+            int current = LongHeap.index(key);
+            // Устаревшая запись: клетка уже раскрыта с меньшей стоимостью
+            if (LongHeap.priority(key) > distances[current]) {
+                continue;
+            }
+            // Шаг из соседа в текущую клетку стоит стоимость текущей клетки
+            int viaCurrent = distances[current] + maze.cost(current);
+            int row = current / width;
+            int col = current % width;
+            for (Direction direction : DIRECTIONS) {
+                // Сосед, из которого шаг в обратном направлении ведёт в текущую клетку
+                int newRow = row - direction.dRow;
+                int newCol = col - direction.dCol;
+                int neighbor = newRow * width + newCol;
+                if (0 <= newRow && newRow < height && 0 <= newCol && newCol < width
+                    && viaCurrent < distances[neighbor] && maze.isPassage(neighbor)) {
+                    distances[neighbor] = viaCurrent;
+                    steps[neighbor] = (byte) (direction.ordinal() + 1);
+                    queue.push(LongHeap.pack(viaCurrent, neighbor));
+                }
+            }
+        }
+        return new FlowField(maze, goal, steps);
+    }
+
+    /**
+     * Возвращает направление шага из клетки к цели.
+     *
+     * @param cell клетка
+     * @return направление; {@code null} в цели и в клетках, из которых цель недостижима
+     */
+    public Direction direction(Coordinate cell) {
+        byte step = steps[(int) maze.index(cell.row(), cell.col())];
+        return step == UNREACHABLE || step == GOAL ? null : DIRECTIONS[step - 1];
+    }
+
+    /**
+     * Возвращает индекс клетки, в которую нужно шагнуть из клетки {@code index}, без создания объектов.
+     *
+     * @param index индекс клетки {@code row * width + col}
+     * @return индекс следующей клетки; {@code index} в цели; {@link #NONE}, если цель недостижима
+     */
+    public int next(int index) {
+        byte step = steps[index];
+        if (step == UNREACHABLE) {
+            return NONE;
+        }
+        if (step == GOAL) {
+            return index;
+        }
+        return index + DIRECTIONS[step - 1].offset(maze.width());
+    }
+
+    /**
+     * Проверяет, можно ли дойти из клетки до цели.
+     *
+     * @param cell клетка
+     * @return {@code true}, если путь существует
+     */
+    public boolean reachable(Coordinate cell) {
+        return steps[(int) maze.index(cell.row(), cell.col())] != UNREACHABLE;
+    }
+
+    /**
+     * Восстанавливает путь из клетки до цели, следуя направлениям.
+     *
+     * @param from начальная клетка
+     * @return список {@link Coordinate} от {@code from} до цели или пустой список, если путь не существует
+     */
+    public List<Coordinate> pathFrom(Coordinate from) {
+        if (!reachable(from)) {
+            return Collections.emptyList();
+        }
+        int width = maze.width();
+        List<Coordinate> path = new ArrayList<>();
+        int index = (int) maze.index(from.row(), from.col());
+        path.add(from);
+        for (int step = next(index); step != index; step = next(index)) {
+            index = step;
+            path.add(new Coordinate(index / width, index % width));
+        }
+        return path;
+    }
+
+    /**
+     * Направление шага агента.
+     */
+    public enum Direction {
+        /**
+         * Вверх, к меньшему номеру строки.
+         */
+        UP(-1, 0),
+        /**
+         * Вниз.
+         */
+        DOWN(1, 0),
+        /**
+         * Влево, к меньшему номеру столбца.
+         */
+        LEFT(0, -1),
+        /**
+         * Вправо.
+         */
+        RIGHT(0, 1);
+
+        private final int dRow;
+        private final int dCol;
+
+        Direction(int dRow, int dCol) {
+            this.dRow = dRow;
+            this.dCol = dCol;
+        }
+
+        /**
+         * Возвращает смещение по строкам.
+         *
+         * @return {@code -1}, {@code 0} или {@code 1}
+         */
+        public int dRow() {
+            return dRow;
+        }
+
+        /**
+         * Возвращает смещение по столбцам.
+         *
+         * @return {@code -1}, {@code 0} или {@code 1}
+         */
+        public int dCol() {
+            return dCol;
+        }
+
+        /**
+         * Возвращает смещение индекса клетки при шаге в этом направлении.
+         *
+         * @param width ширина лабиринта
+         * @return {@code dRow * width + dCol}
+         */
+        public int offset(int width) {
+            return dRow * width + dCol;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package backend.academy.solvers.impl;
+
+import java.util.Arrays;
+
+/**
+ * Растущий список примитивных {@code int} для построения индексов по лабиринту без упаковки в {@link Integer}.
+ */
+final class IntList {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Добавляет значение в конец списка.
+     *
+     * @param value значение
+     */
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Возвращает значение по позиции.
+     *
+     * @param position позиция от {@code 0} до {@code size() - 1}
+     * @return значение
+     */
+    int get(int position) {
+        return values[position];
+    }
+
+    /**
+     * Возвращает количество значений.
+     *
+     * @return размер списка
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Копирует значения в массив точного размера.
+     *
+     * @return массив значений
+     */
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,421 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Maze;
+import lombok.Getter;
+
+/**
+ * Граф развилок лабиринта: коридоры из клеток степени 2 стянуты в рёбра.
+ * <p>
+ * Вершины графа — клетки-проходы, у которых не ровно два соседа-прохода: развилки и тупики.
+ * Каждый коридор между двумя вершинами становится ребром; его клетки хранятся по порядку
+ * от вершины {@code from} к вершине {@code to} в общем массиве {@code corridorCells}, чтобы путь по графу
+ * можно было развернуть обратно в клетки. Кольцо из одних клеток степени 2 получает одну вершину
+ * и ребро-петлю.
+ * </p>
+ * <p>
+ * Стоимость платится при входе в клетку, поэтому вес ребра зависит от направления:
+ * сумма стоимостей внутренних клеток коридора плюс стоимость вершины, в которую он приводит.
+ * Внутренние стоимости хранятся как накопленные суммы внутри каждого ребра, так что стоимость
+ * любого участка коридора считается за O(1).
+ * </p>
+ * <p>
+ * Вершины, не лежащие ни на одном цикле, снимаются по одной, начиная с тупиков (очистка до 2-ядра).
+ * Каждая снятая вершина запоминает соседа, к которому была подвешена; так граф делится на ядро из циклов
+ * и деревья-ветки, висящие на нём. Простой путь заходит вниз по ветке, только если в ней лежит его конец,
+ * поэтому решатель может не заглядывать в остальные ветки. В идеальном лабиринте ядра нет
+ * и весь граф — одно дерево.
+ * </p>
+ * <p>
+ * Граф отражает лабиринт на момент построения; после изменения клеток его нужно построить заново.
+ * </p>
+ */
+public final class JunctionGraph {
+
+    private static final int WALL = 0;
+
+    // Возможные перемещения: вверх, вниз, влево, вправо
+    private static final int[] D_ROW = {-1, 1, 0, 0};
+    private static final int[] D_COL = {0, 0, -1, 1};
+
+    private static final int CORRIDOR_DEGREE = 2;
+
+    /**
+     * Родитель вершины, которая лежит на цикле и не снимается при очистке.
+     */
+    static final int CORE = -2;
+
+    /**
+     * Родитель последней снятой вершины дерева, не подвешенного ни к какому циклу.
+     */
+    static final int ROOT = -1;
+
+    /**
+     * Лабиринт, по которому построен граф.
+     */
+    @Getter
+    private final Maze maze;
+
+    /**
+     * Положение каждой клетки: {@code node + 1} для вершины, {@code -(edge + 1)} для клетки коридора,
+     * {@code 0} для стены.
+     */
+    final int[] location;
+
+    /**
+     * Индекс клетки каждой вершины.
+     */
+    final int[] nodeCells;
+
+    /**
+     * Начала списков рёбер вершин в {@link #adjacentEdges}; петли в списки не входят.
+     */
+    final int[] adjacencyStart;
+
+    final int[] adjacentEdges;
+
+    final int[] edgeFrom;
+
+    final int[] edgeTo;
+
+    /**
+     * Начала клеток рёбер в {@link #corridorCells}; клетки ребра {@code e} занимают
+     * отрезок {@code [edgeCellStart[e], edgeCellStart[e + 1])}.
+     */
+    final int[] edgeCellStart;
+
+    final int[] corridorCells;
+
+    /**
+     * Накопленная внутри ребра стоимость: сумма стоимостей клеток ребра от первой до текущей включительно.
+     */
+    final int[] corridorCost;
+
+    /**
+     * Стоимость прохода по ребру от {@code from} к {@code to}: внутренние клетки и клетка {@code to}.
+     */
+    final int[] forwardWeight;
+
+    /**
+     * Стоимость прохода по ребру от {@code to} к {@code from}.
+     */
+    final int[] backwardWeight;
+
+    /**
+     * Сосед, к которому вершина подвешена после очистки до 2-ядра, либо {@link #CORE} или {@link #ROOT}.
+     */
+    final int[] peelParent;
+
+    private JunctionGraph(Builder builder) {
+        this.maze = builder.maze;
+        this.location = builder.location;
+        this.nodeCells = builder.nodes.toArray();
+        this.edgeFrom = builder.from.toArray();
+        this.edgeTo = builder.to.toArray();
+        builder.cellStart.add(builder.cells.size());
+        this.edgeCellStart = builder.cellStart.toArray();
+        this.corridorCells = builder.cells.toArray();
+        this.corridorCost = builder.costs.toArray();
+
+        // Списки смежности в формате CSR без петель
+        int[] degrees = new int[nodeCells.length + 1];
+        for (int edge = 0; edge < edgeFrom.length; edge++) {
+            if (edgeFrom[edge] != edgeTo[edge]) {
+                degrees[edgeFrom[edge] + 1]++;
+                degrees[edgeTo[edge] + 1]++;
+            }
+        }
+        for (int node = 0; node < nodeCells.length; node++) {
+            degrees[node + 1] += degrees[node];
+        }
+        this.adjacencyStart = degrees.clone();
+        this.adjacentEdges = new int[degrees[nodeCells.length]];
+        for (int edge = 0; edge < edgeFrom.length; edge++) {
+            if (edgeFrom[edge] != edgeTo[edge]) {
+                adjacentEdges[degrees[edgeFrom[edge]]++] = edge;
+                adjacentEdges[degrees[edgeTo[edge]]++] = edge;
+            }
+        }
+
+        this.forwardWeight = new int[edgeFrom.length];
+        this.backwardWeight = new int[edgeFrom.length];
+        for (int edge = 0; edge < edgeFrom.length; edge++) {
+            int inner = corridorCost(edge, 0, corridorLength(edge));
+            forwardWeight[edge] = inner + maze.cost(nodeCells[edgeTo[edge]]);
+            backwardWeight[edge] = inner + maze.cost(nodeCells[edgeFrom[edge]]);
+        }
+        this.peelParent = peel();
+    }
+
+    /**
+     * Строит граф развилок за один проход по клеткам и один обход каждого коридора.
+     *
+     * @param maze лабиринт
+     * @return граф развилок
+     */
+    public static JunctionGraph build(Maze maze) {
+        return new Builder(maze).build();
+    }
+
+    /**
+     * Возвращает количество вершин графа.
+     *
+     * @return число развилок, тупиков и вершин колец
+     */
+    public int nodeCount() {
+        return nodeCells.length;
+    }
+
+    /**
+     * Возвращает количество рёбер графа.
+     *
+     * @return число коридоров, включая петли
+     */
+    public int edgeCount() {
+        return edgeFrom.length;
+    }
+
+    /**
+     * Возвращает количество клеток, стянутых в рёбра.
+     *
+     * @return число клеток коридоров
+     */
+    public int corridorCellCount() {
+        return corridorCells.length;
+    }
+
+    /**
+     * Возвращает число рёбер вершины без учёта петель.
+     *
+     * @param node вершина
+     * @return степень вершины в графе
+     */
+    int degreeOf(int node) {
+        return adjacencyStart[node + 1] - adjacencyStart[node];
+    }
+
+    /**
+     * Возвращает вершину на другом конце ребра.
+     *
+     * @param edge ребро
+     * @param node один из концов ребра
+     * @return другой конец ребра
+     */
+    int opposite(int edge, int node) {
+        return edgeFrom[edge] == node ? edgeTo[edge] : edgeFrom[edge];
+    }
+
+    /**
+     * Сумма стоимостей клеток ребра на позициях {@code [fromPosition, toPosition)}.
+     *
+     * @param edge         ребро
+     * @param fromPosition первая позиция внутри ребра
+     * @param toPosition   позиция после последней
+     * @return стоимость участка коридора
+     */
+    int corridorCost(int edge, int fromPosition, int toPosition) {
+        if (toPosition <= fromPosition) {
+            return 0;
+        }
+        int start = edgeCellStart[edge];
+        int before = fromPosition == 0 ? 0 : corridorCost[start + fromPosition - 1];
+        return corridorCost[start + toPosition - 1] - before;
+    }
+
+    /**
+     * Возвращает количество внутренних клеток ребра.
+     *
+     * @param edge ребро
+     * @return длина коридора в клетках
+     */
+    int corridorLength(int edge) {
+        return edgeCellStart[edge + 1] - edgeCellStart[edge];
+    }
+
+    /**
+     * Стоимость прохода по ребру до вершины {@code target}.
+     *
+     * @param edge   ребро
+     * @param target конец ребра, в который ведёт проход
+     * @return стоимость внутренних клеток и клетки вершины
+     */
+    int weight(int edge, int target) {
+        return edgeTo[edge] == target ? forwardWeight[edge] : backwardWeight[edge];
+    }
+
+    /**
+     * Находит позицию клетки коридора внутри её ребра.
+     *
+     * @param edge ребро, которому принадлежит клетка
+     * @param cell индекс клетки
+     * @return позиция от {@code 0} до {@code corridorLength(edge) - 1}
+     */
+    int positionOf(int edge, int cell) {
+        int start = edgeCellStart[edge];
+        int position = 0;
+        while (corridorCells[start + position] != cell) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Снимает вершины степени не больше 1, пока такие есть, и запоминает, к какому соседу
+     * была подвешена каждая снятая вершина.
+     *
+     * @return родители вершин
+     */
+    private int[] peel() {
+        int nodeCount = nodeCells.length;
+        int[] parents = new int[nodeCount];
+        int[] remaining = new int[nodeCount];
+        int[] queue = new int[nodeCount];
+        int tail = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            parents[node] = CORE;
+            remaining[node] = degreeOf(node);
+            if (remaining[node] <= 1) {
+                queue[tail++] = node;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int node = queue[head];
+            parents[node] = ROOT;
+            for (int i = adjacencyStart[node]; i < adjacencyStart[node + 1]; i++) {
+                int next = opposite(adjacentEdges[i], node);
+                // Оставшийся сосед — ещё не снятая вершина; у снятой вершины он единственный
+                if (parents[next] == CORE && remaining[next] > 0) {
+                    parents[node] = next;
+                    remaining[next]--;
+                    if (remaining[next] == 1) {
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            remaining[node] = 0;
+        }
+        return parents;
+    }
+
+    private static int degree(Maze maze, int cell) {
+        int width = maze.width();
+        int row = cell / width;
+        int col = cell % width;
+        int degree = 0;
+        for (int i = 0; i < D_COL.length; i++) {
+            if (neighbor(maze, row + D_ROW[i], col + D_COL[i]) >= 0) {
+                degree++;
+            }
+        }
+        return degree;
+    }
+
+    /**
+     * Возвращает соседа-проход клетки коридора, отличного от {@code previous}.
+     */
+    private static int otherNeighbor(Maze maze, int cell, int previous) {
+        int width = maze.width();
+        int row = cell / width;
+        int col = cell % width;
+        for (int i = 0; i < D_COL.length; i++) {
+            int next = neighbor(maze, row + D_ROW[i], col + D_COL[i]);
+            if (next >= 0 && next != previous) {
+                return next;
+            }
+        }
+        throw new IllegalStateException("Клетка коридора должна иметь двух соседей.");
+    }
+
+    /**
+     * Возвращает индекс клетки, если она внутри лабиринта и является проходом, иначе {@code -1}.
+     */
+    private static int neighbor(Maze maze, int row, int col) {
+        if (row < 0 || row >= maze.height() || col < 0 || col >= maze.width()) {
+            return -1;
+        }
+        int cell = row * maze.width() + col;
+        return maze.isPassage(cell) ? cell : -1;
+    }
+
+    /**
+     * Состояние построения графа: растущие списки вершин, рёбер и клеток коридоров.
+     */
+    private static final class Builder {
+
+        private final Maze maze;
+        private final int[] location;
+        private final IntList nodes = new IntList();
+        private final IntList from = new IntList();
+        private final IntList to = new IntList();
+        private final IntList cellStart = new IntList();
+        private final IntList cells = new IntList();
+        private final IntList costs = new IntList();
+
+        Builder(Maze maze) {
+            this.maze = maze;
+            this.location = new int[maze.arrayCellCount()];
+        }
+
+        JunctionGraph build() {
+            int cellCount = location.length;
+            for (int cell = 0; cell < cellCount; cell++) {
+                if (maze.isPassage(cell) && degree(maze, cell) != CORRIDOR_DEGREE) {
+                    addNode(cell);
+                }
+            }
+            int junctionCount = nodes.size();
+            for (int node = 0; node < junctionCount; node++) {
+                walkCorridors(node);
+            }
+
+            // Оставшиеся клетки степени 2 образуют кольца без развилок
+            for (int cell = 0; cell < cellCount; cell++) {
+                if (location[cell] == WALL && maze.isPassage(cell)) {
+                    walkCorridors(addNode(cell));
+                }
+            }
+            return new JunctionGraph(this);
+        }
+
+        private int addNode(int cell) {
+            int node = nodes.size();
+            location[cell] = node + 1;
+            nodes.add(cell);
+            return node;
+        }
+
+        /**
+         * Обходит все коридоры, выходящие из вершины, и записывает ещё не записанные как рёбра.
+         *
+         * @param node вершина
+         */
+        private void walkCorridors(int node) {
+            int nodeCell = nodes.get(node);
+            int width = maze.width();
+            int row = nodeCell / width;
+            int col = nodeCell % width;
+            for (int i = 0; i < D_COL.length; i++) {
+                int first = neighbor(maze, row + D_ROW[i], col + D_COL[i]);
+                // Коридор уже записан с другого конца, или соседняя вершина с меньшим номером записала ребро сама
+                if (first < 0 || location[first] < 0 || (location[first] > 0 && location[first] - 1 < node)) {
+                    continue;
+                }
+                int edge = from.size();
+                from.add(node);
+                cellStart.add(cells.size());
+                int previous = nodeCell;
+                int current = first;
+                int cost = 0;
+                while (location[current] <= 0) {
+                    location[current] = -(edge + 1);
+                    cost += maze.cost(current);
+                    cells.add(current);
+                    costs.add(cost);
+                    int next = otherNeighbor(maze, current, previous);
+                    previous = current;
+                    current = next;
+                }
+                to.add(location[current] - 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.solvers.Solver;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Реализация интерфейса {@link Solver}: алгоритм Дейкстры на графе развилок {@link JunctionGraph}.
+ * <p>
+ * Граф строится один раз на лабиринт и переиспользуется всеми следующими запросами к тому же лабиринту,
+ * поэтому запрос обрабатывает только развилки и тупики, а не каждую клетку коридора.
+ * Если начальная клетка лежит внутри коридора, поиск стартует сразу с обоих его концов с соответствующей
+ * частью стоимости коридора; так же путь может закончиться на любом конце коридора с конечной клеткой.
+ * </p>
+ * <p>
+ * Перед поиском отмечаются ветки графа, ведущие к конечной клетке: вершины её коридора и их предки
+ * в лесу очистки до 2-ядра (см. {@link JunctionGraph}). Поиск спускается только в отмеченные ветки,
+ * а подниматься к ядру может всегда. В идеальном лабиринте граф — дерево, и раскрываются лишь вершины
+ * между концами запроса и их предками, а не весь шар вокруг начала.
+ * </p>
+ * <p>
+ * Рабочие массивы по вершинам переиспользуются: вместо очистки каждая метка сверяется с номером запроса.
+ * Поэтому экземпляр не потокобезопасен, а {@link SearchResult#expandedNodes()} — число раскрытых
+ * вершин графа, а не клеток.
+ * </p>
+ */
+public class JunctionGraphSolverImpl implements Solver {
+
+    private static final int NONE = -1;
+
+    // Метки вершин-затравок: в какую сторону коридора с начальной клеткой ушёл путь
+    private static final int SEED_TOWARDS_FROM = -1;
+    private static final int SEED_TOWARDS_TO = -2;
+
+    private JunctionGraph graph;
+    private int[] distances;
+    private int[] predecessorEdges;
+    private int[] stamps;
+    private int[] marks;
+    private int query;
+
+    private int best;
+    private int bestNode;
+    private boolean bestArrivesFromStart;
+
+    /**
+     * Создаёт решатель, который строит граф при первом запросе к лабиринту.
+     */
+    public JunctionGraphSolverImpl() {
+    }
+
+    /**
+     * Создаёт решатель поверх заранее построенного графа.
+     *
+     * @param graph граф развилок лабиринта
+     */
+    public JunctionGraphSolverImpl(JunctionGraph graph) {
+        use(graph);
+    }
+
+    /**
+     * Находит путь с наименьшей стоимостью от {@code start} до {@code end}.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return список {@link Coordinate}, представляющий путь с наименьшей стоимостью от {@code start} до {@code end},
+     *         или пустой список, если путь не существует или одна из координат — стена
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end) {
+        return search(maze, start, end).path();
+    }
+
+    /**
+     * Выполняет тот же поиск, что и {@link #solve(Maze, Coordinate, Coordinate)},
+     * дополнительно подсчитывая раскрытые вершины графа.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return путь и количество раскрытых вершин графа
+     */
+    @Override
+    public SearchResult search(Maze maze, Coordinate start, Coordinate end) {
+        if (graph == null || graph.maze() != maze) {
+            use(JunctionGraph.build(maze));
+        }
+        int width = maze.width();
+        int startCell = start.row() * width + start.col();
+        int endCell = end.row() * width + end.col();
+        // Стена не принадлежит графу
+        if (graph.location[startCell] == 0 || graph.location[endCell] == 0) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+        Endpoint source = endpoint(startCell);
+        Endpoint target = endpoint(endCell);
+        if (source.cell == target.cell) {
+            return new SearchResult(new ArrayList<>(List.of(start)), 0);
+        }
+        nextQuery();
+
+        // Прямой путь внутри одного коридора
+        best = Integer.MAX_VALUE;
+        bestNode = NONE;
+        if (source.edge != NONE && source.edge == target.edge) {
+            best = source.position < target.position
+                ? graph.corridorCost(source.edge, source.position + 1, target.position + 1)
+                : graph.corridorCost(source.edge, target.position, source.position);
+        }
+
+        markBranch(target);
+        LongHeap queue = new LongHeap();
+        seed(queue, source);
+        long expanded = 0;
+
+        while (!queue.isEmpty() && LongHeap.priority(queue.peek()) < best) {
+            long key = queue.pop();
+            int node = LongHeap.index(key);
+            // Устаревшая запись: расстояние до вершины уже улучшено
+            if (LongHeap.priority(key) != distances[node]) {
+                continue;
+            }
+            expanded++;
+            arrive(node, target);
+
+            for (int i = graph.adjacencyStart[node]; i < graph.adjacencyStart[node + 1]; i++) {
+                int edge = graph.adjacentEdges[i];
+                int next = graph.opposite(edge, node);
+                // Спуск в ветку, где нет конечной клетки, не может привести к цели
+                if (graph.peelParent[next] == node && marks[next] != query) {
+                    continue;
+                }
+                int newDist = distances[node] + graph.weight(edge, next);
+                if (stamps[next] != query || newDist < distances[next]) {
+                    label(queue, next, newDist, edge);
+                }
+            }
+        }
+
+        if (best == Integer.MAX_VALUE) {
+            return new SearchResult(Collections.emptyList(), expanded);
+        }
+        return new SearchResult(toCoordinates(expand(source, target)), expanded);
+    }
+
+    private void use(JunctionGraph junctionGraph) {
+        graph = junctionGraph;
+        int nodeCount = junctionGraph.nodeCount();
+        distances = new int[nodeCount];
+        predecessorEdges = new int[nodeCount];
+        stamps = new int[nodeCount];
+        marks = new int[nodeCount];
+        query = 0;
+    }
+
+    private void nextQuery() {
+        if (query == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            Arrays.fill(marks, 0);
+            query = 0;
+        }
+        query++;
+    }
+
+    /**
+     * Отмечает вершины, к которым примыкает конечная клетка, и всех их предков в лесу очистки.
+     */
+    private void markBranch(Endpoint target) {
+        if (target.edge == NONE) {
+            markAncestors(target.node);
+        } else {
+            markAncestors(graph.edgeFrom[target.edge]);
+            markAncestors(graph.edgeTo[target.edge]);
+        }
+    }
+
+    private void markAncestors(int node) {
+        int current = node;
+        while (current >= 0 && marks[current] != query) {
+            marks[current] = query;
+            current = graph.peelParent[current];
+        }
+    }
+
+    /**
+     * Ставит в очередь вершины, с которых начинается поиск: саму начальную клетку-вершину
+     * или оба конца её коридора со стоимостью пути до них.
+     */
+    private void seed(LongHeap queue, Endpoint source) {
+        if (source.edge == NONE) {
+            label(queue, source.node, 0, SEED_TOWARDS_FROM);
+            return;
+        }
+        int edge = source.edge;
+        int from = graph.edgeFrom[edge];
+        int to = graph.edgeTo[edge];
+        Maze maze = graph.maze();
+        int towardsFrom = graph.corridorCost(edge, 0, source.position) + maze.cost(graph.nodeCells[from]);
+        int towardsTo = graph.corridorCost(edge, source.position + 1, graph.corridorLength(edge))
+            + maze.cost(graph.nodeCells[to]);
+        label(queue, from, towardsFrom, SEED_TOWARDS_FROM);
+        if (from != to || towardsTo < towardsFrom) {
+            label(queue, to, towardsTo, SEED_TOWARDS_TO);
+        }
+    }
+
+    /**
+     * Проверяет, не заканчивается ли через раскрытую вершину путь дешевле лучшего найденного.
+     */
+    private void arrive(int node, Endpoint target) {
+        if (target.edge == NONE) {
+            update(node == target.node ? distances[node] : Integer.MAX_VALUE, node, true);
+            return;
+        }
+        int edge = target.edge;
+        if (node == graph.edgeFrom[edge]) {
+            update(distances[node] + graph.corridorCost(edge, 0, target.position + 1), node, true);
+        }
+        if (node == graph.edgeTo[edge]) {
+            update(distances[node] + graph.corridorCost(edge, target.position, graph.corridorLength(edge)),
+                node, false);
+        }
+    }
+
+    private void update(int cost, int node, boolean arrivesFromStart) {
+        if (cost < best) {
+            best = cost;
+            bestNode = node;
+            bestArrivesFromStart = arrivesFromStart;
+        }
+    }
+
+    private void label(LongHeap queue, int node, int distance, int edge) {
+        stamps[node] = query;
+        distances[node] = distance;
+        predecessorEdges[node] = edge;
+        queue.push(LongHeap.pack(distance, node));
+    }
+
+    private Endpoint endpoint(int cell) {
+        int location = graph.location[cell];
+        if (location > 0) {
+            return new Endpoint(cell, location - 1, NONE, 0);
+        }
+        int edge = -location - 1;
+        return new Endpoint(cell, NONE, edge, graph.positionOf(edge, cell));
+    }
+
+    /**
+     * Разворачивает найденную цепочку вершин в индексы клеток.
+     */
+    private IntList expand(Endpoint source, Endpoint target) {
+        IntList cells = new IntList();
+        if (bestNode == NONE) {
+            appendCorridor(cells, source.edge, source.position, target.position);
+            return cells;
+        }
+
+        // Цепочка рёбер от последней вершины назад к вершине-затравке
+        IntList edges = new IntList();
+        int node = bestNode;
+        while (predecessorEdges[node] >= 0) {
+            edges.add(predecessorEdges[node]);
+            node = graph.opposite(predecessorEdges[node], node);
+        }
+
+        if (source.edge == NONE) {
+            cells.add(source.cell);
+        } else {
+            int last = predecessorEdges[node] == SEED_TOWARDS_FROM ? 0 : graph.corridorLength(source.edge) - 1;
+            appendCorridor(cells, source.edge, source.position, last);
+            cells.add(graph.nodeCells[node]);
+        }
+        for (int i = edges.size() - 1; i >= 0; i--) {
+            int edge = edges.get(i);
+            int length = graph.corridorLength(edge);
+            boolean forward = graph.edgeFrom[edge] == node;
+            appendCorridor(cells, edge, forward ? 0 : length - 1, forward ? length - 1 : 0);
+            node = graph.opposite(edge, node);
+            cells.add(graph.nodeCells[node]);
+        }
+        if (target.edge != NONE) {
+            int first = bestArrivesFromStart ? 0 : graph.corridorLength(target.edge) - 1;
+            appendCorridor(cells, target.edge, first, target.position);
+        }
+        return cells;
+    }
+
+    /**
+     * Добавляет клетки коридора с позиции {@code from} по позицию {@code to} включительно
+     * в любом направлении; пустой коридор ничего не добавляет.
+     */
+    private void appendCorridor(IntList cells, int edge, int from, int to) {
+        if (graph.corridorLength(edge) == 0) {
+            return;
+        }
+        int start = graph.edgeCellStart[edge];
+        int step = from <= to ? 1 : -1;
+        for (int position = from; position != to + step; position += step) {
+            cells.add(graph.corridorCells[start + position]);
+        }
+    }
+
+    private List<Coordinate> toCoordinates(IntList cells) {
+        int width = graph.maze().width();
+        List<Coordinate> path = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            path.add(new Coordinate(cells.get(i) / width, cells.get(i) % width));
+        }
+        return path;
+    }
+
+    /**
+     * Клетка запроса относительно графа: вершина или позиция в коридоре.
+     *
+     * @param cell     индекс клетки
+     * @param node     вершина клетки или {@link #NONE}, если клетка лежит в коридоре
+     * @param edge     ребро коридора или {@link #NONE}, если клетка — вершина
+     * @param position позиция клетки в коридоре
+     */
+    private record Endpoint(int cell, int node, int edge, int position) {
+    }
+}
@@ -0,0 +1,137 @@
+package backend.academy.solvers.impl;
+
+import java.util.Arrays;
+
+/**
+ * Двоичная куча минимумов на массиве {@code long}.
+ * <p>
+ * Решатели упаковывают в один ключ приоритет и индекс клетки ({@code (long) priority << 32 | index}),
+ * поэтому порядок ключей совпадает с порядком приоритетов, а очередь не создаёт объектов на каждую вставку.
+ * Уменьшение ключа не поддерживается: устаревшие записи остаются в куче и пропускаются при извлечении.
+ * </p>
+ */
+final class LongHeap {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final int INDEX_BITS = 32;
+
+    private static final long INDEX_MASK = 0xFFFF_FFFFL;
+
+    private static final String EMPTY_MESSAGE = "Куча пуста.";
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Упаковывает приоритет и индекс клетки в один ключ.
+     *
+     * @param priority неотрицательный приоритет
+     * @param index    неотрицательный индекс клетки
+     * @return ключ для {@link #push(long)}
+     */
+    static long pack(int priority, int index) {
+        return (long) priority << INDEX_BITS | index;
+    }
+
+    /**
+     * Извлекает индекс клетки из ключа.
+     *
+     * @param key ключ, полученный из {@link #pack(int, int)}
+     * @return индекс клетки
+     */
+    static int index(long key) {
+        return (int) (key & INDEX_MASK);
+    }
+
+    /**
+     * Извлекает приоритет из ключа.
+     *
+     * @param key ключ, полученный из {@link #pack(int, int)}
+     * @return приоритет
+     */
+    static int priority(long key) {
+        return (int) (key >>> INDEX_BITS);
+    }
+
+    /**
+     * Проверяет, пуста ли куча.
+     *
+     * @return {@code true}, если в куче нет ключей
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет ключ в кучу.
+     *
+     * @param key ключ
+     */
+    void push(long key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        int child = size++;
+        // Просеивание вверх
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[child] = keys[parent];
+            child = parent;
+        }
+        keys[child] = key;
+    }
+
+    /**
+     * Возвращает наименьший ключ, не удаляя его.
+     *
+     * @return наименьший ключ
+     * @throws IllegalStateException если куча пуста
+     */
+    long peek() {
+        if (size == 0) {
+            throw new IllegalStateException(EMPTY_MESSAGE);
+        }
+        return keys[0];
+    }
+
+    /**
+     * Извлекает наименьший ключ.
+     *
+     * @return наименьший ключ
+     * @throws IllegalStateException если куча пуста
+     */
+    long pop() {
+        if (size == 0) {
+            throw new IllegalStateException(EMPTY_MESSAGE);
+        }
+        long top = keys[0];
+        long last = keys[--size];
+        int parent = 0;
+        // Просеивание вниз
+        int child = 1;
+        while (child < size) {
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (last <= keys[child]) {
+                break;
+            }
+            keys[parent] = keys[child];
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        keys[parent] = last;
+        return top;
+    }
+
+    /**
+     * Удаляет все ключи, сохраняя выделенный массив.
+     */
+    void clear() {
+        size = 0;
+    }
+}
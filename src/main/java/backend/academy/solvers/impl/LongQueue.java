@@ -0,0 +1,69 @@
+package backend.academy.solvers.impl;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Растущая очередь примитивных {@code long} на кольцевом массиве.
+ * <p>
+ * Нужна поиску по лабиринтам больше {@link Integer#MAX_VALUE} клеток: очередь на массиве размером
+ * с лабиринт для них невозможна, а в кольце одновременно лежит только фронт поиска.
+ * </p>
+ */
+final class LongQueue {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    /**
+     * Добавляет значение в конец очереди.
+     *
+     * @param value значение
+     */
+    void add(long value) {
+        if (size == values.length) {
+            grow();
+        }
+        values[(head + size) & (values.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Извлекает значение из начала очереди.
+     *
+     * @return первое значение
+     * @throws NoSuchElementException если очередь пуста
+     */
+    long poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Очередь пуста.");
+        }
+        long value = values[head];
+        head = (head + 1) & (values.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Проверяет, пуста ли очередь.
+     *
+     * @return {@code true}, если в очереди нет значений
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удваивает массив, разворачивая кольцо так, чтобы начало очереди оказалось в нулевой позиции.
+     */
+    private void grow() {
+        long[] grown = new long[values.length * 2];
+        int firstPart = values.length - head;
+        System.arraycopy(values, head, grown, 0, firstPart);
+        System.arraycopy(values, 0, grown, firstPart, head);
+        values = grown;
+        head = 0;
+    }
+}
@@ -0,0 +1,75 @@
+package backend.academy.solvers.impl;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Рабочий байт на клетку вне кучи с индексацией {@code long} для лабиринтов больше {@link Integer#MAX_VALUE}
+ * клеток, которым не хватает плоских массивов в куче.
+ * <p>
+ * Байты лежат в страницах по {@value #PAGE_SIZE} клеток, и страница выделяется при первой записи в неё;
+ * нечитаная страница считается заполненной нулями. Поэтому поиск занимает память пропорционально
+ * области, которую он обошёл, а не размеру лабиринта: путь между близкими клетками в лабиринте
+ * из десятков миллиардов клеток трогает несколько страниц.
+ * </p>
+ * <p>
+ * Страницы принадлежат собственной арене и освобождаются вызовом {@link #close()}.
+ * Экземпляр не потокобезопасен.
+ * </p>
+ */
+final class PagedCellCodes implements AutoCloseable {
+
+    private static final int PAGE_BITS = 20;
+
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+
+    private static final long PAGE_MASK = PAGE_SIZE - 1;
+
+    private final Arena arena = Arena.ofConfined();
+    private final MemorySegment[] pages;
+
+    /**
+     * Создаёт коды для {@code size} клеток, равные нулю.
+     *
+     * @param size количество клеток
+     */
+    PagedCellCodes(long size) {
+        this.pages = new MemorySegment[Math.toIntExact((size + PAGE_MASK) >>> PAGE_BITS)];
+    }
+
+    /**
+     * Читает код клетки.
+     *
+     * @param index индекс клетки
+     * @return код; {@code 0}, если в клетку ещё не писали
+     */
+    byte get(long index) {
+        MemorySegment page = pages[(int) (index >>> PAGE_BITS)];
+        return page == null ? 0 : page.get(ValueLayout.JAVA_BYTE, index & PAGE_MASK);
+    }
+
+    /**
+     * Записывает код клетки, выделяя её страницу при необходимости.
+     *
+     * @param index индекс клетки
+     * @param code  код
+     */
+    void set(long index, byte code) {
+        int number = (int) (index >>> PAGE_BITS);
+        MemorySegment page = pages[number];
+        if (page == null) {
+            page = arena.allocate(PAGE_SIZE);
+            pages[number] = page;
+        }
+        page.set(ValueLayout.JAVA_BYTE, index & PAGE_MASK, code);
+    }
+
+    /**
+     * Освобождает все выделенные страницы.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
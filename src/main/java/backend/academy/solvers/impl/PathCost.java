@@ -0,0 +1,37 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Стоимость найденного пути, посчитанная так же, как её минимизируют решатели по стоимости:
+ * сумма {@link Maze#cost(long)} клеток, в которые путь входит, без начальной клетки.
+ */
+@UtilityClass
+public class PathCost {
+
+    /**
+     * Стоимость пустого пути, то есть отсутствия пути.
+     */
+    public static final long NO_PATH = -1;
+
+    /**
+     * Считает стоимость пути.
+     *
+     * @param maze лабиринт, в котором найден путь
+     * @param path путь от начальной клетки до конечной
+     * @return стоимость пути или {@link #NO_PATH}, если путь пуст
+     */
+    public static long of(Maze maze, List<Coordinate> path) {
+        if (path.isEmpty()) {
+            return NO_PATH;
+        }
+        long cost = 0;
+        for (Coordinate cell : path.subList(1, path.size())) {
+            cost += maze.cost(maze.index(cell.row(), cell.col()));
+        }
+        return cost;
+    }
+}
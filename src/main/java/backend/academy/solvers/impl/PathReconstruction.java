@@ -0,0 +1,71 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Coordinate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Восстановление пути по массиву предшественников, общему для решателей,
+ * которые хранят состояние поиска в плоских массивах по индексу {@code row * width + col}.
+ */
+@UtilityClass
+class PathReconstruction {
+
+    /**
+     * Восстанавливает путь от {@code startIndex} до {@code endIndex}, следуя по предшественникам.
+     *
+     * @param predecessors массив предшественников по индексу клетки
+     * @param startIndex   индекс начальной клетки
+     * @param endIndex     индекс конечной клетки
+     * @param width        ширина лабиринта
+     * @return список {@link Coordinate} от начальной клетки до конечной
+     */
+    static List<Coordinate> fromPredecessors(int[] predecessors, int startIndex, int endIndex, int width) {
+        // Длина пути считается заранее, чтобы список выделился один раз нужного размера
+        int length = 1;
+        for (int step = endIndex; step != startIndex; step = predecessors[step]) {
+            length++;
+        }
+        List<Coordinate> path = new ArrayList<>(length);
+        int step = endIndex;
+        while (step != startIndex) {
+            path.add(new Coordinate(step / width, step % width));
+            step = predecessors[step];
+        }
+        path.add(new Coordinate(startIndex / width, startIndex % width));
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Восстанавливает путь двунаправленного поиска: от {@code startIndex} до {@code forwardMeet}
+     * по предшественникам прямого поиска, затем от {@code backwardMeet} до {@code endIndex}
+     * по преемникам обратного поиска. Точки встречи могут совпадать или быть соседними клетками.
+     *
+     * @param predecessors массив предшественников прямого поиска
+     * @param successors   массив преемников обратного поиска
+     * @param startIndex   индекс начальной клетки
+     * @param forwardMeet  индекс клетки встречи со стороны прямого поиска
+     * @param backwardMeet индекс клетки встречи со стороны обратного поиска
+     * @param endIndex     индекс конечной клетки
+     * @param width        ширина лабиринта
+     * @return список {@link Coordinate} от начальной клетки до конечной
+     */
+    static List<Coordinate> fromBothSides(
+        int[] predecessors, int[] successors,
+        int startIndex, int forwardMeet, int backwardMeet, int endIndex, int width
+    ) {
+        List<Coordinate> path = fromPredecessors(predecessors, startIndex, forwardMeet, width);
+        int step = backwardMeet;
+        if (step != forwardMeet) {
+            path.add(new Coordinate(step / width, step % width));
+        }
+        while (step != endIndex) {
+            step = successors[step];
+            path.add(new Coordinate(step / width, step % width));
+        }
+        return path;
+    }
+}
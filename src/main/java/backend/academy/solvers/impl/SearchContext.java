@@ -0,0 +1,98 @@
+package backend.academy.solvers.impl;
+
+import java.util.Arrays;
+
+/**
+ * Рабочие массивы поиска по клеткам, переиспользуемые между запросами: предшественники, метки посещения,
+ * а также очередь и расстояния, которые выделяются при первом обращении, — поиску в ширину не нужны
+ * расстояния, а A* — очередь на массиве.
+ * <p>
+ * Вместо очистки перед каждым запросом метка клетки сверяется с номером текущего запроса (эпохой):
+ * клетка посещена, только если её метка равна эпохе. Поэтому подготовка к запросу на лабиринте того же
+ * или меньшего размера ничего не выделяет и не заполняет, а предшественник читается только у посещённых клеток.
+ * Массивы пересоздаются, лишь когда лабиринт больше предыдущего.
+ * </p>
+ * <p>
+ * Контекст принадлежит одному решателю и не потокобезопасен.
+ * </p>
+ */
+final class SearchContext {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] queue = EMPTY;
+    private int[] distances = EMPTY;
+    private int[] predecessors = EMPTY;
+    private int[] stamps = EMPTY;
+    private int epoch;
+
+    /**
+     * Начинает новый запрос: все клетки становятся непосещёнными.
+     *
+     * @param cellCount количество клеток лабиринта
+     */
+    void prepare(int cellCount) {
+        if (stamps.length < cellCount) {
+            queue = EMPTY;
+            distances = EMPTY;
+            predecessors = new int[cellCount];
+            stamps = new int[cellCount];
+            epoch = 0;
+        } else if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            epoch = 0;
+        }
+        epoch++;
+    }
+
+    /**
+     * Возвращает очередь на массиве: каждая клетка попадает в неё не более одного раза за запрос.
+     *
+     * @return массив не короче количества клеток
+     */
+    int[] queue() {
+        if (queue.length < stamps.length) {
+            queue = new int[stamps.length];
+        }
+        return queue;
+    }
+
+    /**
+     * Возвращает расстояния до клеток, действительные только для клеток, посещённых в текущем запросе.
+     *
+     * @return массив расстояний по индексу клетки
+     */
+    int[] distances() {
+        if (distances.length < stamps.length) {
+            distances = new int[stamps.length];
+        }
+        return distances;
+    }
+
+    /**
+     * Возвращает предшественников клеток, действительных только для клеток, посещённых в текущем запросе.
+     *
+     * @return массив предшественников по индексу клетки
+     */
+    int[] predecessors() {
+        return predecessors;
+    }
+
+    /**
+     * Возвращает метки посещения: клетка посещена в текущем запросе, если её метка равна {@link #epoch()}.
+     *
+     * @return массив меток по индексу клетки
+     */
+    int[] stamps() {
+        return stamps;
+    }
+
+    /**
+     * Возвращает номер текущего запроса.
+     *
+     * @return эпоха, начиная с единицы
+     */
+    int epoch() {
+        return epoch;
+    }
+}
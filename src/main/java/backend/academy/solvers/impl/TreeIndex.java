@@ -0,0 +1,317 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Индекс дерева лабиринта для запросов о пути между любыми двумя клетками-проходами.
+ * <p>
+ * Оба генератора строят остовное дерево, поэтому между двумя проходами существует ровно один путь.
+ * Индекс один раз подвешивает каждую компоненту связности за корень обходом в глубину и хранит
+ * для каждой вершины в порядке обхода родителя, глубину и накопленную от корня стоимость.
+ * В порядке обхода поддерево занимает непрерывный отрезок, поэтому наименьший общий предок {@code u} и {@code v}
+ * при {@code tin[u] < tin[v]} — родитель самой мелкой вершины на отрезке {@code (tin[u], tin[v]]}
+ * (вариант эйлерова обхода, которому хватает {@code n} элементов вместо {@code 2n - 1}).
+ * </p>
+ * <p>
+ * Минимум на отрезке ищется разреженной таблицей по блокам из {@value #BLOCK} вершин и просмотром
+ * неполных крайних блоков: запрос занимает постоянное время, а таблица — меньше одного {@code int} на вершину.
+ * Длина и стоимость пути считаются за O(1) после поиска предка, сам путь восстанавливается
+ * за время, линейное по его длине.
+ * </p>
+ * <p>
+ * Если в лабиринте есть циклы, индекс строится по остовному дереву обхода: путь по нему существует,
+ * но может быть не кратчайшим. Это показывает {@link #tree()}.
+ * </p>
+ */
+public final class TreeIndex {
+
+    /**
+     * Размер блока для поиска минимума на отрезке.
+     */
+    static final int BLOCK = 32;
+
+    private static final int NONE = -1;
+
+    // Возможные перемещения: вверх, вниз, влево, вправо
+    private static final int[] D_ROW = {-1, 1, 0, 0};
+    private static final int[] D_COL = {0, 0, -1, 1};
+
+    /**
+     * Лабиринт, по которому построен индекс.
+     */
+    @Getter
+    private final Maze maze;
+
+    /**
+     * {@code true}, если каждая компонента связности проходов — дерево и найденные пути единственны.
+     */
+    @Getter
+    private final boolean tree;
+
+    /**
+     * Позиция клетки в порядке обхода плюс один; {@code 0} для стены.
+     */
+    private final int[] positions;
+
+    private final int[] cells;
+    private final int[] parents;
+    private final int[] depths;
+    private final int[] costs;
+
+    /**
+     * {@code blockMinimums[k][b]} — позиция самой мелкой вершины в блоках {@code [b, b + 2^k)}.
+     */
+    private final int[][] blockMinimums;
+
+    private TreeIndex(Maze maze) {
+        this.maze = maze;
+        int cellCount = maze.arrayCellCount();
+        positions = new int[cellCount];
+        int passageCount = 0;
+        long links = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (maze.isPassage(cell)) {
+                passageCount++;
+                links += forwardLinks(cell);
+            }
+        }
+        cells = new int[passageCount];
+        parents = new int[passageCount];
+        depths = new int[passageCount];
+        costs = new int[passageCount];
+
+        int components = 0;
+        int[] stack = new int[passageCount];
+        int visited = 0;
+        for (int root = 0; root < cellCount; root++) {
+            if (maze.isPassage(root) && positions[root] == 0) {
+                components++;
+                visited = traverse(root, visited, stack);
+            }
+        }
+        tree = links == passageCount - components;
+        blockMinimums = buildBlockMinimums();
+    }
+
+    /**
+     * Строит индекс за линейное по числу клеток время.
+     *
+     * @param maze лабиринт
+     * @return индекс дерева
+     */
+    public static TreeIndex build(Maze maze) {
+        return new TreeIndex(maze);
+    }
+
+    /**
+     * Проверяет, соединены ли две клетки.
+     *
+     * @param from первая клетка
+     * @param to   вторая клетка
+     * @return {@code true}, если обе клетки — проходы одной компоненты связности
+     */
+    public boolean connected(Coordinate from, Coordinate to) {
+        return ancestor(from, to) != NONE;
+    }
+
+    /**
+     * Возвращает длину пути между клетками в шагах.
+     *
+     * @param from начальная клетка
+     * @param to   конечная клетка
+     * @return число шагов или {@code -1}, если пути нет
+     */
+    public int length(Coordinate from, Coordinate to) {
+        int lca = ancestor(from, to);
+        if (lca == NONE) {
+            return NONE;
+        }
+        return depths[position(from)] + depths[position(to)] - 2 * depths[lca];
+    }
+
+    /**
+     * Возвращает стоимость пути между клетками: сумму стоимостей клеток, в которые входит путь.
+     *
+     * @param from начальная клетка
+     * @param to   конечная клетка
+     * @return стоимость пути или {@code -1}, если пути нет
+     */
+    public int cost(Coordinate from, Coordinate to) {
+        int lca = ancestor(from, to);
+        if (lca == NONE) {
+            return NONE;
+        }
+        int start = position(from);
+        // costs включают клетку вершины; путь не платит за начальную клетку, но платит за предка
+        return costs[start] + costs[position(to)] - 2 * costs[lca]
+            + maze.cost(cells[lca]) - maze.cost(cells[start]);
+    }
+
+    /**
+     * Восстанавливает путь между клетками подъёмом от обеих клеток к общему предку.
+     *
+     * @param from начальная клетка
+     * @param to   конечная клетка
+     * @return список {@link Coordinate} от {@code from} до {@code to} или пустой список, если пути нет
+     */
+    public List<Coordinate> path(Coordinate from, Coordinate to) {
+        int lca = ancestor(from, to);
+        if (lca == NONE) {
+            return Collections.emptyList();
+        }
+        int width = maze.width();
+        List<Coordinate> path = new ArrayList<>(length(from, to) + 1);
+        for (int position = position(from); position != lca; position = parents[position]) {
+            path.add(new Coordinate(cells[position] / width, cells[position] % width));
+        }
+        int upper = path.size();
+        for (int position = position(to); position != lca; position = parents[position]) {
+            path.add(new Coordinate(cells[position] / width, cells[position] % width));
+        }
+        path.add(new Coordinate(cells[lca] / width, cells[lca] % width));
+        // Вторая половина собрана от конца к предку: разворачиваем её вместе с предком
+        Collections.reverse(path.subList(upper, path.size()));
+        return path;
+    }
+
+    /**
+     * Находит позицию наименьшего общего предка двух клеток.
+     *
+     * @return позиция предка в порядке обхода или {@link #NONE}, если клетки не соединены
+     */
+    private int ancestor(Coordinate from, Coordinate to) {
+        int first = position(from);
+        int second = position(to);
+        if (first == NONE || second == NONE) {
+            return NONE;
+        }
+        if (first == second) {
+            return first;
+        }
+        int shallowest = minimumDepth(Math.min(first, second) + 1, Math.max(first, second));
+        return parents[shallowest];
+    }
+
+    private int position(Coordinate coordinate) {
+        int row = coordinate.row();
+        int col = coordinate.col();
+        if (row < 0 || row >= maze.height() || col < 0 || col >= maze.width()) {
+            return NONE;
+        }
+        return positions[row * maze.width() + col] - 1;
+    }
+
+    /**
+     * Обходит компоненту в глубину от корня, нумеруя вершины в порядке обхода.
+     * Клетка помечается при добавлении в стек, а позицию получает при извлечении:
+     * так каждое поддерево остаётся непрерывным отрезком.
+     *
+     * @return число пронумерованных вершин после обхода
+     */
+    private int traverse(int root, int visitedBefore, int[] stack) {
+        int width = maze.width();
+        int visited = visitedBefore;
+        int top = 0;
+        stack[top++] = root;
+        // До извлечения в positions хранится родительская позиция со сдвигом, чтобы отличать клетку от стены
+        positions[root] = -1;
+        while (top > 0) {
+            int cell = stack[--top];
+            int parent = -positions[cell] - 2;
+            int position = visited++;
+            positions[cell] = position + 1;
+            cells[position] = cell;
+            parents[position] = parent;
+            depths[position] = parent == NONE ? 0 : depths[parent] + 1;
+            costs[position] = (parent == NONE ? 0 : costs[parent]) + maze.cost(cell);
+
+            int row = cell / width;
+            int col = cell % width;
+            for (int i = 0; i < D_COL.length; i++) {
+                int newRow = row + D_ROW[i];
+                int newCol = col + D_COL[i];
+                int neighbor = newRow * width + newCol;
+                if (newRow >= 0 && newRow < maze.height() && newCol >= 0 && newCol < width
+                    && positions[neighbor] == 0 && maze.isPassage(neighbor)) {
+                    positions[neighbor] = -position - 2;
+                    stack[top++] = neighbor;
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Считает связи клетки с соседями справа и снизу, чтобы каждая связь учитывалась один раз.
+     */
+    private int forwardLinks(int cell) {
+        int width = maze.width();
+        int links = 0;
+        if (cell % width + 1 < width && maze.isPassage(cell + 1)) {
+            links++;
+        }
+        if (cell / width + 1 < maze.height() && maze.isPassage(cell + width)) {
+            links++;
+        }
+        return links;
+    }
+
+    private int[][] buildBlockMinimums() {
+        int blocks = (depths.length + BLOCK - 1) / BLOCK;
+        int levels = 1;
+        while (1 << levels <= blocks) {
+            levels++;
+        }
+        int[][] table = new int[levels][];
+        table[0] = new int[blocks];
+        for (int block = 0; block < blocks; block++) {
+            table[0][block] = scan(block * BLOCK, Math.min(depths.length, (block + 1) * BLOCK) - 1);
+        }
+        for (int level = 1; level < levels; level++) {
+            int span = 1 << level;
+            table[level] = new int[blocks - span + 1];
+            for (int block = 0; block + span <= blocks; block++) {
+                table[level][block] = shallower(table[level - 1][block], table[level - 1][block + span / 2]);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Находит позицию самой мелкой вершины на отрезке позиций {@code [from, to]}.
+     */
+    private int minimumDepth(int from, int to) {
+        int firstBlock = from / BLOCK;
+        int lastBlock = to / BLOCK;
+        if (firstBlock == lastBlock) {
+            return scan(from, to);
+        }
+        int best = shallower(scan(from, firstBlock * BLOCK + BLOCK - 1), scan(lastBlock * BLOCK, to));
+        if (firstBlock + 1 < lastBlock) {
+            int count = lastBlock - firstBlock - 1;
+            int level = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(count);
+            best = shallower(best, shallower(blockMinimums[level][firstBlock + 1],
+                blockMinimums[level][lastBlock - (1 << level)]));
+        }
+        return best;
+    }
+
+    private int scan(int from, int to) {
+        int best = from;
+        for (int position = from + 1; position <= to; position++) {
+            if (depths[position] < depths[best]) {
+                best = position;
+            }
+        }
+        return best;
+    }
+
+    private int shallower(int first, int second) {
+        return depths[second] < depths[first] ? second : first;
+    }
+}
@@ -0,0 +1,77 @@
+package backend.academy.solvers.impl;
+
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.solvers.Solver;
+import java.util.List;
+
+/**
+ * Реализация интерфейса {@link Solver} на основе индекса дерева {@link TreeIndex}.
+ * <p>
+ * Индекс строится один раз на лабиринт и переиспользуется следующими запросами к тому же лабиринту:
+ * запрос находит общего предка за постоянное время и восстанавливает путь за время, линейное по его длине,
+ * без обхода лабиринта. В идеальном лабиринте путь единственен, поэтому он одновременно кратчайший
+ * и самый дешёвый. Если в лабиринте есть циклы, запрос передаётся {@link DialSolverImpl}.
+ * </p>
+ * <p>
+ * Экземпляр хранит индекс последнего лабиринта и не потокобезопасен. {@link SearchResult#expandedNodes()} —
+ * число клеток, пройденных при восстановлении пути.
+ * </p>
+ */
+public class TreeIndexSolverImpl implements Solver {
+
+    private final Solver fallback = new DialSolverImpl();
+
+    private TreeIndex index;
+
+    /**
+     * Создаёт решатель, который строит индекс при первом запросе к лабиринту.
+     */
+    public TreeIndexSolverImpl() {
+    }
+
+    /**
+     * Создаёт решатель поверх заранее построенного индекса.
+     *
+     * @param index индекс дерева лабиринта
+     */
+    public TreeIndexSolverImpl(TreeIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Находит путь от {@code start} до {@code end}.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return список {@link Coordinate}, представляющий путь с наименьшей стоимостью от {@code start} до {@code end},
+     *         или пустой список, если путь не существует или одна из координат — стена
+     */
+    @Override
+    public List<Coordinate> solve(Maze maze, Coordinate start, Coordinate end) {
+        return search(maze, start, end).path();
+    }
+
+    /**
+     * Выполняет тот же поиск, что и {@link #solve(Maze, Coordinate, Coordinate)},
+     * дополнительно сообщая число клеток, пройденных при восстановлении пути.
+     *
+     * @param maze  лабиринт {@link Maze} для решения
+     * @param start начальная координата {@link Coordinate}
+     * @param end   конечная координата {@link Coordinate}
+     * @return путь и количество пройденных клеток
+     */
+    @Override
+    public SearchResult search(Maze maze, Coordinate start, Coordinate end) {
+        if (index == null || index.maze() != maze) {
+            index = TreeIndex.build(maze);
+        }
+        if (!index.tree()) {
+            return fallback.search(maze, start, end);
+        }
+        List<Coordinate> path = index.path(start, end);
+        return new SearchResult(path, path.size());
+    }
+}
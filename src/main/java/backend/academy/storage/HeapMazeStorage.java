@@ -0,0 +1,55 @@
+package backend.academy.storage;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Хранилище клеток в массиве {@code byte[]} в куче JVM.
+ * Подходит для лабиринтов, число клеток которых помещается в массив Java.
+ */
+public class HeapMazeStorage implements MazeStorage {
+
+    private final byte[] cells;
+
+    /**
+     * Выделяет хранилище на указанное число клеток.
+     *
+     * @param size количество клеток
+     * @throws IllegalArgumentException если клеток больше, чем помещается в массив Java
+     */
+    public HeapMazeStorage(long size) {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Лабиринт из " + size + " клеток не помещается в массив кучи.");
+        }
+        this.cells = new byte[(int) size];
+    }
+
+    @Override
+    public long size() {
+        return cells.length;
+    }
+
+    @Override
+    public byte get(long index) {
+        return cells[(int) index];
+    }
+
+    @Override
+    public void set(long index, byte code) {
+        cells[(int) index] = code;
+    }
+
+    @Override
+    public MemorySegment asSegment() {
+        return MemorySegment.ofArray(cells);
+    }
+
+    @Override
+    public long byteSize() {
+        return cells.length;
+    }
+
+    @Override
+    public boolean isNative() {
+        return false;
+    }
+}
@@ -0,0 +1,97 @@
+package backend.academy.storage;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.Getter;
+
+/**
+ * Хранилище клеток, отображённое в память из бинарного файла лабиринта ({@link MazeFileHeader}).
+ * <p>
+ * Файл отображается через {@link FileChannel#map(FileChannel.MapMode, long, long, Arena)} целиком,
+ * но в память ничего не читается: операционная система подгружает только те страницы,
+ * к которым обращаются решатель или рендерер. Поэтому открытие даже очень большого файла
+ * занимает постоянное время. Отображение только для чтения: попытка изменить клетку приводит к исключению.
+ * </p>
+ */
+public class MappedMazeStorage implements MazeStorage {
+
+    @Getter
+    private final MazeFileHeader header;
+    private final Arena arena;
+    private final MemorySegment segment;
+
+    private MappedMazeStorage(MazeFileHeader header, Arena arena, MemorySegment segment) {
+        this.header = header;
+        this.arena = arena;
+        this.segment = segment;
+    }
+
+    /**
+     * Открывает файл лабиринта и отображает данные клеток в память.
+     *
+     * @param path путь к файлу
+     * @return хранилище, отображённое на файл
+     * @throws IOException если файл не удаётся прочитать или он имеет неверный формат
+     */
+    public static MappedMazeStorage open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(MazeFileHeader.SIZE);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Файл не является файлом лабиринта.");
+                }
+            }
+            MazeFileHeader header = MazeFileHeader.fromBuffer(buffer.flip());
+            if (channel.size() != MazeFileHeader.SIZE + header.cellCount()) {
+                throw new IOException("Размер файла лабиринта не совпадает с заголовком.");
+            }
+
+            // Отображение остаётся действительным и после закрытия канала — до закрытия арены
+            Arena arena = Arena.ofShared();
+            MemorySegment segment =
+                channel.map(FileChannel.MapMode.READ_ONLY, MazeFileHeader.SIZE, header.cellCount(), arena);
+            return new MappedMazeStorage(header, arena, segment);
+        }
+    }
+
+    @Override
+    public long size() {
+        return segment.byteSize();
+    }
+
+    @Override
+    public byte get(long index) {
+        return segment.get(ValueLayout.JAVA_BYTE, index);
+    }
+
+    @Override
+    public void set(long index, byte code) {
+        throw new UnsupportedOperationException("Файл лабиринта открыт только для чтения.");
+    }
+
+    @Override
+    public MemorySegment asSegment() {
+        return segment;
+    }
+
+    @Override
+    public long byteSize() {
+        return segment.byteSize();
+    }
+
+    @Override
+    public boolean isNative() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
@@ -0,0 +1,97 @@
+package backend.academy.storage;
+
+import backend.academy.constants.enums.GeneratorType;
+import backend.academy.dto.Maze;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Запись и чтение лабиринтов в бинарном формате, описанном в {@link MazeFileHeader}.
+ * <p>
+ * Чтение не загружает лабиринт в кучу: данные клеток отображаются в память через {@link MappedMazeStorage}.
+ * </p>
+ */
+@UtilityClass
+public class MazeFile {
+
+    private static final int CHECKSUM_CHUNK = 1 << 20;
+
+    /**
+     * Сохраняет лабиринт в файл, перезаписывая его.
+     *
+     * @param path          путь к файлу
+     * @param maze          лабиринт
+     * @param seed          зерно, с которым был сгенерирован лабиринт
+     * @param generatorType алгоритм генерации
+     * @throws IOException если файл не удаётся записать
+     */
+    public static void write(Path path, Maze maze, long seed, GeneratorType generatorType) throws IOException {
+        MemorySegment cells = maze.storage().asSegment();
+        MazeFileHeader header =
+            new MazeFileHeader(maze.height(), maze.width(), seed, generatorType, checksum(cells));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             Arena arena = Arena.ofConfined()) {
+            ByteBuffer buffer = header.toBuffer();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, MazeFileHeader.SIZE - buffer.remaining());
+            }
+            // Данные клеток копируются напрямую в отображённую область файла
+            MemorySegment body =
+                channel.map(FileChannel.MapMode.READ_WRITE, MazeFileHeader.SIZE, cells.byteSize(), arena);
+            MemorySegment.copy(cells, 0, body, 0, cells.byteSize());
+            body.force();
+        }
+    }
+
+    /**
+     * Открывает файл лабиринта без загрузки клеток в кучу.
+     * Полученный лабиринт нужно закрыть, чтобы снять отображение файла.
+     *
+     * @param path путь к файлу
+     * @return лабиринт поверх {@link MappedMazeStorage}
+     * @throws IOException если файл не удаётся прочитать или он имеет неверный формат
+     */
+    public static Maze open(Path path) throws IOException {
+        MappedMazeStorage storage = MappedMazeStorage.open(path);
+        return new Maze(storage.header().height(), storage.header().width(), storage);
+    }
+
+    /**
+     * Проверяет контрольную сумму открытого файла. Читает все клетки, поэтому занимает время,
+     * пропорциональное размеру файла.
+     *
+     * @param storage хранилище, отображённое на файл
+     * @return {@code true}, если данные клеток совпадают с контрольной суммой заголовка
+     */
+    public static boolean verify(MappedMazeStorage storage) {
+        return checksum(storage.asSegment()) == storage.header().checksum();
+    }
+
+    /**
+     * Считает контрольную сумму CRC32C данных клеток, прокачивая их через буфер фиксированного размера,
+     * так что в куче одновременно находится не больше {@link #CHECKSUM_CHUNK} байт.
+     *
+     * @param cells данные клеток
+     * @return значение CRC32C
+     */
+    static long checksum(MemorySegment cells) {
+        CRC32C crc = new CRC32C();
+        byte[] chunk = new byte[(int) Math.min(CHECKSUM_CHUNK, cells.byteSize())];
+        for (long offset = 0; offset < cells.byteSize(); offset += chunk.length) {
+            int length = (int) Math.min(chunk.length, cells.byteSize() - offset);
+            MemorySegment.copy(cells, ValueLayout.JAVA_BYTE, offset, chunk, 0, length);
+            crc.update(chunk, 0, length);
+        }
+        return crc.getValue();
+    }
+}
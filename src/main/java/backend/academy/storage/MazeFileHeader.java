@@ -0,0 +1,91 @@
+package backend.academy.storage;
+
+import backend.academy.constants.enums.GeneratorType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Заголовок бинарного файла лабиринта.
+ * <p>
+ * Заголовок занимает {@link #SIZE} байт (порядок байтов big-endian):
+ * <ul>
+ *     <li>{@code int} — сигнатура {@code "MAZE"};</li>
+ *     <li>{@code short} — версия формата;</li>
+ *     <li>{@code short} — порядковый номер {@link GeneratorType};</li>
+ *     <li>{@code int} — высота, {@code int} — ширина;</li>
+ *     <li>{@code long} — зерно генерации;</li>
+ *     <li>{@code long} — контрольная сумма CRC32C данных клеток.</li>
+ * </ul>
+ * За заголовком следуют {@code height * width} байт клеток в том же коде, что и в {@link MazeStorage}:
+ * ноль — стена, иначе номер поверхности прохода, увеличенный на единицу.
+ * </p>
+ *
+ * @param height        высота лабиринта
+ * @param width         ширина лабиринта
+ * @param seed          зерно, с которым был сгенерирован лабиринт
+ * @param generatorType алгоритм генерации
+ * @param checksum      контрольная сумма CRC32C данных клеток
+ */
+public record MazeFileHeader(int height, int width, long seed, GeneratorType generatorType, long checksum) {
+
+    /**
+     * Размер заголовка в байтах.
+     */
+    public static final int SIZE = 32;
+
+    private static final int MAGIC = 0x4D415A45;
+
+    private static final short VERSION = 1;
+
+    /**
+     * Возвращает количество клеток лабиринта.
+     *
+     * @return {@code height * width}
+     */
+    public long cellCount() {
+        return (long) height * width;
+    }
+
+    /**
+     * Сериализует заголовок.
+     *
+     * @return буфер из {@link #SIZE} байт, готовый к записи
+     */
+    public ByteBuffer toBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+        buffer.putInt(MAGIC)
+            .putShort(VERSION)
+            .putShort((short) generatorType.ordinal())
+            .putInt(height)
+            .putInt(width)
+            .putLong(seed)
+            .putLong(checksum);
+        return buffer.flip();
+    }
+
+    /**
+     * Разбирает заголовок.
+     *
+     * @param buffer буфер, содержащий не менее {@link #SIZE} байт заголовка
+     * @return заголовок файла
+     * @throws IOException если сигнатура, версия или поля заголовка некорректны
+     */
+    public static MazeFileHeader fromBuffer(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Файл не является файлом лабиринта.");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Неподдерживаемая версия файла лабиринта: " + version);
+        }
+        short generator = buffer.getShort();
+        int height = buffer.getInt();
+        int width = buffer.getInt();
+        long seed = buffer.getLong();
+        long checksum = buffer.getLong();
+        if (generator < 0 || generator >= GeneratorType.values().length || height <= 0 || width <= 0) {
+            throw new IOException("Повреждён заголовок файла лабиринта.");
+        }
+        return new MazeFileHeader(height, width, seed, GeneratorType.values()[generator], checksum);
+    }
+}
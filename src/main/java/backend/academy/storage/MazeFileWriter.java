@@ -0,0 +1,113 @@
+package backend.academy.storage;
+
+import backend.academy.constants.enums.GeneratorType;
+import backend.academy.generators.MazeRowConsumer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Построчная запись лабиринта в бинарный формат {@link MazeFileHeader} без сборки лабиринта в памяти.
+ * <p>
+ * Строки копятся в буфере фиксированного размера и пишутся в файл по мере заполнения, контрольная сумма
+ * считается по ходу записи. Заголовок с контрольной суммой записывается при закрытии, поэтому файл годен
+ * для {@link MazeFile#open(Path)} только после {@link #close()}.
+ * </p>
+ */
+public final class MazeFileWriter implements MazeRowConsumer, Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final int height;
+    private final int width;
+    private final long seed;
+    private final GeneratorType generatorType;
+    private final CRC32C crc = new CRC32C();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private int nextRow;
+
+    private MazeFileWriter(FileChannel channel, int height, int width, long seed, GeneratorType generatorType) {
+        this.channel = channel;
+        this.height = height;
+        this.width = width;
+        this.seed = seed;
+        this.generatorType = generatorType;
+    }
+
+    /**
+     * Создаёт файл лабиринта, перезаписывая его, и готовит его к построчной записи.
+     *
+     * @param path          путь к файлу
+     * @param height        высота лабиринта
+     * @param width         ширина лабиринта
+     * @param seed          зерно, с которым генерируется лабиринт
+     * @param generatorType алгоритм генерации
+     * @return получатель строк, который нужно закрыть после последней строки
+     * @throws IOException если файл не удаётся создать
+     */
+    public static MazeFileWriter open(Path path, int height, int width, long seed, GeneratorType generatorType)
+        throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        channel.position(MazeFileHeader.SIZE);
+        return new MazeFileWriter(channel, height, width, seed, generatorType);
+    }
+
+    /**
+     * Дописывает строку лабиринта.
+     *
+     * @param row   номер строки; строки должны идти по порядку
+     * @param codes коды клеток строки
+     * @throws IOException если строка пришла не по порядку, имеет неверную длину или не записалась
+     */
+    @Override
+    public void accept(int row, byte[] codes) throws IOException {
+        if (row != nextRow || row >= height || codes.length != width) {
+            throw new IOException("Ожидалась строка " + nextRow + " из " + width + " клеток, получена строка " + row
+                + " из " + codes.length + ".");
+        }
+        crc.update(codes);
+        int offset = 0;
+        while (offset < codes.length) {
+            int length = Math.min(buffer.remaining(), codes.length - offset);
+            buffer.put(codes, offset, length);
+            offset += length;
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+        }
+        nextRow++;
+    }
+
+    /**
+     * Дописывает остаток буфера и заголовок с контрольной суммой и закрывает файл.
+     *
+     * @throws IOException если записаны не все строки или запись не удалась
+     */
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            drain();
+            if (nextRow != height) {
+                throw new IOException("Записано " + nextRow + " строк лабиринта из " + height + ".");
+            }
+            ByteBuffer header = new MazeFileHeader(height, width, seed, generatorType, crc.getValue()).toBuffer();
+            while (header.hasRemaining()) {
+                channel.write(header, MazeFileHeader.SIZE - header.remaining());
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
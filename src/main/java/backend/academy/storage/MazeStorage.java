@@ -0,0 +1,66 @@
+package backend.academy.storage;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Хранилище байтовых кодов клеток лабиринта с индексацией {@code long}.
+ * <p>
+ * Свежевыделенное хранилище заполнено нулями, что соответствует лабиринту из одних стен
+ * (см. {@link backend.academy.dto.Maze#WALL}). Хранилище может держать ресурсы вне кучи,
+ * поэтому его жизненный цикл завершается вызовом {@link #close()}.
+ * </p>
+ */
+public interface MazeStorage extends AutoCloseable {
+
+    /**
+     * Возвращает количество клеток в хранилище.
+     *
+     * @return количество клеток
+     */
+    long size();
+
+    /**
+     * Читает код клетки.
+     *
+     * @param index индекс клетки
+     * @return байтовый код клетки
+     */
+    byte get(long index);
+
+    /**
+     * Записывает код клетки.
+     *
+     * @param index индекс клетки
+     * @param code  байтовый код клетки
+     */
+    void set(long index, byte code);
+
+    /**
+     * Возвращает клетки хранилища в виде {@link MemorySegment} без копирования.
+     * Используется для массовых операций: записи в файл, подсчёта контрольной суммы.
+     *
+     * @return сегмент длиной {@link #size()} байт
+     */
+    MemorySegment asSegment();
+
+    /**
+     * Возвращает объём памяти, занятый данными хранилища, в байтах.
+     *
+     * @return размер данных в байтах
+     */
+    long byteSize();
+
+    /**
+     * Сообщает, расположены ли данные вне кучи JVM.
+     *
+     * @return {@code true}, если данные находятся вне кучи
+     */
+    boolean isNative();
+
+    /**
+     * Освобождает ресурсы хранилища. После закрытия обращаться к клеткам нельзя.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,84 @@
+package backend.academy.storage;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Хранилище клеток вне кучи на основе {@link MemorySegment}.
+ * <p>
+ * Размер ограничен только доступной памятью процесса, индексация ведётся по {@code long},
+ * поэтому хранилище подходит для лабиринтов из миллиардов клеток. Память выделяется в {@link Arena}:
+ * либо в собственной разделяемой арене, которая освобождается в {@link #close()},
+ * либо в арене вызывающего кода — тогда временем жизни памяти управляет он сам.
+ * </p>
+ */
+public class OffHeapMazeStorage implements MazeStorage {
+
+    private final Arena arena;
+    private final boolean ownsArena;
+    private final MemorySegment segment;
+
+    /**
+     * Выделяет хранилище в собственной разделяемой арене, доступной из любых потоков.
+     *
+     * @param size количество клеток
+     */
+    public OffHeapMazeStorage(long size) {
+        this(Arena.ofShared(), size, true);
+    }
+
+    /**
+     * Выделяет хранилище в арене вызывающего кода. {@link #close()} такую арену не закрывает.
+     *
+     * @param arena арена, определяющая время жизни памяти
+     * @param size  количество клеток
+     */
+    public OffHeapMazeStorage(Arena arena, long size) {
+        this(arena, size, false);
+    }
+
+    private OffHeapMazeStorage(Arena arena, long size, boolean ownsArena) {
+        this.arena = arena;
+        this.ownsArena = ownsArena;
+        // Память, выделенная в арене, обнулена — это лабиринт из одних стен
+        this.segment = arena.allocate(size);
+    }
+
+    @Override
+    public long size() {
+        return segment.byteSize();
+    }
+
+    @Override
+    public byte get(long index) {
+        return segment.get(ValueLayout.JAVA_BYTE, index);
+    }
+
+    @Override
+    public void set(long index, byte code) {
+        segment.set(ValueLayout.JAVA_BYTE, index, code);
+    }
+
+    @Override
+    public MemorySegment asSegment() {
+        return segment;
+    }
+
+    @Override
+    public long byteSize() {
+        return segment.byteSize();
+    }
+
+    @Override
+    public boolean isNative() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        if (ownsArena) {
+            arena.close();
+        }
+    }
+}
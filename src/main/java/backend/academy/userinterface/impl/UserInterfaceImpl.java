@@ -10,10 +10,15 @@ import backend.academy.dto.Cell;
 import backend.academy.dto.Coordinate;
 import backend.academy.dto.Maze;
 import backend.academy.dto.Parameters;
+import backend.academy.dto.SearchResult;
+import backend.academy.renders.Overlay;
 import backend.academy.renders.Renderer;
-import backend.academy.renders.impl.MazeRendererImpl;
+import backend.academy.renders.Viewport;
+import backend.academy.renders.impl.CompactMazeRendererImpl;
 import backend.academy.solvers.Solver;
 import backend.academy.userinterface.UserInterface;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 public class UserInterfaceImpl implements UserInterface {
@@ -23,7 +28,7 @@ public class UserInterfaceImpl implements UserInterface {
 
     public UserInterfaceImpl(UserController controller) {
         this.controller = controller;
-        this.renderer = new MazeRendererImpl();
+        this.renderer = new CompactMazeRendererImpl();
     }
 
     @Override
@@ -39,8 +44,9 @@ public class UserInterfaceImpl implements UserInterface {
     @Override
     public void renderMaze(Maze maze) {
         write("Сгенерированный лабиринт:");
-        write(renderer.render(maze));
+        writeRendered(maze, null);
         write(InterfaceTemplates.FLOOR_INFO);
+        write(maze.footprint());
     }
 
     @Override
@@ -48,11 +54,19 @@ public class UserInterfaceImpl implements UserInterface {
         Coordinate start = getPoints(maze, "начальную");
         Coordinate end = getPoints(maze, "конечную");
 
-        List<Coordinate> path = solver.solve(maze, start, end);
+        SearchResult result = solver.search(maze, start, end);
+        List<Coordinate> path = result.path();
         if (path.isEmpty()) {
             write("Путь не найден.");
         } else {
-            write(renderer.render(maze, path));
+            writeRendered(maze, path);
+            if (overviewBlockSize(maze) > 1) {
+                write("Окрестность начальной клетки:");
+                writeViewport(maze, Viewport.around(maze, start, Config.VIEWPORT_SIZE, Config.VIEWPORT_SIZE), path);
+            }
+        }
+        if (result.expandedNodes() != SearchResult.UNKNOWN) {
+            write("Раскрыто клеток: " + result.expandedNodes());
         }
     }
 
@@ -142,6 +156,44 @@ public class UserInterfaceImpl implements UserInterface {
         controller.write(prompt);
     }
 
+    /**
+     * Выводит лабиринт целиком, если он помещается в консоль, иначе — уменьшенный обзор.
+     */
+    private void writeRendered(Maze maze, List<Coordinate> path) {
+        int blockSize = overviewBlockSize(maze);
+        if (blockSize == 1) {
+            writeViewport(maze, Viewport.of(maze), path);
+            return;
+        }
+        write("Лабиринт показан в обзоре: одна клетка обзора — блок " + blockSize + "x" + blockSize + " клеток.");
+        try {
+            renderer.renderOverview(maze, blockSize, controller.output(), overlays(maze, path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeViewport(Maze maze, Viewport viewport, List<Coordinate> path) {
+        try {
+            renderer.render(maze, viewport, controller.output(), overlays(maze, path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Overlay[] overlays(Maze maze, List<Coordinate> path) {
+        return path == null ? new Overlay[0] : new Overlay[] {Overlay.ofPath(maze, path)};
+    }
+
+    /**
+     * Подбирает сторону блока обзора так, чтобы обзор помещался в {@link Config#MAX_RENDER_SIZE} клеток по каждой
+     * стороне; {@code 1} означает, что лабиринт выводится целиком.
+     */
+    private static int overviewBlockSize(Maze maze) {
+        int side = Math.max(maze.height(), maze.width());
+        return (side + Config.MAX_RENDER_SIZE - 1) / Config.MAX_RENDER_SIZE;
+    }
+
     private static boolean isValidCoordinate(Maze maze, int row, int col) {
         int height = maze.height();
         int width = maze.width();
@@ -0,0 +1,70 @@
+import backend.academy.dto.Cell;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.generators.impl.PrimMazeGenerator;
+import backend.academy.solvers.impl.AStarSolverImpl;
+import backend.academy.solvers.impl.DijkstraSolverImpl;
+import backend.academy.solvers.impl.PathCost;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+public class AStarSolverImplTest {
+
+    @Test
+    public void testCoinShortcutIsTaken() {
+        // Обход через монетки длиннее по шагам, но дешевле: эвристика не должна его отсечь
+        Maze maze = new Maze(3, 5);
+        for (int col = 0; col < 5; col++) {
+            maze.setPassage(maze.index(0, col), Cell.Surface.SWAMP);
+            maze.setPassage(maze.index(2, col), Cell.Surface.COIN);
+        }
+        maze.setPassage(maze.index(1, 0), Cell.Surface.COIN);
+        maze.setPassage(maze.index(1, 4), Cell.Surface.COIN);
+
+        List<Coordinate> path = new AStarSolverImpl().solve(maze, new Coordinate(0, 0), new Coordinate(0, 4));
+        List<Coordinate> cheapest = new DijkstraSolverImpl().solve(maze, new Coordinate(0, 0), new Coordinate(0, 4));
+
+        assertEquals(PathCost.of(maze, cheapest), PathCost.of(maze, path));
+        assertEquals(new Coordinate(2, 2), path.get(4), "Путь должен идти по монеткам.");
+    }
+
+    @Test
+    public void testExpandsFewerNodesThanDijkstra() {
+        // Открытое поле без монеток: A* идёт к цели, Дейкстра раскрывает ромб вокруг старта
+        Maze maze = new Maze(101, 101);
+        for (long index = 0; index < maze.cellCount(); index++) {
+            maze.setPassage(index, Cell.Surface.NORMAL);
+        }
+        Coordinate start = new Coordinate(50, 40);
+        Coordinate end = new Coordinate(50, 60);
+
+        SearchResult dijkstra = new DijkstraSolverImpl().search(maze, start, end);
+        SearchResult aStar = new AStarSolverImpl().search(maze, start, end);
+
+        assertEquals(dijkstra.path().size(), aStar.path().size());
+        assertTrue(aStar.expandedNodes() * 10 < dijkstra.expandedNodes(),
+            "A* раскрыл " + aStar.expandedNodes() + " клеток, Дейкстра — " + dijkstra.expandedNodes());
+    }
+
+    @Test
+    public void testReusedSolverMatchesFreshSolver() {
+        // Каждый лабиринт новый объект: минимумы по строкам и столбцам пересчитываются, метки прошлых запросов не мешают
+        AStarSolverImpl reused = new AStarSolverImpl();
+        Random random = new Random(5);
+        int[] sizes = {41, 21, 41, 61};
+        for (int i = 0; i < sizes.length; i++) {
+            int size = sizes[i];
+            Maze maze = new PrimMazeGenerator().generate(size, size, i);
+            for (int j = 0; j < 50; j++) {
+                Coordinate start = new Coordinate(1 + 2 * random.nextInt(size / 2), 1 + 2 * random.nextInt(size / 2));
+                Coordinate end = new Coordinate(1 + 2 * random.nextInt(size / 2), 1 + 2 * random.nextInt(size / 2));
+
+                assertEquals(new AStarSolverImpl().search(maze, start, end), reused.search(maze, start, end),
+                    "Переиспользованный решатель совпадает с новым.");
+            }
+        }
+    }
+}
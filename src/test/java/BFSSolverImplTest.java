@@ -1,7 +1,10 @@
 import backend.academy.dto.Cell;
 import backend.academy.dto.Coordinate;
 import backend.academy.dto.Maze;
+import backend.academy.generators.impl.KruskalMazeGenerator;
 import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.storage.MazeStorage;
+import java.lang.foreign.MemorySegment;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -102,4 +105,76 @@ public class BFSSolverImplTest {
         );
         assertEquals(path, expectedPath, "Поиск минимального пути из существующих (2).");
     }
+
+    @Test
+    public void testReusedSolverMatchesFreshSolver() {
+        BFSSolverImpl reused = new BFSSolverImpl();
+        Random random = new Random(3);
+        int[] sizes = {41, 21, 41, 61};
+        for (int size : sizes) {
+            Maze maze = new KruskalMazeGenerator().generate(size, size, size);
+            for (int i = 0; i < 50; i++) {
+                Coordinate start = new Coordinate(1 + 2 * random.nextInt(size / 2), 1 + 2 * random.nextInt(size / 2));
+                Coordinate end = new Coordinate(1 + 2 * random.nextInt(size / 2), 1 + 2 * random.nextInt(size / 2));
+
+                assertEquals(new BFSSolverImpl().search(maze, start, end), reused.search(maze, start, end),
+                    "Метки предыдущих запросов не влияют на следующий.");
+            }
+            assertTrue(reused.solve(maze, new Coordinate(1, 1), new Coordinate(0, 0)).isEmpty());
+        }
+    }
+
+    @Test
+    public void testMazeLargerThanIntegerRange() {
+        // 4.5 миллиарда клеток; проходы только в нижней строке и в одной клетке над ней, индексы больше 2^31
+        int width = 1_500_000_000;
+        Maze maze = new Maze(3, width, new CorridorStorage(3L * width, width));
+        Maze small = new Maze(3, 2000, new CorridorStorage(3L * 2000, 2000));
+        BFSSolverImpl solver = new BFSSolverImpl();
+
+        List<Coordinate> path = solver.solve(maze, new Coordinate(2, 10), new Coordinate(1, 500));
+
+        assertTrue(maze.index(2, 10) > Integer.MAX_VALUE);
+        assertEquals(492, path.size());
+        assertEquals(new Coordinate(2, 500), path.get(490));
+        assertEquals(solver.solve(small, new Coordinate(2, 10), new Coordinate(1, 500)), path,
+            "Поиск по индексам long совпадает с поиском по массивам.");
+        assertEquals(List.of(new Coordinate(2, 999), new Coordinate(2, 1000)),
+            solver.solve(maze, new Coordinate(2, 999), new Coordinate(2, 1000)));
+        assertTrue(solver.solve(maze, new Coordinate(2, 10), new Coordinate(0, 500)).isEmpty());
+    }
+
+    /**
+     * Хранилище без памяти под клетки: проходы — клетки 10..1000 нижней строки и клетка (1, 500).
+     */
+    private record CorridorStorage(long size, int width) implements MazeStorage {
+
+        @Override
+        public byte get(long index) {
+            long row = index / width;
+            long col = index % width;
+            boolean corridor = row == 2 && col >= 10 && col <= 1000;
+            return corridor || row == 1 && col == 500 ? (byte) 1 : Maze.WALL;
+        }
+
+        @Override
+        public void set(long index, byte code) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MemorySegment asSegment() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long byteSize() {
+            return 0;
+        }
+
+        @Override
+        public boolean isNative() {
+            return false;
+        }
+    }
 }
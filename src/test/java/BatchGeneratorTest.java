@@ -0,0 +1,60 @@
+import backend.academy.dto.Maze;
+import backend.academy.generators.BatchGenerator;
+import backend.academy.generators.RandomStreams;
+import backend.academy.generators.impl.PrimMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchGeneratorTest {
+
+    @Test
+    public void testEveryMazeIsDeliveredOnce() {
+        Map<Integer, Maze> mazes = new ConcurrentHashMap<>();
+
+        new BatchGenerator(PrimMazeGenerator::perWorker).generateAll(200, 31, 31, 5L, (maze, index) -> {
+            assertNull(mazes.put(index, maze), "Лабиринт " + index + " передан дважды.");
+        });
+
+        assertEquals(200, mazes.size());
+        for (int index = 0; index < 200; index++) {
+            Maze expected = new PrimMazeGenerator().generate(31, 31, RandomStreams.childSeed(5L, index));
+            assertEquals(expected.footprint(), mazes.get(index).footprint());
+            for (long cell = 0; cell < expected.cellCount(); cell++) {
+                assertEquals(expected.code(cell), mazes.get(index).code(cell), "Лабиринт определяется номером.");
+            }
+        }
+    }
+
+    @Test
+    public void testSameBatchOnPlatformThreads() {
+        Map<Integer, Maze> virtual = new ConcurrentHashMap<>();
+        Map<Integer, Maze> platform = new ConcurrentHashMap<>();
+
+        new BatchGenerator(PrimMazeGenerator::perWorker).generateAll(50, 21, 21, 9L, (maze, index) -> virtual.put(index, maze));
+        new BatchGenerator(PrimMazeGenerator::perWorker, 3, Thread.ofPlatform().factory())
+            .generateAll(50, 21, 21, 9L, (maze, index) -> platform.put(index, maze));
+
+        for (int index = 0; index < 50; index++) {
+            for (long cell = 0; cell < 21 * 21; cell++) {
+                assertEquals(virtual.get(index).code(cell), platform.get(index).code(cell));
+            }
+        }
+    }
+
+    @Test
+    public void testConsumerFailureStopsBatch() {
+        BatchGenerator batch = new BatchGenerator(PrimMazeGenerator::perWorker, 2, Thread.ofPlatform().factory());
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+            () -> batch.generateAll(1000, 11, 11, 1L, (maze, index) -> {
+                throw new IllegalArgumentException("Потребитель отказал.");
+            }));
+
+        assertEquals("Потребитель отказал.", thrown.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new BatchGenerator(PrimMazeGenerator::perWorker, 0, Thread::new));
+    }
+}
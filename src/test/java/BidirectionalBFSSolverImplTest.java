@@ -0,0 +1,43 @@
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.solvers.impl.BidirectionalBFSSolverImpl;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+public class BidirectionalBFSSolverImplTest {
+
+    @Test
+    public void testStartEqualsEnd() {
+        Maze maze = new KruskalMazeGenerator().generate(5, 5);
+
+        List<Coordinate> path = new BidirectionalBFSSolverImpl().solve(maze, new Coordinate(1, 1), new Coordinate(1, 1));
+
+        assertEquals(List.of(new Coordinate(1, 1)), path);
+    }
+
+    @Test
+    public void testExpandsFewerNodesThanBfs() {
+        // На отдельном лабиринте выигрыш может отсутствовать, поэтому сравниваем сумму по нескольким
+        long bfsExpanded = 0;
+        long bidirectionalExpanded = 0;
+        for (int i = 0; i < 5; i++) {
+            Maze maze = new KruskalMazeGenerator().generate(201, 201, i);
+            Coordinate start = new Coordinate(1, 1);
+            Coordinate end = new Coordinate(199, 199);
+
+            SearchResult bfs = new BFSSolverImpl().search(maze, start, end);
+            SearchResult bidirectional = new BidirectionalBFSSolverImpl().search(maze, start, end);
+
+            assertEquals(bfs.path(), bidirectional.path(), "В идеальном лабиринте путь единственный.");
+            bfsExpanded += bfs.expandedNodes();
+            bidirectionalExpanded += bidirectional.expandedNodes();
+        }
+        assertTrue(bidirectionalExpanded < bfsExpanded,
+            "Двунаправленный поиск раскрыл " + bidirectionalExpanded + " клеток, BFS — " + bfsExpanded);
+    }
+}
@@ -0,0 +1,65 @@
+import backend.academy.dto.Cell;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.solvers.impl.BidirectionalDijkstraSolverImpl;
+import backend.academy.solvers.impl.DijkstraSolverImpl;
+import backend.academy.solvers.impl.PathCost;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+public class BidirectionalDijkstraSolverImplTest {
+
+    @Test
+    public void testStartEqualsEnd() {
+        Maze maze = new KruskalMazeGenerator().generate(5, 5);
+
+        List<Coordinate> path = new BidirectionalDijkstraSolverImpl()
+            .solve(maze, new Coordinate(1, 1), new Coordinate(1, 1));
+
+        assertEquals(List.of(new Coordinate(1, 1)), path);
+    }
+
+    @Test
+    public void testCheaperDetourAfterFrontsMeet() {
+        // Фронты встречаются на прямом болотистом пути, но оптимален обход по монеткам
+        Maze maze = new Maze(3, 5);
+        for (int col = 0; col < 5; col++) {
+            maze.setPassage(maze.index(0, col), Cell.Surface.SWAMP);
+            maze.setPassage(maze.index(2, col), Cell.Surface.COIN);
+        }
+        maze.setPassage(maze.index(1, 0), Cell.Surface.COIN);
+        maze.setPassage(maze.index(1, 4), Cell.Surface.COIN);
+        maze.setPassage(maze.index(0, 4), Cell.Surface.NORMAL);
+
+        List<Coordinate> path = new BidirectionalDijkstraSolverImpl()
+            .solve(maze, new Coordinate(0, 0), new Coordinate(0, 4));
+
+        assertEquals(1, PathCost.of(maze, path));
+        assertEquals(new Coordinate(2, 2), path.get(4), "Путь должен идти по монеткам.");
+    }
+
+    @Test
+    public void testExpandsFewerNodesThanDijkstra() {
+        // На отдельном лабиринте выигрыш может отсутствовать, поэтому сравниваем сумму по нескольким
+        long dijkstraExpanded = 0;
+        long bidirectionalExpanded = 0;
+        for (int i = 0; i < 5; i++) {
+            Maze maze = new KruskalMazeGenerator().generate(201, 201, i);
+            Coordinate start = new Coordinate(1, 1);
+            Coordinate end = new Coordinate(199, 199);
+
+            SearchResult dijkstra = new DijkstraSolverImpl().search(maze, start, end);
+            SearchResult bidirectional = new BidirectionalDijkstraSolverImpl().search(maze, start, end);
+
+            assertEquals(dijkstra.path(), bidirectional.path(), "В идеальном лабиринте путь единственный.");
+            dijkstraExpanded += dijkstra.expandedNodes();
+            bidirectionalExpanded += bidirectional.expandedNodes();
+        }
+        assertTrue(bidirectionalExpanded < dijkstraExpanded,
+            "Двунаправленный поиск раскрыл " + bidirectionalExpanded + " клеток, Дейкстра — " + dijkstraExpanded);
+    }
+}
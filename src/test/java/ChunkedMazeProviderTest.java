@@ -0,0 +1,97 @@
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.ChunkedMazeProvider;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.solvers.impl.DijkstraSolverImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkedMazeProviderTest {
+
+    @Test
+    public void testChunkDependsOnlyOnSeedAndCoordinates() {
+        ChunkedMazeProvider first = new ChunkedMazeProvider(7L, 8, 1);
+        ChunkedMazeProvider second = new ChunkedMazeProvider(7L, 8, 100);
+        // Второй провайдер строит чанки в обратном порядке, первый вытесняет их и строит заново
+        for (int chunkRow = 2; chunkRow >= -2; chunkRow--) {
+            for (int chunkCol = 2; chunkCol >= -2; chunkCol--) {
+                second.chunk(chunkRow, chunkCol);
+            }
+        }
+        for (int i = 0; i < 3; i++) {
+            for (int chunkRow = -2; chunkRow <= 2; chunkRow++) {
+                for (int chunkCol = -2; chunkCol <= 2; chunkCol++) {
+                    assertEquals(cells(second.chunk(chunkRow, chunkCol)), cells(first.chunk(chunkRow, chunkCol)));
+                }
+            }
+        }
+
+        assertNotEquals(cells(first.chunk(0, 0)), cells(first.chunk(0, 1)));
+        assertNotEquals(cells(first.chunk(0, 0)), cells(new ChunkedMazeProvider(8L, 8, 1).chunk(0, 0)));
+    }
+
+    @Test
+    public void testEveryChunkHasDoorsToAllNeighbours() {
+        ChunkedMazeProvider provider = new ChunkedMazeProvider(3L, 8, 16);
+        int side = provider.chunkSide();
+        for (int chunkRow = -3; chunkRow <= 3; chunkRow++) {
+            for (int chunkCol = -3; chunkCol <= 3; chunkCol++) {
+                long top = (long) chunkRow * side;
+                long left = (long) chunkCol * side;
+                int northDoors = 0;
+                int westDoors = 0;
+                for (int i = 0; i < side; i++) {
+                    if (provider.code(top, left + i) != Maze.WALL) {
+                        northDoors++;
+                        assertNotEquals(Maze.WALL, provider.code(top - 1, left + i), "Дверь ведёт в проход соседа.");
+                    }
+                    if (provider.code(top + i, left) != Maze.WALL) {
+                        westDoors++;
+                        assertNotEquals(Maze.WALL, provider.code(top + i, left - 1));
+                    }
+                }
+                assertEquals(1, northDoors);
+                assertEquals(1, westDoors);
+            }
+        }
+    }
+
+    @Test
+    public void testSolversCrossChunkBoundaries() {
+        ChunkedMazeProvider provider = new ChunkedMazeProvider(11L, 8, 4);
+        int side = provider.chunkSide();
+        // Окно 3 x 4 чанка, сдвинутое в отрицательные координаты
+        Maze window = provider.window(-side - 5, -2L * side, side * 3, side * 4);
+        List<Coordinate> passages = new ArrayList<>();
+        for (int row = 0; row < window.height(); row++) {
+            for (int col = 0; col < window.width(); col++) {
+                if (window.isPassage(window.index(row, col))) {
+                    passages.add(new Coordinate(row, col));
+                }
+            }
+        }
+        Coordinate start = passages.stream().filter(c -> c.row() > 8 && c.col() < 8).findFirst().orElseThrow();
+        Coordinate end = passages.reversed().stream().filter(c -> c.row() < side * 3 - 8).findFirst().orElseThrow();
+
+        List<Coordinate> path = new BFSSolverImpl().solve(window, start, end);
+
+        assertFalse(path.isEmpty(), "Чанки соединены дверями.");
+        assertEquals(new DijkstraSolverImpl().solve(window, start, end).isEmpty(), path.isEmpty());
+        for (Coordinate cell : path) {
+            assertEquals(provider.code(-side - 5 + cell.row(), -2L * side + cell.col()),
+                window.code(window.index(cell.row(), cell.col())));
+        }
+        assertThrows(UnsupportedOperationException.class, () -> window.setWall(0));
+    }
+
+    private static List<Byte> cells(Maze maze) {
+        List<Byte> cells = new ArrayList<>();
+        for (long index = 0; index < maze.cellCount(); index++) {
+            cells.add(maze.code(index));
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,188 @@
+import backend.academy.constants.InterfaceTemplates;
+import backend.academy.dto.Cell;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.renders.Overlay;
+import backend.academy.renders.Viewport;
+import backend.academy.renders.impl.CompactMazeRendererImpl;
+import backend.academy.renders.impl.MazeRendererImpl;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class CompactMazeRendererImplTest {
+
+    @Test
+    public void testLooksTheSameAsFullRenderer() {
+        Maze maze = new KruskalMazeGenerator().generate(31, 41);
+        List<Coordinate> path = new BFSSolverImpl().solve(maze, new Coordinate(1, 1), new Coordinate(29, 39));
+
+        assertEquals(screen(new MazeRendererImpl().render(maze)), screen(new CompactMazeRendererImpl().render(maze)));
+        assertEquals(screen(new MazeRendererImpl().render(maze, path)),
+            screen(new CompactMazeRendererImpl().render(maze, path)), "В терминале путь выглядит так же.");
+    }
+
+    @Test
+    public void testOverlaysLookTheSameAsFullRenderer() throws IOException {
+        Maze maze = new KruskalMazeGenerator().generate(31, 41);
+        Overlay visited = new Overlay(Overlay.Kind.VISITED);
+        Overlay frontier = new Overlay(Overlay.Kind.FRONTIER);
+        for (int col = 0; col < 41; col++) {
+            visited.add(maze.index(3, col));
+            visited.add(maze.index(5, col));
+            frontier.add(maze.index(5, col));
+        }
+        Overlay path = Overlay.ofPath(maze, List.of(new Coordinate(5, 1), new Coordinate(5, 2)));
+        StringBuilder full = new StringBuilder();
+        StringBuilder compact = new StringBuilder();
+
+        new MazeRendererImpl().render(maze, full, visited, frontier, path);
+        new CompactMazeRendererImpl().render(maze, compact, visited, frontier, path);
+
+        assertEquals(screen(full.toString()), screen(compact.toString()));
+        assertTrue(full.toString().contains(" 5 " + InterfaceTemplates.FRONTIER + InterfaceTemplates.START
+            + InterfaceTemplates.END + InterfaceTemplates.FRONTIER), "Последний слой рисуется поверх предыдущих.");
+        assertTrue(full.toString().contains(" 3 " + InterfaceTemplates.VISITED + InterfaceTemplates.VISITED));
+    }
+
+    @Test
+    public void testOverviewSummarizesBlocks() throws IOException {
+        Maze maze = new Maze(8, 8);
+        for (int row = 0; row < 8; row++) {
+            for (int col = 4; col < 8; col++) {
+                maze.setPassage(maze.index(row, col), Cell.Surface.NORMAL);
+            }
+        }
+        maze.setPassage(maze.index(1, 1), Cell.Surface.NORMAL);
+        Overlay path = Overlay.ofPath(maze, List.of(new Coordinate(6, 5), new Coordinate(6, 6)));
+        StringBuilder full = new StringBuilder();
+        StringBuilder compact = new StringBuilder();
+
+        new MazeRendererImpl().renderOverview(maze, 4, full, path);
+        new CompactMazeRendererImpl().renderOverview(maze, 4, compact, path);
+
+        String expected = InterfaceTemplates.WALL + InterfaceTemplates.PASSAGE + "\n"
+            + InterfaceTemplates.WALL + InterfaceTemplates.END + "\n";
+        assertEquals(expected, full.toString(), "Блок с концом пути показывает конец, остальные — долю стен.");
+        assertEquals(screen(full.toString()), screen(compact.toString()));
+    }
+
+    @Test
+    public void testOverviewMarksCellsAcrossRowsOfBand() throws IOException {
+        // Последний блок строки уже остальных: переход к следующему блоку не должен перескочить начало новой строки
+        Maze maze = new Maze(4, 10);
+        Overlay visited = new Overlay(Overlay.Kind.VISITED);
+        visited.add(maze.index(0, 9));
+        visited.add(maze.index(1, 0));
+        StringBuilder full = new StringBuilder();
+
+        new MazeRendererImpl().renderOverview(maze, 4, full, visited);
+
+        assertEquals(InterfaceTemplates.VISITED + InterfaceTemplates.WALL + InterfaceTemplates.VISITED + "\n",
+            full.toString());
+    }
+
+    @Test
+    public void testOverviewOfGeneratedMazeMatchesFullRenderer() throws IOException {
+        Maze maze = new KruskalMazeGenerator().generate(201, 301);
+        Overlay path = Overlay.ofPath(maze,
+            new BFSSolverImpl().solve(maze, new Coordinate(1, 1), new Coordinate(199, 299)));
+        StringBuilder full = new StringBuilder();
+        StringBuilder compact = new StringBuilder();
+
+        new MazeRendererImpl().renderOverview(maze, 10, full, path);
+        new CompactMazeRendererImpl().renderOverview(maze, 10, compact, path);
+
+        assertEquals(21, full.toString().split("\n").length);
+        assertEquals(screen(full.toString()), screen(compact.toString()));
+        assertTrue(full.toString().contains(InterfaceTemplates.START) && full.toString().contains(InterfaceTemplates.END));
+    }
+
+    @Test
+    public void testViewportLooksTheSameAsFullRenderer() throws IOException {
+        Maze maze = new KruskalMazeGenerator().generate(31, 41);
+        Viewport viewport = new Viewport(7, 11, 9, 13);
+        StringBuilder full = new StringBuilder();
+        StringBuilder compact = new StringBuilder();
+
+        new MazeRendererImpl().render(maze, viewport, full);
+        new CompactMazeRendererImpl().render(maze, viewport, compact);
+
+        assertEquals(screen(full.toString()), screen(compact.toString()));
+        assertThrows(IllegalArgumentException.class,
+            () -> new CompactMazeRendererImpl().render(maze, new Viewport(30, 0, 2, 2), compact));
+    }
+
+    @Test
+    public void testStyleIsEmittedOnlyOnChange() {
+        Maze maze = new Maze(1, 3);
+        for (int col = 0; col < 3; col++) {
+            maze.setPassage(maze.index(0, col), Cell.Surface.SWAMP);
+        }
+
+        String rendered = new CompactMazeRendererImpl().render(maze);
+
+        assertEquals("     0  1  2 \n 0 \u001B[42m\u001B[30m ~  ~  ~ \u001B[0m\n", rendered);
+    }
+
+    @Test
+    public void testOutputIsMuchSmaller() {
+        Maze maze = new KruskalMazeGenerator().generate(201, 201);
+
+        int full = new MazeRendererImpl().render(maze).getBytes(StandardCharsets.UTF_8).length;
+        int compact = new CompactMazeRendererImpl().render(maze).getBytes(StandardCharsets.UTF_8).length;
+
+        assertTrue(compact * 5 < full * 3, "Размер вывода: " + compact + " байт против " + full);
+    }
+
+    @Test
+    public void testStreamAndAppendableMatch() throws IOException {
+        Maze maze = new KruskalMazeGenerator().generate(21, 21);
+        CompactMazeRendererImpl renderer = new CompactMazeRendererImpl();
+        StringBuilder appended = new StringBuilder();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        renderer.render(maze, null, appended);
+        renderer.render(maze, null, bytes);
+
+        assertEquals(appended.toString(), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Эмулирует терминал: для каждого видимого символа запоминает действующие цвета фона и текста.
+     */
+    private static List<String> screen(String rendered) {
+        List<String> cells = new ArrayList<>();
+        int background = 49;
+        int foreground = 39;
+        int i = 0;
+        while (i < rendered.length()) {
+            char c = rendered.charAt(i);
+            if (c == '\u001B') {
+                int end = rendered.indexOf('m', i);
+                for (String parameter : rendered.substring(i + 2, end).split(";")) {
+                    int code = Integer.parseInt(parameter);
+                    if (code == 0) {
+                        background = 49;
+                        foreground = 39;
+                    } else if (code >= 40) {
+                        background = code;
+                    } else {
+                        foreground = code;
+                    }
+                }
+                i = end + 1;
+            } else {
+                cells.add(background + ":" + foreground + ":" + c);
+                i++;
+            }
+        }
+        return cells;
+    }
+}
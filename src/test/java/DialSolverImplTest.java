@@ -0,0 +1,39 @@
+import backend.academy.dto.Cell;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.solvers.impl.DialSolverImpl;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+public class DialSolverImplTest {
+
+    @Test
+    public void testFindingMinimumPathWithSurface() {
+        Cell[][] grid = {
+            {new Cell(0, 0, Cell.Type.WALL), new Cell(0, 1, Cell.Type.WALL), new Cell(0, 2, Cell.Type.WALL), new Cell(0, 3, Cell.Type.WALL), new Cell(0, 4, Cell.Type.WALL)},
+            {new Cell(1, 0, Cell.Type.WALL), new Cell(1, 1, Cell.Type.PASSAGE, Cell.Surface.GOOD_FLOOR), new Cell(1, 2, Cell.Type.PASSAGE, Cell.Surface.GOOD_FLOOR), new Cell(1, 3, Cell.Type.PASSAGE, Cell.Surface.GOOD_FLOOR), new Cell(1, 4, Cell.Type.WALL)},
+            {new Cell(2, 0, Cell.Type.PASSAGE), new Cell(2, 1, Cell.Type.PASSAGE), new Cell(2, 2, Cell.Type.WALL), new Cell(2, 3, Cell.Type.PASSAGE, Cell.Surface.GOOD_FLOOR), new Cell(2, 4, Cell.Type.PASSAGE, Cell.Surface.GOOD_FLOOR)},
+            {new Cell(3, 0, Cell.Type.WALL), new Cell(3, 1, Cell.Type.PASSAGE, Cell.Surface.SWAMP), new Cell(3, 2, Cell.Type.PASSAGE, Cell.Surface.SWAMP), new Cell(3, 3, Cell.Type.PASSAGE, Cell.Surface.SWAMP), new Cell(3, 4, Cell.Type.PASSAGE)},
+            {new Cell(4, 0, Cell.Type.WALL), new Cell(4, 1, Cell.Type.WALL), new Cell(4, 2, Cell.Type.WALL), new Cell(4, 3, Cell.Type.WALL), new Cell(4, 4, Cell.Type.WALL)}
+        };
+        Maze maze = new Maze(5, 5, grid);
+        Coordinate start = new Coordinate(2, 0);
+        Coordinate end = new Coordinate(3, 4);
+
+        DialSolverImpl solver = new DialSolverImpl();
+        List<Coordinate> path = solver.solve(maze, start, end);
+        List<Coordinate> expectedPath = Arrays.asList(
+            new Coordinate(2, 0),
+            new Coordinate(2, 1),
+            new Coordinate(1, 1),
+            new Coordinate(1, 2),
+            new Coordinate(1, 3),
+            new Coordinate(2, 3),
+            new Coordinate(2, 4),
+            new Coordinate(3, 4)
+        );
+        assertEquals(path, expectedPath, "Поиск минимального пути c учетом разных поверхностей.");
+    }
+}
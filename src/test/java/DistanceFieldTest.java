@@ -0,0 +1,60 @@
+import backend.academy.dto.Cell;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.solvers.impl.DijkstraSolverImpl;
+import backend.academy.solvers.impl.DistanceField;
+import backend.academy.solvers.impl.PathCost;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DistanceFieldTest {
+
+    @Test
+    public void testMatchesSolversInMazeWithLoops() {
+        Maze maze = new KruskalMazeGenerator().generate(41, 61, 4L);
+        Random random = new Random(5);
+        TestMazes.withLoops(maze, random, 300);
+        List<Coordinate> passages = TestMazes.passages(maze);
+        Coordinate source = passages.get(random.nextInt(passages.size()));
+
+        DistanceField hops = DistanceField.hops(maze, source);
+        DistanceField cost = DistanceField.cost(maze, source);
+
+        for (int i = 0; i < 200; i++) {
+            Coordinate target = passages.get(random.nextInt(passages.size()));
+            List<Coordinate> shortest = new BFSSolverImpl().solve(maze, source, target);
+            List<Coordinate> cheapest = new DijkstraSolverImpl().solve(maze, source, target);
+
+            assertEquals(shortest.size() - 1, hops.distanceTo(target));
+            assertEquals(hops.distanceTo(target), hops.pathTo(target).size() - 1);
+            assertEquals(PathCost.of(maze, cheapest), cost.distanceTo(target), "Стоимость как у алгоритма Дейкстры.");
+            assertEquals(cost.distanceTo(target), PathCost.of(maze, cost.pathTo(target)));
+            assertEquals(source, cost.pathTo(target).getFirst());
+            assertEquals(target, cost.pathTo(target).getLast());
+        }
+    }
+
+    @Test
+    public void testUnreachableCells() {
+        Cell[][] grid = {
+            {new Cell(0, 0, Cell.Type.PASSAGE), new Cell(0, 1, Cell.Type.WALL), new Cell(0, 2, Cell.Type.PASSAGE)}
+        };
+        Maze maze = new Maze(1, 3, grid);
+
+        for (DistanceField field : List.of(DistanceField.hops(maze, new Coordinate(0, 0)),
+            DistanceField.cost(maze, new Coordinate(0, 0)))) {
+            assertEquals(0, field.distanceTo(new Coordinate(0, 0)));
+            assertEquals(List.of(new Coordinate(0, 0)), field.pathTo(new Coordinate(0, 0)));
+            assertEquals(DistanceField.UNREACHABLE, field.distanceTo(new Coordinate(0, 1)), "Стена недостижима.");
+            assertFalse(field.reachable(new Coordinate(0, 2)));
+            assertTrue(field.pathTo(new Coordinate(0, 2)).isEmpty());
+        }
+        assertFalse(DistanceField.hops(maze, new Coordinate(0, 1)).reachable(new Coordinate(0, 0)),
+            "Из стены ничего не достижимо.");
+    }
+}
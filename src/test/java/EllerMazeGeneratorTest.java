@@ -0,0 +1,122 @@
+import backend.academy.constants.enums.GeneratorType;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.EllerMazeGenerator;
+import backend.academy.renders.impl.CompactMazeRendererImpl;
+import backend.academy.solvers.impl.TreeIndex;
+import backend.academy.storage.MappedMazeStorage;
+import backend.academy.storage.MazeFile;
+import backend.academy.storage.MazeFileWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EllerMazeGeneratorTest {
+
+    @Test
+    public void testPerfectMaze() {
+        for (long seed = 0; seed < 20; seed++) {
+            Maze maze = new EllerMazeGenerator().generate(30, 41, seed);
+
+            assertEquals(31, maze.height());
+            assertEquals(41, maze.width());
+            int passages = 0;
+            int links = 0;
+            for (int row = 0; row < maze.height(); row++) {
+                for (int col = 0; col < maze.width(); col++) {
+                    if (maze.isPassage(maze.index(row, col))) {
+                        passages++;
+                        if (maze.isPassage(maze.index(row + 1, col))) {
+                            links++;
+                        }
+                        if (maze.isPassage(maze.index(row, col + 1))) {
+                            links++;
+                        }
+                    }
+                }
+            }
+
+            // Лес без циклов с (n - 1) переходами — одно остовное дерево
+            assertEquals(passages - 1, links, "Лабиринт должен быть связным и без циклов: зерно " + seed);
+            assertTrue(TreeIndex.build(maze).tree());
+        }
+    }
+
+    @Test
+    public void testStreamMatchesGenerate() throws IOException {
+        Maze maze = new EllerMazeGenerator().generate(21, 31, 9L);
+        int[] rows = {0};
+
+        new EllerMazeGenerator().stream(21, 31, 9L, (row, codes) -> {
+            assertEquals(rows[0]++, row, "Строки выдаются по порядку.");
+            for (int col = 0; col < codes.length; col++) {
+                assertEquals(maze.code(maze.index(row, col)), codes[col]);
+            }
+        });
+
+        assertEquals(21, rows[0]);
+    }
+
+    @Test
+    public void testStreamToFile() throws IOException {
+        Path file = Files.createTempFile("maze", ".bin");
+        file.toFile().deleteOnExit();
+        Maze original = new EllerMazeGenerator().generate(21, 31, 3L);
+
+        try (MazeFileWriter writer = MazeFileWriter.open(file, 21, 31, 3L, GeneratorType.ELLER)) {
+            new EllerMazeGenerator().stream(21, 31, 3L, writer);
+        }
+
+        try (Maze mapped = MazeFile.open(file)) {
+            assertTrue(MazeFile.verify((MappedMazeStorage) mapped.storage()));
+            assertEquals(GeneratorType.ELLER, ((MappedMazeStorage) mapped.storage()).header().generatorType());
+            for (long index = 0; index < original.cellCount(); index++) {
+                assertEquals(original.code(index), mapped.code(index));
+            }
+        }
+    }
+
+    @Test
+    public void testUnfinishedFileIsRejected() throws IOException {
+        Path file = Files.createTempFile("maze", ".bin");
+        file.toFile().deleteOnExit();
+
+        MazeFileWriter writer = MazeFileWriter.open(file, 21, 31, 3L, GeneratorType.ELLER);
+        writer.accept(0, new byte[31]);
+
+        assertThrows(IOException.class, () -> writer.accept(2, new byte[31]), "Пропущена строка.");
+        assertThrows(IOException.class, writer::close, "Записаны не все строки.");
+    }
+
+    @Test
+    public void testRowRendererMatchesRenderer() throws IOException {
+        Maze maze = new EllerMazeGenerator().generate(21, 31, 5L);
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        CompactMazeRendererImpl renderer = new CompactMazeRendererImpl();
+
+        new EllerMazeGenerator().stream(21, 31, 5L, renderer.rowRenderer(31, streamed));
+
+        assertEquals(renderer.render(maze), streamed.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testTallMazeIsStreamedRowByRow() throws IOException {
+        long[] passages = {0};
+
+        new EllerMazeGenerator().stream(200_001, 11, 1L, (row, codes) -> {
+            for (byte code : codes) {
+                if (code != Maze.WALL) {
+                    passages[0]++;
+                }
+            }
+        });
+
+        // В идеальном лабиринте Эллера на каждую ячейку, кроме одной, приходится ровно один переход
+        long cells = 100_000L * 5;
+        assertEquals(2 * cells - 1, passages[0]);
+    }
+}
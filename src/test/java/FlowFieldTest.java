@@ -0,0 +1,67 @@
+import backend.academy.dto.Cell;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.solvers.impl.DijkstraSolverImpl;
+import backend.academy.solvers.impl.FlowField;
+import backend.academy.solvers.impl.PathCost;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlowFieldTest {
+
+    @Test
+    public void testEveryCellFollowsCheapestPathToGoal() {
+        Maze maze = new KruskalMazeGenerator().generate(41, 61, 6L);
+        Random random = new Random(2);
+        TestMazes.withLoops(maze, random, 300);
+        Coordinate goal = new Coordinate(19, 29);
+
+        FlowField field = FlowField.build(maze, goal);
+
+        assertNull(field.direction(goal), "В цели агент стоит на месте.");
+        assertEquals((int) maze.index(19, 29), field.next((int) maze.index(19, 29)));
+        for (int row = 0; row < maze.height(); row++) {
+            for (int col = 0; col < maze.width(); col++) {
+                Coordinate start = new Coordinate(row, col);
+                if (!maze.isPassage(maze.index(row, col))) {
+                    assertFalse(field.reachable(start));
+                    continue;
+                }
+                List<Coordinate> path = field.pathFrom(start);
+                List<Coordinate> cheapest = new DijkstraSolverImpl().solve(maze, start, goal);
+                if (cheapest.isEmpty()) {
+                    assertTrue(path.isEmpty(), "Отдельная клетка не связана с целью: " + start);
+                    continue;
+                }
+
+                assertEquals(goal, path.getLast());
+                assertEquals(PathCost.of(maze, cheapest), PathCost.of(maze, path),
+                    "Путь по направлениям стоит столько же, сколько путь Дейкстры: " + start);
+                if (path.size() > 1) {
+                    FlowField.Direction direction = field.direction(start);
+                    assertEquals(new Coordinate(row + direction.dRow(), col + direction.dCol()), path.get(1));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUnreachableGoal() {
+        Cell[][] grid = {
+            {new Cell(0, 0, Cell.Type.PASSAGE), new Cell(0, 1, Cell.Type.WALL), new Cell(0, 2, Cell.Type.PASSAGE)}
+        };
+        Maze maze = new Maze(1, 3, grid);
+
+        FlowField field = FlowField.build(maze, new Coordinate(0, 2));
+
+        assertFalse(field.reachable(new Coordinate(0, 0)));
+        assertEquals(FlowField.NONE, field.next(0));
+        assertTrue(field.pathFrom(new Coordinate(0, 0)).isEmpty());
+        assertEquals(List.of(new Coordinate(0, 2)), field.pathFrom(new Coordinate(0, 2)));
+        assertFalse(FlowField.build(maze, new Coordinate(0, 1)).reachable(new Coordinate(0, 0)), "Цель в стене.");
+    }
+}
@@ -0,0 +1,62 @@
+import backend.academy.dto.Cell;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.dto.SearchResult;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.solvers.impl.DijkstraSolverImpl;
+import backend.academy.solvers.impl.JunctionGraph;
+import backend.academy.solvers.impl.JunctionGraphSolverImpl;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+public class JunctionGraphSolverImplTest {
+
+    @Test
+    public void testCorridorIsContracted() {
+        Maze maze = new Maze(1, 5);
+        for (int col = 0; col < 5; col++) {
+            maze.setPassage(maze.index(0, col), Cell.Surface.NORMAL);
+        }
+
+        JunctionGraph graph = JunctionGraph.build(maze);
+
+        assertEquals(2, graph.nodeCount(), "Вершины — только два тупика.");
+        assertEquals(1, graph.edgeCount());
+        assertEquals(3, graph.corridorCellCount());
+    }
+
+    @Test
+    public void testRingWithoutJunctionsGetsSelfLoop() {
+        Maze maze = new Maze(3, 3);
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                if (row != 1 || col != 1) {
+                    maze.setPassage(maze.index(row, col), Cell.Surface.NORMAL);
+                }
+            }
+        }
+
+        JunctionGraph graph = JunctionGraph.build(maze);
+        List<Coordinate> path = new JunctionGraphSolverImpl(graph).solve(maze, new Coordinate(0, 1), new Coordinate(2, 1));
+
+        assertEquals(1, graph.nodeCount());
+        assertEquals(1, graph.edgeCount());
+        assertEquals(5, path.size(), "Путь по кольцу между противоположными клетками.");
+    }
+
+    @Test
+    public void testExpandsFewerNodesThanDijkstra() {
+        Maze maze = new KruskalMazeGenerator().generate(201, 201, 1L);
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate end = new Coordinate(199, 199);
+
+        SearchResult dijkstra = new DijkstraSolverImpl().search(maze, start, end);
+        SearchResult graph = new JunctionGraphSolverImpl().search(maze, start, end);
+
+        assertEquals(dijkstra.path(), graph.path(), "В идеальном лабиринте путь единственный.");
+        assertTrue(graph.expandedNodes() * 4 < dijkstra.expandedNodes(),
+            "Граф развилок раскрыл " + graph.expandedNodes() + " вершин, Дейкстра — " + dijkstra.expandedNodes());
+    }
+}
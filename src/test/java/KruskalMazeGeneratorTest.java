@@ -0,0 +1,65 @@
+import backend.academy.dto.Cell;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KruskalMazeGeneratorTest {
+
+    @Test
+    public void testOddSizes() {
+        Maze maze = new KruskalMazeGenerator().generate(4, 6);
+
+        assertEquals(5, maze.height());
+        assertEquals(7, maze.width());
+    }
+
+    @Test
+    public void testPerfectMaze() {
+        Maze maze = new KruskalMazeGenerator().generate(31, 41);
+
+        int passages = 0;
+        int links = 0;
+        for (int row = 0; row < maze.height(); row++) {
+            for (int col = 0; col < maze.width(); col++) {
+                if (maze.getCell(row, col).type() == Cell.Type.PASSAGE) {
+                    passages++;
+                    if (row + 1 < maze.height() && maze.getCell(row + 1, col).type() == Cell.Type.PASSAGE) {
+                        links++;
+                    }
+                    if (col + 1 < maze.width() && maze.getCell(row, col + 1).type() == Cell.Type.PASSAGE) {
+                        links++;
+                    }
+                }
+            }
+        }
+
+        // Остовное дерево: все клетки-проходы связаны и между ними ровно (n - 1) переходов
+        assertEquals(passages - 1, links, "Лабиринт Краскала должен быть остовным деревом.");
+    }
+
+    @Test
+    public void testSizesWithoutPassages() {
+        int[][] sizes = {{1, 5}, {5, 1}, {1, 1}};
+        for (int[] size : sizes) {
+            Maze maze = new KruskalMazeGenerator().generate(size[0], size[1], 1L);
+
+            assertEquals(size[0], maze.height());
+            assertEquals(size[1], maze.width());
+            for (long index = 0; index < maze.cellCount(); index++) {
+                assertFalse(maze.isPassage(index), "В лабиринте без клеток-проходов нет проходов.");
+            }
+        }
+    }
+
+    @Test
+    public void testOversizedMazeRejectedBeforeAllocation() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> new KruskalMazeGenerator().generate(70001, 70001, 1L, size -> {
+                throw new AssertionError("Хранилище не должно выделяться.");
+            }));
+
+        assertTrue(e.getMessage().contains("4900140001"));
+    }
+}
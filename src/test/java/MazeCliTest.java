@@ -0,0 +1,118 @@
+import backend.academy.cli.MazeCli;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.storage.MazeFile;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeCliTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    public void testGenerateReportsEveryRun() {
+        int code = run("generate", "--height", "21", "--width", "31", "--repeat", "3", "--seed", "7");
+
+        assertEquals(MazeCli.SUCCESS, code);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length, "Заголовок и строка на каждый повтор.");
+        assertEquals("command\tgenerator\theight\twidth\tseed\trun\tnanos", lines[0]);
+        assertTrue(lines[3].startsWith("generate\tPRIM\t21\t31\t7\t3\t"));
+    }
+
+    @Test
+    public void testSolveStoredMazeAsJson() throws IOException {
+        Path file = Files.createTempFile("maze", ".bin");
+        file.toFile().deleteOnExit();
+        assertEquals(MazeCli.SUCCESS,
+            run("generate", "--generator", "KRUSKAL", "--height", "21", "--width", "21", "--output", file.toString()));
+        out.reset();
+
+        int code = run("solve", "--input", file.toString(), "--solver", "DIAL", "--start", "1,1", "--end", "19,19",
+            "--format", "JSON");
+
+        assertEquals(MazeCli.SUCCESS, code);
+        int expected;
+        try (Maze maze = MazeFile.open(file)) {
+            expected = new BFSSolverImpl().solve(maze, new Coordinate(1, 1), new Coordinate(19, 19)).size();
+        }
+        String line = out.toString(StandardCharsets.UTF_8).trim();
+        assertTrue(line.startsWith("{\"command\":\"solve\",\"solver\":\"DIAL\",\"height\":21,\"width\":21,"), line);
+        assertTrue(line.contains(",\"path\":" + expected + ","), "В идеальном лабиринте путь единственный.");
+    }
+
+    @Test
+    public void testRenderKeepsReportOutOfPicture() {
+        int code = run("render", "--height", "11", "--width", "11", "--solver", "BFS");
+
+        assertEquals(MazeCli.SUCCESS, code);
+        String picture = out.toString(StandardCharsets.UTF_8);
+        assertEquals(12, picture.split("\n").length, "Строка номеров столбцов и по строке на строку лабиринта.");
+        assertTrue(picture.contains(" S ") && picture.contains(" E "));
+        assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("command\trenderer"));
+    }
+
+    @Test
+    public void testBenchSummarizesEveryOperation() {
+        int code = run("bench", "--height", "31", "--width", "31", "--repeat", "2", "--warmup", "0",
+            "--queries", "5", "--solvers", "BFS,TREE_INDEX", "--seed", "1");
+
+        assertEquals(MazeCli.SUCCESS, code);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[1].startsWith("bench\tgenerate\tPRIM\t31\t31\t1\t2\t"));
+        assertTrue(lines[2].startsWith("bench\tsolve\tBFS\t31\t31\t1\t10\t"));
+        assertTrue(lines[3].startsWith("bench\tsolve\tTREE_INDEX\t31\t31\t1\t10\t"));
+    }
+
+    @Test
+    public void testReplayRunsEveryQuery() throws IOException {
+        Path script = Files.createTempFile("maze", ".txt");
+        script.toFile().deleteOnExit();
+        Files.writeString(script, "21 21 2 1\n1 1 19 19\n19 19 1 1\n1 19 19 1\n");
+
+        int code = run("replay", "--script", script.toString());
+
+        assertEquals(MazeCli.SUCCESS, code);
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertEquals(3, output.split("Раскрыто клеток").length - 1, "Каждая пара координат — отдельный запрос.");
+        assertFalse(output.contains("Введите"), "Вопросы при проигрывании не выводятся.");
+
+        Files.writeString(script, "21 21 2 1\n1 1 19\n");
+        assertEquals(MazeCli.FAILURE, run("replay", "--script", script.toString()), "Файл оборван посреди запроса.");
+    }
+
+    @Test
+    public void testInvalidArgumentsPrintUsage() {
+        assertEquals(MazeCli.USAGE, run());
+        assertEquals(MazeCli.USAGE, run("solve", "--height", "2"));
+        assertEquals(MazeCli.USAGE, run("solve", "--start", "100,100"), "Клетка вне лабиринта.");
+        assertEquals(MazeCli.USAGE, run("solve", "--unknown"));
+        assertEquals(MazeCli.FAILURE, run("solve", "--input", "/nonexistent/maze.bin"));
+        assertTrue(out.toString(StandardCharsets.UTF_8).isEmpty());
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("maze"));
+    }
+
+    @Test
+    public void testOversizedMazeIsFailureWithMessage() {
+        int code = run("generate", "--height", "70001", "--width", "70001");
+
+        assertEquals(MazeCli.FAILURE, code, "Лабиринт больше массива кучи — ошибка выполнения, а не исключение.");
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("4900140001"));
+    }
+
+    private int run(String... args) {
+        return new MazeCli(new PrintStream(out, true, StandardCharsets.UTF_8),
+            new PrintStream(err, true, StandardCharsets.UTF_8)).run(args);
+    }
+}
@@ -0,0 +1,70 @@
+import backend.academy.constants.enums.GeneratorType;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.renders.impl.MazeRendererImpl;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.storage.MappedMazeStorage;
+import backend.academy.storage.MazeFile;
+import backend.academy.storage.MazeFileHeader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeFileTest {
+
+    @Test
+    public void testWriteAndMapBack() throws IOException {
+        Path file = Files.createTempFile("maze", ".bin");
+        file.toFile().deleteOnExit();
+        Maze original = new KruskalMazeGenerator().generate(21, 31);
+
+        MazeFile.write(file, original, 42L, GeneratorType.KRUSKAL);
+
+        assertEquals(MazeFileHeader.SIZE + 21L * 31, Files.size(file));
+        try (Maze mapped = MazeFile.open(file)) {
+            MazeFileHeader header = ((MappedMazeStorage) mapped.storage()).header();
+            assertEquals(21, header.height());
+            assertEquals(31, header.width());
+            assertEquals(42L, header.seed());
+            assertEquals(GeneratorType.KRUSKAL, header.generatorType());
+            assertTrue(MazeFile.verify((MappedMazeStorage) mapped.storage()));
+
+            MazeRendererImpl renderer = new MazeRendererImpl();
+            assertEquals(renderer.render(original), renderer.render(mapped));
+
+            Coordinate start = new Coordinate(1, 1);
+            Coordinate end = new Coordinate(19, 29);
+            assertEquals(new BFSSolverImpl().solve(original, start, end), new BFSSolverImpl().solve(mapped, start, end));
+        }
+    }
+
+    @Test
+    public void testMappedMazeIsReadOnly() throws IOException {
+        Path file = Files.createTempFile("maze", ".bin");
+        file.toFile().deleteOnExit();
+        MazeFile.write(file, new KruskalMazeGenerator().generate(5, 5), 0L, GeneratorType.KRUSKAL);
+
+        try (Maze mapped = MazeFile.open(file)) {
+            assertThrows(UnsupportedOperationException.class, () -> mapped.setWall(0));
+        }
+    }
+
+    @Test
+    public void testCorruptedFile() throws IOException {
+        Path file = Files.createTempFile("maze", ".bin");
+        file.toFile().deleteOnExit();
+        MazeFile.write(file, new KruskalMazeGenerator().generate(5, 5), 0L, GeneratorType.PRIM);
+
+        // Обрезанный файл не совпадает по размеру с заголовком
+        Files.write(file, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+        assertThrows(IOException.class, () -> MazeFile.open(file));
+
+        Files.write(file, new byte[MazeFileHeader.SIZE]);
+        assertThrows(IOException.class, () -> MazeFile.open(file));
+    }
+}
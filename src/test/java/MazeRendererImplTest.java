@@ -1,11 +1,18 @@
 import backend.academy.dto.Cell;
 import backend.academy.dto.Maze;
 import backend.academy.renders.Renderer;
+import backend.academy.renders.Viewport;
 import backend.academy.renders.impl.MazeRendererImpl;
+import backend.academy.dto.Coordinate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 public class MazeRendererImplTest {
 
     private Maze maze;
@@ -41,5 +48,37 @@ public class MazeRendererImplTest {
 
         assertEquals(actualMaze, renderedMaze, "Проверка на корректное отображение лабиринтов в консоли.");
     }
-}
 
+    @Test
+    public void testStreamingRenderMatchesString() throws IOException {
+        List<Coordinate> path = List.of(new Coordinate(2, 0), new Coordinate(2, 1), new Coordinate(1, 1));
+        StringBuilder appended = new StringBuilder();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        renderer.render(maze, path, appended);
+        renderer.render(maze, path, bytes);
+
+        assertEquals(renderer.render(maze, path), appended.toString(), "Потоковый рендеринг совпадает со строковым.");
+        assertEquals(appended.toString(), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testViewport() throws IOException {
+        StringBuilder out = new StringBuilder();
+
+        renderer.render(maze, new Viewport(1, 1, 2, 3), out);
+
+        String expected = """
+                 1  2  3\s
+             1 \u001B[46m   \u001B[0m\u001B[46m   \u001B[0m\u001B[46m   \u001B[0m
+             2 \u001B[47m   \u001B[0m\u001B[40m   \u001B[0m\u001B[46m   \u001B[0m
+            """;
+        assertEquals(expected, out.toString(), "Окно сохраняет номера строк и столбцов полного лабиринта.");
+    }
+
+    @Test
+    public void testViewportAroundIsClampedToMaze() {
+        assertEquals(new Viewport(0, 2, 3, 3), Viewport.around(maze, new Coordinate(0, 4), 3, 3));
+        assertEquals(new Viewport(0, 0, 5, 5), Viewport.around(maze, new Coordinate(2, 2), 10, 10));
+    }
+}
@@ -0,0 +1,48 @@
+import backend.academy.dto.Cell;
+import backend.academy.dto.Maze;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeTest {
+
+    @Test
+    public void testNewMazeIsAllWalls() {
+        Maze maze = new Maze(3, 4);
+
+        assertEquals(12, maze.cellCount());
+        for (int i = 0; i < maze.cellCount(); i++) {
+            assertFalse(maze.isPassage(i));
+        }
+    }
+
+    @Test
+    public void testCompactCellsMatchGrid() {
+        Cell[][] grid = {
+            {new Cell(0, 0, Cell.Type.WALL), new Cell(0, 1, Cell.Type.PASSAGE, Cell.Surface.SWAMP)},
+            {new Cell(1, 0, Cell.Type.PASSAGE, Cell.Surface.COIN), new Cell(1, 1, Cell.Type.PASSAGE)}
+        };
+        Maze maze = new Maze(2, 2, grid);
+
+        for (int row = 0; row < 2; row++) {
+            for (int col = 0; col < 2; col++) {
+                assertEquals(grid[row][col], maze.getCell(row, col), "Клетка должна восстанавливаться по требованию.");
+            }
+        }
+        assertEquals(Cell.Surface.surfaceCost(Cell.Surface.SWAMP), maze.cost(maze.index(0, 1)));
+        assertEquals(Cell.Surface.surfaceCost(Cell.Surface.COIN), maze.cost(maze.index(1, 0)));
+    }
+
+    @Test
+    public void testSetPassageAndWall() {
+        Maze maze = new Maze(3, 3);
+        long index = maze.index(1, 1);
+
+        maze.setPassage(index, Cell.Surface.SAND);
+        assertTrue(maze.isPassage(index));
+        assertEquals(Cell.Surface.SAND, maze.surface(index));
+
+        maze.setWall(index);
+        assertFalse(maze.isPassage(index));
+    }
+}
@@ -0,0 +1,62 @@
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.generators.impl.PrimMazeGenerator;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.solvers.impl.DijkstraSolverImpl;
+import backend.academy.storage.OffHeapMazeStorage;
+import java.lang.foreign.Arena;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapMazeStorageTest {
+
+    @Test
+    public void testFreshStorageIsAllWalls() {
+        try (OffHeapMazeStorage storage = new OffHeapMazeStorage(64)) {
+            assertEquals(64, storage.size());
+            assertTrue(storage.isNative());
+            for (long i = 0; i < storage.size(); i++) {
+                assertEquals(Maze.WALL, storage.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testGenerateAndSolveOffHeap() {
+        try (Maze maze = new KruskalMazeGenerator().generate(41, 41, OffHeapMazeStorage::new)) {
+            assertTrue(maze.storage().isNative());
+
+            Coordinate start = new Coordinate(1, 1);
+            Coordinate end = new Coordinate(39, 39);
+            List<Coordinate> bfsPath = new BFSSolverImpl().solve(maze, start, end);
+            List<Coordinate> dijkstraPath = new DijkstraSolverImpl().solve(maze, start, end);
+
+            // В идеальном лабиринте путь между двумя клетками единственный
+            assertFalse(bfsPath.isEmpty());
+            assertEquals(bfsPath, dijkstraPath);
+        }
+    }
+
+    @Test
+    public void testCallerOwnedArena() {
+        try (Arena arena = Arena.ofConfined()) {
+            Maze maze = new PrimMazeGenerator().generate(11, 11, size -> new OffHeapMazeStorage(arena, size));
+            maze.close();
+
+            // Арена вызывающего кода не закрывается вместе с лабиринтом
+            assertEquals(121, maze.cellCount());
+            assertDoesNotThrow(() -> maze.code(0));
+        }
+    }
+
+    @Test
+    public void testClosedStorageIsNotAccessible() {
+        Maze maze = new PrimMazeGenerator().generate(11, 11, OffHeapMazeStorage::new);
+        maze.close();
+
+        assertThrows(IllegalStateException.class, () -> maze.code(0));
+    }
+}
@@ -0,0 +1,82 @@
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.renders.Overlay;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+public class OverlayTest {
+
+    @Test
+    public void testAddOutOfOrderAndDuplicates() {
+        Overlay overlay = new Overlay(Overlay.Kind.VISITED);
+
+        overlay.add(129);
+        overlay.add(0);
+        overlay.add(64);
+        overlay.add(0);
+        overlay.add(63);
+
+        assertTrue(overlay.contains(0));
+        assertTrue(overlay.contains(63));
+        assertTrue(overlay.contains(64));
+        assertTrue(overlay.contains(129));
+        assertFalse(overlay.contains(1));
+        assertFalse(overlay.contains(65));
+        assertFalse(overlay.contains(128));
+        assertEquals(63, overlay.next(1, 130));
+        assertEquals(Overlay.NONE, overlay.start());
+        assertEquals(Overlay.NONE, overlay.end());
+    }
+
+    @Test
+    public void testIndicesBeyondIntegerRange() {
+        // Слой не зависит от размера лабиринта: индексы больше 2^31 хранятся как есть
+        Overlay overlay = new Overlay(Overlay.Kind.PATH);
+        long far = 5_000_000_000L;
+
+        overlay.start(far);
+        overlay.end(far + 1);
+
+        assertTrue(overlay.contains(far + 1));
+        assertEquals(far, overlay.start());
+        assertEquals(far + 1, overlay.next(far + 1, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testPathOverlay() {
+        Maze maze = new Maze(3, 4);
+        List<Coordinate> path = List.of(new Coordinate(0, 0), new Coordinate(0, 1), new Coordinate(1, 1));
+
+        Overlay overlay = Overlay.ofPath(maze, path);
+
+        assertEquals(Overlay.Kind.PATH, overlay.kind());
+        assertEquals(0, overlay.start());
+        assertEquals(5, overlay.end());
+        assertTrue(overlay.contains(1));
+        assertFalse(overlay.contains(4));
+    }
+
+    @Test
+    public void testEmptyPath() {
+        Overlay overlay = Overlay.ofPath(new Maze(2, 2), List.of());
+
+        assertEquals(Overlay.NONE, overlay.start());
+        assertFalse(overlay.contains(0));
+    }
+
+    @Test
+    public void testNextFindsFirstCellOfSegment() {
+        Overlay overlay = new Overlay(Overlay.Kind.PATH);
+        overlay.add(5);
+        overlay.add(200);
+        overlay.add(399);
+
+        assertEquals(5, overlay.next(0, 400));
+        assertEquals(200, overlay.next(6, 400));
+        assertEquals(Overlay.NONE, overlay.next(6, 200));
+        assertEquals(399, overlay.next(201, 400));
+        assertEquals(Overlay.NONE, overlay.next(400, 400));
+    }
+}
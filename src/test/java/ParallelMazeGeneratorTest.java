@@ -0,0 +1,75 @@
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.ParallelMazeGenerator;
+import backend.academy.solvers.impl.TreeIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelMazeGeneratorTest {
+
+    @Test
+    public void testPerfectMazeAcrossTiles() {
+        for (int tileSize : new int[] {1, 3, 7, 256}) {
+            Maze maze = new ParallelMazeGenerator(tileSize, ForkJoinPool.commonPool()).generate(41, 62, 5L);
+
+            assertEquals(41, maze.height());
+            assertEquals(63, maze.width());
+            int passages = 0;
+            int links = 0;
+            for (int row = 0; row < maze.height(); row++) {
+                for (int col = 0; col < maze.width(); col++) {
+                    if (maze.isPassage(maze.index(row, col))) {
+                        passages++;
+                        if (maze.isPassage(maze.index(row + 1, col))) {
+                            links++;
+                        }
+                        if (maze.isPassage(maze.index(row, col + 1))) {
+                            links++;
+                        }
+                    }
+                }
+            }
+
+            // Лес без циклов с (n - 1) переходами — одно остовное дерево
+            assertEquals(passages - 1, links, "Плитки должны сшиваться в одно дерево: плитка " + tileSize);
+            assertTrue(TreeIndex.build(maze).tree());
+        }
+    }
+
+    @Test
+    public void testSameMazeOnAnyThreadCount() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(8);
+        try {
+            Maze first = new ParallelMazeGenerator(16, single).generate(301, 401, 42L);
+            Maze second = new ParallelMazeGenerator(16, many).generate(301, 401, 42L);
+            Maze other = new ParallelMazeGenerator(16, many).generate(301, 401, 43L);
+
+            boolean different = false;
+            for (int i = 0; i < first.arrayCellCount(); i++) {
+                assertEquals(first.code(i), second.code(i), "Зерно определяет лабиринт при любом числе потоков.");
+                different |= first.code(i) != other.code(i);
+            }
+            assertTrue(different);
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    public void testSizesWithoutTiles() {
+        int[][] sizes = {{1, 5}, {5, 1}, {1, 1}};
+        for (int[] size : sizes) {
+            Maze maze = new ParallelMazeGenerator(16, ForkJoinPool.commonPool()).generate(size[0], size[1], 1L);
+
+            assertEquals(size[0], maze.height());
+            assertEquals(size[1], maze.width());
+            for (long index = 0; index < maze.cellCount(); index++) {
+                assertFalse(maze.isPassage(index), "В лабиринте без плиток нет проходов.");
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+import backend.academy.dto.Maze;
+import backend.academy.generators.Generator;
+import backend.academy.generators.RandomStreams;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.generators.impl.PrimMazeGenerator;
+import backend.academy.storage.OffHeapMazeStorage;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimMazeGeneratorTest {
+
+    @Test
+    public void testSameSeedGivesSameMaze() {
+        for (Generator generator : List.of(new PrimMazeGenerator(), new KruskalMazeGenerator())) {
+            Maze first = generator.generate(41, 61, 42L);
+            Maze second = generator.generate(41, 61, 42L, OffHeapMazeStorage::new);
+            Maze other = generator.generate(41, 61, 43L);
+
+            assertArrayEquals(codes(first), codes(second), "Зерно определяет лабиринт независимо от хранилища.");
+            assertFalse(Arrays.equals(codes(first), codes(other)));
+            second.close();
+        }
+    }
+
+    @Test
+    public void testReusedFrontierGivesSameMaze() {
+        // Последний лабиринт больше порога сохранения: его массивы выделяются отдельно и не влияют на следующий
+        PrimMazeGenerator reused = PrimMazeGenerator.perWorker();
+        int[][] sizes = {{41, 61}, {11, 11}, {41, 61}, {61, 81}, {1101, 1001}, {31, 31}};
+        for (int i = 0; i < sizes.length; i++) {
+            Maze expected = new PrimMazeGenerator().generate(sizes[i][0], sizes[i][1], i);
+
+            assertArrayEquals(codes(expected), codes(reused.generate(sizes[i][0], sizes[i][1], i)),
+                "Рабочие массивы предыдущего лабиринта не влияют на следующий.");
+        }
+    }
+
+    @Test
+    public void testChildStreamsDependOnlyOnNumber() {
+        long[] forward = new long[8];
+        for (int stream = 0; stream < 8; stream++) {
+            forward[stream] = RandomStreams.of(7L, stream).nextLong();
+        }
+        Set<Long> distinct = new HashSet<>();
+        for (int stream = 7; stream >= 0; stream--) {
+            long value = RandomStreams.of(7L, stream).nextLong();
+            assertEquals(forward[stream], value, "Поток не зависит от порядка создания.");
+            distinct.add(value);
+        }
+        assertEquals(8, distinct.size());
+        assertNotEquals(RandomStreams.of(7L).nextLong(), forward[0]);
+    }
+
+    private static byte[] codes(Maze maze) {
+        byte[] codes = new byte[maze.arrayCellCount()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = maze.code(i);
+        }
+        return codes;
+    }
+}
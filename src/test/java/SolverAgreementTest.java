@@ -0,0 +1,83 @@
+import backend.academy.Algorithms;
+import backend.academy.constants.enums.GeneratorType;
+import backend.academy.constants.enums.SolverType;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.solvers.Solver;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.solvers.impl.DijkstraSolverImpl;
+import backend.academy.solvers.impl.PathCost;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+public class SolverAgreementTest {
+
+    private static final GeneratorType[] GENERATORS = {GeneratorType.KRUSKAL, GeneratorType.PRIM};
+
+    private static final long[] SEEDS = {1L, 2L, 3L};
+
+    private static final int QUERIES = 100;
+
+    @ParameterizedTest
+    @EnumSource(value = SolverType.class, names = {"DIAL", "ASTAR", "BIDIRECTIONAL_DIJKSTRA", "JUNCTION_GRAPH",
+        "TREE_INDEX"})
+    public void testSameCostAsDijkstra(SolverType type) {
+        for (GeneratorType generator : GENERATORS) {
+            for (long seed : SEEDS) {
+                Maze maze = loopedMaze(generator, seed);
+                List<Coordinate> passages = TestMazes.passages(maze);
+                Random random = new Random(seed);
+                Solver solver = Algorithms.solver(type);
+                for (int i = 0; i < QUERIES; i++) {
+                    Coordinate start = passages.get(random.nextInt(passages.size()));
+                    Coordinate end = passages.get(random.nextInt(passages.size()));
+
+                    List<Coordinate> expected = new DijkstraSolverImpl().solve(maze, start, end);
+                    List<Coordinate> actual = solver.solve(maze, start, end);
+
+                    assertEquals(PathCost.of(maze, expected), PathCost.of(maze, actual),
+                        type + ": стоимость должна совпадать с алгоритмом Дейкстры, " + generator + ", зерно " + seed);
+                    if (!expected.isEmpty()) {
+                        TestMazes.assertValidPath(maze, start, end, actual);
+                    }
+                }
+                // Первый и последний проходы идеального лабиринта связаны всегда, и добавленные циклы этого не меняют
+                assertFalse(solver.solve(maze, passages.getFirst(), passages.getLast()).isEmpty(), type.name());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SolverType.class, names = {"BIDIRECTIONAL_BFS"})
+    public void testSameLengthAsBfs(SolverType type) {
+        for (GeneratorType generator : GENERATORS) {
+            for (long seed : SEEDS) {
+                Maze maze = loopedMaze(generator, seed);
+                List<Coordinate> passages = TestMazes.passages(maze);
+                Random random = new Random(seed);
+                Solver solver = Algorithms.solver(type);
+                for (int i = 0; i < QUERIES; i++) {
+                    Coordinate start = passages.get(random.nextInt(passages.size()));
+                    Coordinate end = passages.get(random.nextInt(passages.size()));
+
+                    List<Coordinate> expected = new BFSSolverImpl().solve(maze, start, end);
+                    List<Coordinate> actual = solver.solve(maze, start, end);
+
+                    assertEquals(expected.size(), actual.size(),
+                        type + ": длина пути должна совпадать с BFS, " + generator + ", зерно " + seed);
+                    if (!expected.isEmpty()) {
+                        TestMazes.assertValidPath(maze, start, end, actual);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Maze loopedMaze(GeneratorType generator, long seed) {
+        Maze maze = Algorithms.generator(generator).generate(41, 61, seed);
+        return TestMazes.withLoops(maze, new Random(seed), 300);
+    }
+}
@@ -0,0 +1,53 @@
+import backend.academy.Algorithms;
+import backend.academy.constants.enums.SolverType;
+import backend.academy.dto.Cell;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.solvers.Solver;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+public class SolverEndpointsTest {
+
+    private static final Coordinate LEFT = new Coordinate(0, 0);
+    private static final Coordinate RIGHT = new Coordinate(0, 2);
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    public void testWallEndpointHasNoPath(SolverType type) {
+        Solver solver = Algorithms.solver(type);
+
+        assertTrue(solver.solve(row(Cell.Type.WALL, Cell.Type.PASSAGE, Cell.Type.PASSAGE), LEFT, RIGHT).isEmpty(),
+            type + ": путь не может начинаться в стене.");
+        assertTrue(solver.solve(row(Cell.Type.PASSAGE, Cell.Type.PASSAGE, Cell.Type.WALL), LEFT, RIGHT).isEmpty(),
+            type + ": путь не может заканчиваться в стене.");
+        assertTrue(solver.solve(row(Cell.Type.WALL, Cell.Type.PASSAGE, Cell.Type.PASSAGE), LEFT, LEFT).isEmpty(),
+            type + ": стена не является путём к самой себе.");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    public void testNoPathThroughWall(SolverType type) {
+        Maze maze = row(Cell.Type.PASSAGE, Cell.Type.WALL, Cell.Type.PASSAGE);
+
+        assertTrue(Algorithms.solver(type).solve(maze, LEFT, RIGHT).isEmpty(),
+            type + ": путь через стену не существует.");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverType.class)
+    public void testPassageEndpointsHavePath(SolverType type) {
+        Maze maze = row(Cell.Type.PASSAGE, Cell.Type.PASSAGE, Cell.Type.PASSAGE);
+
+        assertEquals(List.of(LEFT, new Coordinate(0, 1), RIGHT), Algorithms.solver(type).solve(maze, LEFT, RIGHT));
+        assertEquals(List.of(LEFT), Algorithms.solver(type).solve(maze, LEFT, LEFT));
+    }
+
+    private static Maze row(Cell.Type first, Cell.Type second, Cell.Type third) {
+        Cell[][] grid = {{new Cell(0, 0, first), new Cell(0, 1, second), new Cell(0, 2, third)}};
+        return new Maze(1, 3, grid);
+    }
+}
@@ -0,0 +1,58 @@
+import backend.academy.dto.Cell;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+/**
+ * Общие заготовки лабиринтов для тестов решателей.
+ */
+final class TestMazes {
+
+    private TestMazes() {
+    }
+
+    /**
+     * Добавляет во внутреннюю часть лабиринта {@code count} проходов со случайными поверхностями.
+     * Идеальный лабиринт получает циклы, и между клетками появляется несколько путей разной стоимости.
+     */
+    static Maze withLoops(Maze maze, Random random, int count) {
+        Cell.Surface[] surfaces = Cell.Surface.values();
+        for (int i = 0; i < count; i++) {
+            maze.setPassage(maze.index(1 + random.nextInt(maze.height() - 2), 1 + random.nextInt(maze.width() - 2)),
+                surfaces[random.nextInt(surfaces.length)]);
+        }
+        return maze;
+    }
+
+    /**
+     * Возвращает все клетки-проходы лабиринта в порядке строк.
+     */
+    static List<Coordinate> passages(Maze maze) {
+        List<Coordinate> passages = new ArrayList<>();
+        for (int row = 0; row < maze.height(); row++) {
+            for (int col = 0; col < maze.width(); col++) {
+                if (maze.isPassage(maze.index(row, col))) {
+                    passages.add(new Coordinate(row, col));
+                }
+            }
+        }
+        return passages;
+    }
+
+    /**
+     * Проверяет, что путь идёт от {@code start} до {@code end} по смежным клеткам-проходам.
+     */
+    static void assertValidPath(Maze maze, Coordinate start, Coordinate end, List<Coordinate> path) {
+        assertEquals(start, path.getFirst());
+        assertEquals(end, path.getLast());
+        for (int i = 1; i < path.size(); i++) {
+            Coordinate previous = path.get(i - 1);
+            Coordinate current = path.get(i);
+            assertEquals(1, Math.abs(previous.row() - current.row()) + Math.abs(previous.col() - current.col()),
+                "Соседние клетки пути должны быть смежными.");
+            assertTrue(maze.isPassage(maze.index(current.row(), current.col())));
+        }
+    }
+}
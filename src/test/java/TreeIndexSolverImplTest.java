@@ -0,0 +1,92 @@
+import backend.academy.dto.Cell;
+import backend.academy.dto.Coordinate;
+import backend.academy.dto.Maze;
+import backend.academy.generators.impl.KruskalMazeGenerator;
+import backend.academy.generators.impl.PrimMazeGenerator;
+import backend.academy.solvers.impl.BFSSolverImpl;
+import backend.academy.solvers.impl.DialSolverImpl;
+import backend.academy.solvers.impl.PathCost;
+import backend.academy.solvers.impl.TreeIndex;
+import backend.academy.solvers.impl.TreeIndexSolverImpl;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+public class TreeIndexSolverImplTest {
+
+    @Test
+    public void testSamePathAsBfsInPerfectMaze() {
+        Maze[] mazes = {new KruskalMazeGenerator().generate(41, 61, 7L), new PrimMazeGenerator().generate(41, 61, 7L)};
+        for (Maze maze : mazes) {
+            TreeIndex index = TreeIndex.build(maze);
+            assertTrue(index.tree(), "Генератор строит остовное дерево.");
+
+            List<Coordinate> passages = TestMazes.passages(maze);
+            Random random = new Random(7);
+            TreeIndexSolverImpl solver = new TreeIndexSolverImpl(index);
+            for (int i = 0; i < 300; i++) {
+                Coordinate start = passages.get(random.nextInt(passages.size()));
+                Coordinate end = passages.get(random.nextInt(passages.size()));
+
+                List<Coordinate> expected = new BFSSolverImpl().solve(maze, start, end);
+
+                assertEquals(expected, solver.solve(maze, start, end), "В идеальном лабиринте путь единственный.");
+                assertEquals(expected, index.path(start, end));
+                assertEquals(expected.size() - 1, index.length(start, end));
+                assertEquals(PathCost.of(maze, expected), index.cost(start, end));
+                assertTrue(index.connected(start, end));
+            }
+        }
+    }
+
+    @Test
+    public void testSameCell() {
+        Maze maze = new KruskalMazeGenerator().generate(21, 21);
+        Coordinate cell = new Coordinate(1, 1);
+
+        TreeIndex index = TreeIndex.build(maze);
+
+        assertEquals(List.of(cell), index.path(cell, cell));
+        assertEquals(0, index.length(cell, cell));
+        assertEquals(0, index.cost(cell, cell));
+    }
+
+    @Test
+    public void testNoPath() {
+        Cell[][] grid = {
+            {new Cell(0, 0, Cell.Type.PASSAGE), new Cell(0, 1, Cell.Type.WALL), new Cell(0, 2, Cell.Type.PASSAGE)}
+        };
+        Maze maze = new Maze(1, 3, grid);
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate end = new Coordinate(0, 2);
+
+        TreeIndex index = TreeIndex.build(maze);
+
+        assertTrue(index.tree(), "Лес из отдельных клеток — тоже дерево в каждой компоненте.");
+        assertFalse(index.connected(start, end));
+        assertEquals(-1, index.length(start, end));
+        assertEquals(-1, index.cost(start, end));
+        assertTrue(new TreeIndexSolverImpl().solve(maze, start, end).isEmpty(), "Путь через стену не существует.");
+        assertTrue(index.path(start, new Coordinate(0, 1)).isEmpty(), "Стена не принадлежит дереву.");
+    }
+
+    @Test
+    public void testMazeWithLoopsFallsBackToDial() {
+        Maze maze = new KruskalMazeGenerator().generate(41, 61, 11L);
+        Random random = new Random(11);
+        TestMazes.withLoops(maze, random, 300);
+
+        assertFalse(TreeIndex.build(maze).tree(), "Добавленные проходы образуют циклы.");
+
+        List<Coordinate> passages = TestMazes.passages(maze);
+        TreeIndexSolverImpl solver = new TreeIndexSolverImpl();
+        for (int i = 0; i < 50; i++) {
+            Coordinate start = passages.get(random.nextInt(passages.size()));
+            Coordinate end = passages.get(random.nextInt(passages.size()));
+
+            assertEquals(new DialSolverImpl().solve(maze, start, end), solver.solve(maze, start, end),
+                "Лабиринт с циклами решается запасным алгоритмом Дайала.");
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -56,4 +57,32 @@ public class UserControllerImplTest {
         assertFalse(controller.isValidListSize(0, 5));
         assertFalse(controller.isValidListSize(6, 5));
     }
+
+    @Test
+    public void testPipedInputIsNotLostBetweenReads() {
+        ByteArrayInputStream in = new ByteArrayInputStream("5\n 7 \n9".getBytes());
+        UserController controller = new UserControllerImpl(in, new PrintStream(new ByteArrayOutputStream()));
+
+        assertEquals("5", controller.read("Первое: "));
+        assertEquals("7", controller.read("Второе: "));
+        assertEquals("9", controller.read("Третье: "));
+        assertFalse(controller.hasMoreInput(), "В интерактивном режиме один запрос за запуск.");
+    }
+
+    @Test
+    public void testReplaySplitsAnswersAndSkipsComments() {
+        String script = "# размер\n21 31\n\n2 1   # Краскал, BFS\n1 1\t19 29\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        UserController controller = new UserControllerImpl(new ByteArrayInputStream(script.getBytes()),
+            new PrintStream(out), true);
+
+        List<String> answers = new ArrayList<>();
+        while (controller.hasMoreInput()) {
+            answers.add(controller.read("Вопрос: "));
+        }
+
+        assertEquals(List.of("21", "31", "2", "1", "1", "1", "19", "29"), answers);
+        assertEquals("", out.toString(), "Вопросы при проигрывании не выводятся.");
+        assertThrows(NoSuchElementException.class, () -> controller.read("Вопрос: "));
+    }
 }